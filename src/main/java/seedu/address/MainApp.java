@@ -1,6 +1,7 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -22,9 +23,14 @@ import seedu.address.model.ReadOnlyKlinix;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.BinaryKlinixStorage;
+import seedu.address.storage.ImportableKlinixStorage;
+import seedu.address.storage.JournaledKlinixStorage;
 import seedu.address.storage.JsonKlinixStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.KlinixStorage;
+import seedu.address.storage.ShardedKlinixStorage;
+import seedu.address.storage.SqlKlinixStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -57,7 +63,7 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        KlinixStorage klinixStorage = new JsonKlinixStorage(userPrefs.getKlinixFilePath());
+        KlinixStorage klinixStorage = initKlinixStorage(userPrefs);
         storage = new StorageManager(klinixStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
@@ -67,10 +73,62 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns a {@code KlinixStorage} for the data file in the format chosen in {@code userPrefs}. <br>
+     * When the binary, sharded or SQL format is chosen, its data is kept next to the JSON data file, and is first
+     * created by importing the JSON data file. The JSON data file is used instead if that import fails.
+     */
+    private KlinixStorage initKlinixStorage(ReadOnlyUserPrefs userPrefs) {
+        Path jsonFilePath = userPrefs.getKlinixFilePath();
+        KlinixStorage jsonKlinixStorage = new JournaledKlinixStorage(new JsonKlinixStorage(jsonFilePath));
+        switch (userPrefs.getKlinixFileFormat()) {
+        case BINARY:
+            BinaryKlinixStorage binaryKlinixStorage =
+                    new BinaryKlinixStorage(BinaryKlinixStorage.toBinaryFilePath(jsonFilePath), true);
+            return importIfAbsent(binaryKlinixStorage, jsonKlinixStorage)
+                    ? new JournaledKlinixStorage(binaryKlinixStorage)
+                    : jsonKlinixStorage;
+        case SHARDED:
+            // only the files of changed persons are written, so a journal is not needed
+            ShardedKlinixStorage shardedKlinixStorage =
+                    new ShardedKlinixStorage(ShardedKlinixStorage.toShardDirectoryPath(jsonFilePath));
+            return importIfAbsent(shardedKlinixStorage, jsonKlinixStorage) ? shardedKlinixStorage : jsonKlinixStorage;
+        case SQL:
+            // only the rows of changed persons are written, so a journal is not needed
+            SqlKlinixStorage sqlKlinixStorage = new SqlKlinixStorage(SqlKlinixStorage.toDatabaseFilePath(jsonFilePath));
+            return importIfAbsent(sqlKlinixStorage, jsonKlinixStorage) ? sqlKlinixStorage : jsonKlinixStorage;
+        default:
+            return jsonKlinixStorage;
+        }
+    }
+
+    /**
+     * Creates the data of {@code target} by importing the data of {@code source}, unless {@code target} already has
+     * a data file. A failed import leaves {@code target} without a data file, so it is tried again on the next start.
+     *
+     * @return false if the import failed, in which case the data is only in {@code source}.
+     */
+    private boolean importIfAbsent(ImportableKlinixStorage target, KlinixStorage source) {
+        if (Files.exists(target.getKlinixFilePath())) {
+            return true;
+        }
+        try {
+            if (target.importFrom(source)) {
+                logger.info("Imported " + source.getKlinixFilePath() + " into " + target.getKlinixFilePath());
+            }
+            return true;
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Failed to import " + source.getKlinixFilePath() + ", using it instead of "
+                    + target.getKlinixFilePath() + " : " + StringUtil.getDetails(e));
+            return false;
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s klinix and {@code userPrefs}. <br>
      * The data from the sample klinix will be used instead if {@code storage}'s klinix is not found,
-     * or an empty klinix will be used instead if errors occur when reading {@code storage}'s klinix.
+     * or an empty klinix will be used instead if errors occur when reading {@code storage}'s klinix. <br>
+     * Reading {@code storage}'s klinix replays its journal, which is then compacted by saving the model's klinix.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getKlinixFilePath());
@@ -84,18 +142,19 @@ public class MainApp extends Application {
                         + " populated with a sample Klinix.");
             }
             initialData = klinixOptional.orElseGet(SampleDataUtil::getSampleKlinix);
-            try {
-                storage.saveKlinix(initialData);
-            } catch (IOException e) {
-                logger.warning("Failed to save sample Klinix data file : " + StringUtil.getDetails(e));
-            }
         } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getKlinixFilePath() + " could not be loaded."
+            logger.warning("Data file at " + storage.getKlinixFilePath() + " and its backups could not be loaded."
                     + " Will be starting with an empty Klinix.");
-            initialData = new Klinix();
+            return new ModelManager(new Klinix(), userPrefs);
         }
 
-        return new ModelManager(initialData, userPrefs);
+        Model modelManager = new ModelManager(initialData, userPrefs);
+        try {
+            storage.saveKlinix(modelManager.getKlinix());
+        } catch (IOException e) {
+            logger.warning("Failed to save Klinix data file : " + StringUtil.getDetails(e));
+        }
+        return modelManager;
     }
 
     private void initLogging(Config config) {
@@ -182,10 +241,16 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Klinix ] =================================");
+        logic.shutdown();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save Klinix data " + StringUtil.getDetails(e));
+        }
     }
 }
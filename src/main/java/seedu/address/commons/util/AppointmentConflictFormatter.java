@@ -6,8 +6,6 @@ import java.util.List;
 
 import seedu.address.model.Model;
 import seedu.address.model.appointment.Appointment;
-import seedu.address.model.person.Nric;
-import seedu.address.model.person.Person;
 
 /**
  * Utility class for formatting appointment conflict messages.
@@ -27,10 +25,10 @@ public class AppointmentConflictFormatter {
                 role + " has overlapping appointments with the following patients:\n");
 
         for (Appointment overlappingAppointment : conflicts) {
-            Person overlappedPerson = model.findPersonByNric(new Nric(overlappingAppointment.getPatientNric()));
+            String overlappedPersonName = model.findPersonNameByNric(overlappingAppointment.getPatientNric());
 
             String formattedTime = String.format("%s FROM %s TO %s",
-                    overlappedPerson.getName().toString(),
+                    overlappedPersonName,
                     overlappingAppointment.getStartDateTime().format(DATE_TIME_FORMATTER),
                     overlappingAppointment.getEndDateTime().format(DATE_TIME_FORMATTER)
             );
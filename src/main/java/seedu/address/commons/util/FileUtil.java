@@ -1,10 +1,24 @@
 package seedu.address.commons.util;
 
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Writes and reads files
@@ -12,6 +26,8 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String TEMP_PATH_PREFIX = "tmp.";
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -75,9 +91,168 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * @see #writeAtomically(Path, ContentWriter)
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeAtomically(file, out -> out.write(content.getBytes(CHARSET)));
+    }
+
+    /**
+     * Writes the content written by {@code contentWriter} to a file, creating the file and its missing parent
+     * directories if they do not exist yet.
+     * The content is first written to a temporary file next to {@code file} and forced to the disk, and then renamed
+     * over {@code file}, so that {@code file} always has either its old or its new content, even if the application
+     * or the system stops during the write.
+     */
+    public static void writeAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        writeAtomically(file, contentWriter, null);
+    }
+
+    /**
+     * Similar to {@link #writeAtomically(Path, ContentWriter)}, but if {@code file} exists, it is kept as
+     * {@code backupFile} before it is replaced.
+     * The backup shares the data of the old file on the disk where possible, so it is not copied.
+     *
+     * @param backupFile the file to keep the old content in, or null if it should not be kept.
+     */
+    public static void writeAtomically(Path file, ContentWriter contentWriter, Path backupFile)
+            throws IOException {
+        requireNonNull(file);
+        requireNonNull(contentWriter);
+
+        createParentDirsOfFile(file);
+        Path directory = file.toAbsolutePath().getParent();
+        Path tempFile = Files.createTempFile(directory, file.getFileName() + ".", TEMP_FILE_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                OutputStream out = new BufferedOutputStream(new UnclosableOutputStream(
+                        Channels.newOutputStream(channel)));
+                contentWriter.write(out);
+                out.flush();
+                channel.force(true);
+            }
+            if (backupFile != null && Files.exists(file)) {
+                keepBackup(file, backupFile);
+            }
+            moveReplacingAtomically(tempFile, file);
+            forceDirectory(directory);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Creates {@code path}, a file or a directory, with the content written to the path given to {@code pathWriter}.
+     * The content is written to a temporary path next to {@code path}, which is renamed to {@code path} only once all
+     * of it is written, and is deleted otherwise. So {@code path} is not created at all if the write fails, or if the
+     * application or the system stops during the write.
+     * {@code path} must not exist yet if it is a directory.
+     */
+    public static void createAtomically(Path path, PathWriter pathWriter) throws IOException {
+        requireNonNull(path);
+        requireNonNull(pathWriter);
+
+        createParentDirsOfFile(path);
+        Path tempPath = path.resolveSibling(TEMP_PATH_PREFIX + path.getFileName());
+        // left behind if the application stopped during an earlier write
+        deleteRecursively(tempPath);
+        try {
+            pathWriter.write(tempPath);
+            moveReplacingAtomically(tempPath, path);
+            forceDirectory(path.toAbsolutePath().getParent());
+        } finally {
+            deleteRecursively(tempPath);
+        }
+    }
+
+    /**
+     * Deletes {@code path}, along with its content if it is a directory. Does nothing if {@code path} does not exist.
+     */
+    private static void deleteRecursively(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        List<Path> paths;
+        try (Stream<Path> walkedPaths = Files.walk(path)) {
+            paths = walkedPaths.sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+        }
+        for (Path toDelete : paths) {
+            Files.delete(toDelete);
+        }
+    }
+
+    /**
+     * Keeps the current content of {@code file} as {@code backupFile}, as a hard link where the file system allows it.
+     */
+    private static void keepBackup(Path file, Path backupFile) throws IOException {
+        try {
+            Files.createLink(backupFile, file);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(file, backupFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Renames {@code source} to {@code target}, replacing {@code target} in one step where the file system allows it.
+     */
+    private static void moveReplacingAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the renames in {@code directory} to the disk, where the platform allows directories to be opened.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Not supported on every platform. The rename is atomic regardless, and is persisted by the system later.
+        }
+    }
+
+    /**
+     * Writes the content of a file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content to {@code out}. Closing {@code out} is allowed, but does not close the file.
+         */
+        void write(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Writes the content of a file or a directory at a given path.
+     */
+    @FunctionalInterface
+    public interface PathWriter {
+        /**
+         * Writes the content to {@code path}, which does not exist yet.
+         */
+        void write(Path path) throws IOException;
+    }
+
+    /**
+     * An output stream that is flushed, but not closed, when it is closed.
+     */
+    private static class UnclosableOutputStream extends FilterOutputStream {
+        UnclosableOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
     }
 
 }
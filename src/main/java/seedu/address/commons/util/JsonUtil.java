@@ -2,7 +2,10 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +14,9 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -91,6 +97,33 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Returns a parser that reads the JSON file at {@code filePath} one token at a time through a buffered channel,
+     * and that can read the value at its current token into an instance of a class.
+     * Closing the parser closes the file.
+     * @param filePath cannot be null
+     * @throws IOException if there was an error opening the file
+     */
+    public static JsonParser createJsonFileParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        return objectMapper.getFactory().createParser(new BufferedInputStream(Files.newInputStream(filePath)));
+    }
+
+    /**
+     * Returns a generator that writes pretty-printed JSON to {@code out} through a buffer as it is generated, and that
+     * can write instances of classes.
+     * Closing the generator closes {@code out}.
+     * @param out cannot be null
+     * @throws IOException if there was an error creating the generator
+     */
+    public static JsonGenerator createJsonGenerator(OutputStream out) throws IOException {
+        requireNonNull(out);
+
+        return objectMapper.getFactory()
+                .createGenerator(new BufferedOutputStream(out), JsonEncoding.UTF8)
+                .useDefaultPrettyPrinter();
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -111,6 +144,16 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string without line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
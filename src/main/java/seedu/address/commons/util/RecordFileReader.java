@@ -0,0 +1,250 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Reads records of named fields from a CSV or NDJSON file one record at a time, without loading the whole file.
+ * <p>
+ * A CSV file starts with a header row naming its columns, and may quote fields containing commas, quotes or line
+ * breaks. An NDJSON file has one JSON object per line. Field names are read in lower case, and list values in NDJSON
+ * are joined with {@link #LIST_SEPARATOR}, as they would be written in a CSV field. Blank lines are skipped.
+ */
+public class RecordFileReader implements Closeable {
+
+    /**
+     * The formats of record files, picked by file extension.
+     */
+    public enum Format {
+        CSV(".csv"),
+        NDJSON(".ndjson");
+
+        private final String fileExtension;
+
+        Format(String fileExtension) {
+            this.fileExtension = fileExtension;
+        }
+
+        public String getFileExtension() {
+            return fileExtension;
+        }
+
+        /**
+         * Returns the format of the file at {@code filePath}, or an empty {@code Optional} if its extension is not
+         * that of any format.
+         */
+        public static Optional<Format> of(Path filePath) {
+            requireNonNull(filePath);
+            String fileName = filePath.getFileName() == null ? "" : filePath.getFileName().toString();
+            return Arrays.stream(values())
+                    .filter(format -> fileName.toLowerCase(Locale.ROOT).endsWith(format.fileExtension))
+                    .findFirst();
+        }
+    }
+
+    /**
+     * A record read from a file, with the line it starts on.
+     */
+    public static class Record {
+        private final int lineNumber;
+        private final Map<String, String> fields;
+
+        Record(int lineNumber, Map<String, String> fields) {
+            this.lineNumber = lineNumber;
+            this.fields = Collections.unmodifiableMap(fields);
+        }
+
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        public Map<String, String> getFields() {
+            return fields;
+        }
+    }
+
+    public static final String LIST_SEPARATOR = ";";
+
+    static final String MESSAGE_WRONG_FIELD_COUNT = "Row has %1$d fields but the header has %2$d";
+    static final String MESSAGE_UNCLOSED_QUOTE = "Quoted field is not closed";
+    static final String MESSAGE_NOT_JSON_OBJECT = "Line is not a JSON object";
+
+    private static final char QUOTE = '"';
+    private static final char DELIMITER = ',';
+
+    private final Format format;
+    private final BufferedReader reader;
+    private final List<String> columnNames;
+    private int lineNumber;
+    private int recordLineNumber;
+
+    /**
+     * Opens the file at {@code filePath} to read records in {@code format}, reading the header row of a CSV file.
+     *
+     * @throws IOException if the file cannot be opened, or the header row of a CSV file cannot be read.
+     */
+    public RecordFileReader(Path filePath, Format format) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(format);
+        this.format = format;
+        this.reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8);
+        try {
+            this.columnNames = format == Format.CSV ? readHeader() : List.of();
+        } catch (IOException | RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the names of the columns of a CSV file, in lower case, or an empty {@code Optional} for an NDJSON file,
+     * where each record names its own fields.
+     */
+    public Optional<List<String>> getColumnNames() {
+        return format == Format.CSV ? Optional.of(columnNames) : Optional.empty();
+    }
+
+    /**
+     * Returns the line the record last read, or last found malformed, starts on.
+     */
+    public int getRecordLineNumber() {
+        return recordLineNumber;
+    }
+
+    /**
+     * Reads the next record, or returns an empty {@code Optional} at the end of the file.
+     *
+     * @throws IllegalValueException if the next record is malformed. The record is skipped, so reading can go on.
+     * @throws IOException if the file cannot be read.
+     */
+    public Optional<Record> readRecord() throws IOException, IllegalValueException {
+        String line = readNonBlankLine();
+        if (line == null) {
+            return Optional.empty();
+        }
+        recordLineNumber = lineNumber;
+
+        Map<String, String> fields = format == Format.CSV ? toCsvFields(readCsvRow(line)) : parseJsonObject(line);
+        return Optional.of(new Record(recordLineNumber, fields));
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private List<String> readHeader() throws IOException {
+        String line = readNonBlankLine();
+        if (line == null) {
+            return List.of();
+        }
+        try {
+            return readCsvRow(line).stream()
+                    .map(name -> name.trim().toLowerCase(Locale.ROOT))
+                    .collect(Collectors.toList());
+        } catch (IllegalValueException ive) {
+            throw new IOException(ive.getMessage(), ive);
+        }
+    }
+
+    private String readNonBlankLine() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            lineNumber++;
+        } while (line != null && line.isBlank());
+        return line;
+    }
+
+    private Map<String, String> toCsvFields(List<String> row) throws IllegalValueException {
+        if (row.size() != columnNames.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_WRONG_FIELD_COUNT, row.size(), columnNames.size()));
+        }
+        Map<String, String> fields = new LinkedHashMap<>();
+        for (int i = 0; i < row.size(); i++) {
+            fields.put(columnNames.get(i), row.get(i));
+        }
+        return fields;
+    }
+
+    /**
+     * Splits the CSV row starting with {@code line} into its fields, reading more lines while a quoted field goes on.
+     */
+    private List<String> readCsvRow(String line) throws IOException, IllegalValueException {
+        List<String> row = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        String remaining = line;
+        while (true) {
+            for (int i = 0; i < remaining.length(); i++) {
+                char c = remaining.charAt(i);
+                if (isQuoted && c == QUOTE && i + 1 < remaining.length() && remaining.charAt(i + 1) == QUOTE) {
+                    field.append(QUOTE);
+                    i++;
+                } else if (c == QUOTE) {
+                    isQuoted = !isQuoted;
+                } else if (c == DELIMITER && !isQuoted) {
+                    row.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            if (!isQuoted) {
+                row.add(field.toString());
+                return row;
+            }
+
+            remaining = reader.readLine();
+            if (remaining == null) {
+                throw new IllegalValueException(MESSAGE_UNCLOSED_QUOTE);
+            }
+            lineNumber++;
+            field.append('\n');
+        }
+    }
+
+    private static Map<String, String> parseJsonObject(String line) throws IOException, IllegalValueException {
+        Map<?, ?> jsonObject;
+        try {
+            jsonObject = JsonUtil.fromJsonString(line, Map.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalValueException(MESSAGE_NOT_JSON_OBJECT, e);
+        }
+        if (jsonObject == null) {
+            throw new IllegalValueException(MESSAGE_NOT_JSON_OBJECT);
+        }
+
+        Map<String, String> fields = new LinkedHashMap<>();
+        for (Map.Entry<?, ?> entry : jsonObject.entrySet()) {
+            Object value = entry.getValue();
+            if (value == null) {
+                continue;
+            }
+            String fieldValue = value instanceof List
+                    ? ((List<?>) value).stream().map(String::valueOf).collect(Collectors.joining(LIST_SEPARATOR))
+                    : String.valueOf(value);
+            fields.put(String.valueOf(entry.getKey()).toLowerCase(Locale.ROOT), fieldValue);
+        }
+        return fields;
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+import seedu.address.commons.util.RecordFileReader.Format;
+
+/**
+ * Writes records of named fields to a CSV or NDJSON stream one record at a time, as read by {@link RecordFileReader}.
+ * <p>
+ * A CSV stream starts with a header row naming the columns, and fields containing commas, quotes or line breaks are
+ * quoted. An NDJSON stream has one JSON object per line, with every value written as a string.
+ */
+public class RecordFileWriter implements Closeable, Flushable {
+
+    static final String MESSAGE_WRONG_FIELD_COUNT = "Record has %1$d fields but there are %2$d columns";
+
+    private static final String LINE_SEPARATOR = "\n";
+
+    private final Writer out;
+    private final Format format;
+    private final List<String> columnNames;
+
+    /**
+     * Creates a writer of records with fields named {@code columnNames} to {@code out} in {@code format}, and writes
+     * the header row of a CSV stream.
+     * {@code out} should be buffered, and is closed when this writer is closed.
+     *
+     * @throws IOException if the header row cannot be written.
+     */
+    public RecordFileWriter(Writer out, Format format, List<String> columnNames) throws IOException {
+        requireNonNull(out);
+        requireNonNull(format);
+        requireNonNull(columnNames);
+        this.out = out;
+        this.format = format;
+        this.columnNames = List.copyOf(columnNames);
+        if (format == Format.CSV) {
+            writeCsvRow(this.columnNames);
+        }
+    }
+
+    /**
+     * Writes a record with {@code values}, one for each column in order.
+     *
+     * @throws IOException if the record cannot be written.
+     */
+    public void writeRecord(List<String> values) throws IOException {
+        requireNonNull(values);
+        if (values.size() != columnNames.size()) {
+            throw new IllegalArgumentException(
+                    String.format(MESSAGE_WRONG_FIELD_COUNT, values.size(), columnNames.size()));
+        }
+
+        if (format == Format.CSV) {
+            writeCsvRow(values);
+        } else {
+            writeJsonObject(values);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private void writeCsvRow(List<String> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            String value = values.get(i);
+            if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+                out.write('"');
+                out.write(value.replace("\"", "\"\""));
+                out.write('"');
+            } else {
+                out.write(value);
+            }
+        }
+        out.write(LINE_SEPARATOR);
+    }
+
+    private void writeJsonObject(List<String> values) throws IOException {
+        JsonStringEncoder encoder = JsonStringEncoder.getInstance();
+        out.write('{');
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.write('"');
+            out.write(encoder.quoteAsString(columnNames.get(i)));
+            out.write("\":\"");
+            out.write(encoder.quoteAsString(values.get(i)));
+            out.write('"');
+        }
+        out.write('}');
+        out.write(LINE_SEPARATOR);
+    }
+}
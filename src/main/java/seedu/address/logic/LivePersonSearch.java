@@ -0,0 +1,170 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.Model;
+import seedu.address.model.person.PatientContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Filters the person list of a {@code Model} by a search that is typed one keystroke at a time.
+ * <p>
+ * A search only starts once no newer search has been asked for within the debounce delay. The persons are then
+ * matched on a background thread against a snapshot of the person list, and a search made stale by a newer search
+ * or a command is cancelled. Only the result of the latest search is applied to the filtered person list, through
+ * the result executor, which must run it on the thread that owns the model. Results are discarded until a result
+ * executor is set, so that the model is never changed on the search thread.
+ * <p>
+ * The result is applied as a lookup of the match computed for each person, so the filtered list does not test the
+ * search keywords against every person again. Persons added or edited after the snapshot are tested as usual.
+ */
+class LivePersonSearch {
+
+    static final long DEBOUNCE_DELAY_MILLIS = 150;
+
+    private static final int CANCELLATION_CHECK_INTERVAL = 1024;
+    private static final Executor DISCARD_RESULTS = result -> { };
+
+    private final Logger logger = LogsCenter.getLogger(LivePersonSearch.class);
+
+    private final Model model;
+    private final long debounceDelayMillis;
+    private final ScheduledExecutorService searcher;
+    private final AtomicLong latestSearchId = new AtomicLong();
+    private volatile Executor resultExecutor;
+    private Future<?> pendingSearch;
+    private List<Person> personsSnapshot = List.of();
+    private long snapshotVersion = -1;
+
+    /**
+     * Creates a {@code LivePersonSearch} of the persons in {@code model} that waits {@code debounceDelayMillis}
+     * before starting a search, and discards its results until a result executor is set.
+     */
+    LivePersonSearch(Model model, long debounceDelayMillis) {
+        this(model, debounceDelayMillis, DISCARD_RESULTS);
+    }
+
+    /**
+     * Creates a {@code LivePersonSearch} of the persons in {@code model} that waits {@code debounceDelayMillis}
+     * before starting a search, and applies its results through {@code resultExecutor}.
+     */
+    LivePersonSearch(Model model, long debounceDelayMillis, Executor resultExecutor) {
+        requireNonNull(model);
+        requireNonNull(resultExecutor);
+        this.model = model;
+        this.debounceDelayMillis = debounceDelayMillis;
+        this.resultExecutor = resultExecutor;
+        searcher = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "klinix-live-search");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the executor that applies the results of searches to the model.
+     */
+    void setResultExecutor(Executor resultExecutor) {
+        requireNonNull(resultExecutor);
+        this.resultExecutor = resultExecutor;
+    }
+
+    /**
+     * Searches for the persons containing all of {@code keywords} in place of any search not yet applied.
+     * All persons are shown if {@code keywords} is empty.
+     * Must be called on the thread that owns the model.
+     *
+     * @return the search, which completes once it is finished or cancelled, before its result is applied.
+     */
+    Future<?> search(List<String> keywords) {
+        requireNonNull(keywords);
+        cancel();
+        long searchId = latestSearchId.get();
+        List<Person> persons = getPersonsSnapshot();
+        Predicate<Person> predicate = keywords.isEmpty()
+                ? PREDICATE_SHOW_ALL_PERSONS
+                : new PatientContainsKeywordsPredicate(keywords);
+        pendingSearch = searcher.schedule(() -> match(searchId, persons, predicate), debounceDelayMillis,
+                TimeUnit.MILLISECONDS);
+        return pendingSearch;
+    }
+
+    /**
+     * Cancels the search not yet applied, if any, so that it does not replace a filter set after it.
+     * Must be called on the thread that owns the model.
+     */
+    void cancel() {
+        latestSearchId.incrementAndGet();
+        if (pendingSearch != null) {
+            pendingSearch.cancel(true);
+            pendingSearch = null;
+        }
+    }
+
+    /**
+     * Cancels the search not yet applied, if any, and stops the search thread.
+     * No searches can be made after this.
+     */
+    void shutdown() {
+        cancel();
+        searcher.shutdownNow();
+    }
+
+    /**
+     * Returns a copy of the person list of the model, which is only copied again after the klinix is modified.
+     */
+    private List<Person> getPersonsSnapshot() {
+        long version = model.getKlinix().getModificationVersion();
+        if (version != snapshotVersion) {
+            personsSnapshot = List.copyOf(model.getKlinix().getPersonList());
+            snapshotVersion = version;
+        }
+        return personsSnapshot;
+    }
+
+    /**
+     * Tests each of {@code persons} against {@code predicate}, and applies the result if search {@code searchId} is
+     * still the latest search by then.
+     */
+    private void match(long searchId, List<Person> persons, Predicate<Person> predicate) {
+        long startTime = System.nanoTime();
+        Map<Person, Boolean> matches = new IdentityHashMap<>(persons.size());
+        for (int i = 0; i < persons.size(); i++) {
+            if (i % CANCELLATION_CHECK_INTERVAL == 0 && isStale(searchId)) {
+                return;
+            }
+            Person person = persons.get(i);
+            matches.put(person, predicate.test(person));
+        }
+        logger.fine(String.format("Live search matched %d persons in %d ms", persons.size(),
+                (System.nanoTime() - startTime) / 1_000_000));
+
+        resultExecutor.execute(() -> {
+            if (searchId != latestSearchId.get()) {
+                return;
+            }
+            model.updateFilteredPersonList(person -> {
+                Boolean isMatch = matches.get(person);
+                return isMatch == null ? predicate.test(person) : isMatch;
+            });
+        });
+    }
+
+    private boolean isStale(long searchId) {
+        return Thread.currentThread().isInterrupted() || searchId != latestSearchId.get();
+    }
+}
@@ -1,10 +1,13 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ConfirmationPolicy;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyKlinix;
@@ -18,6 +21,8 @@ import seedu.address.model.util.ObservableLocalDateTime;
 public interface Logic {
     /**
      * Executes the command and returns the result.
+     * A command that needs confirmation is only executed if the confirmation policy confirms it.
+     * The data is saved only if the command modified it.
      * @param commandText The command as entered by the user.
      * @return the result of the command execution.
      * @throws CommandException If an error occurs during command execution.
@@ -25,8 +30,41 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Similar to {@link #execute(String)}, but executes commands that need confirmation without asking for it.
+     */
     CommandResult executeWithoutConfirmation(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the policy that decides whether commands that need confirmation are executed.
+     */
+    void setConfirmationPolicy(ConfirmationPolicy confirmationPolicy);
+
+    /**
+     * Sets the handler that is given the error message when data saved after a command fails to be written.
+     * As data is written in the background, the handler may be called on a thread other than the caller's.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
+    /**
+     * Filters the person list to the persons whose name, NRIC or tags contain all of the whitespace-separated
+     * {@code keywords}, or shows all persons if there are none, once no other search is asked for within a short delay.
+     * The persons are matched on a background thread, and a search is cancelled by a newer search or any command.
+     * The result is applied through the search result executor.
+     */
+    void searchPersons(String keywords);
+
+    /**
+     * Sets the executor that applies the results of {@link #searchPersons(String)} to the person list, which must run
+     * them on the thread that owns the model. Results are discarded until it is set.
+     */
+    void setSearchResultExecutor(Executor searchResultExecutor);
+
+    /**
+     * Stops the background threads of the logic. {@link #searchPersons(String)} must not be called after this.
+     */
+    void shutdown();
+
     /**
      * Returns the Klinix.
      *
@@ -1,8 +1,14 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -10,6 +16,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ConfirmationPolicy;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.KlinixParser;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -34,52 +41,113 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final KlinixParser klinixParser;
+    private final LivePersonSearch livePersonSearch;
+    private ConfirmationPolicy confirmationPolicy;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which confirms every
+     * command until another confirmation policy is set, so that it can run without a user.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, ConfirmationPolicy.AUTO_CONFIRM);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which asks
+     * {@code confirmationPolicy} before executing commands that need confirmation.
+     */
+    public LogicManager(Model model, Storage storage, ConfirmationPolicy confirmationPolicy) {
+        requireNonNull(confirmationPolicy);
         this.model = model;
         this.storage = storage;
+        this.confirmationPolicy = confirmationPolicy;
         klinixParser = new KlinixParser();
+        livePersonSearch = new LivePersonSearch(model, LivePersonSearch.DEBOUNCE_DELAY_MILLIS);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
+        return execute(commandText, confirmationPolicy);
+    }
+
+    @Override
+    public CommandResult executeWithoutConfirmation(String commandText) throws CommandException, ParseException {
+        return execute(commandText, ConfirmationPolicy.AUTO_CONFIRM);
+    }
+
+    private CommandResult execute(String commandText, ConfirmationPolicy confirmationPolicy)
+            throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
+        livePersonSearch.cancel();
 
         CommandResult commandResult;
         Command command = klinixParser.parseCommand(commandText);
-        commandResult = command.executeCommand(model);
+        long modificationVersion = model.getKlinix().getModificationVersion();
+        commandResult = command.executeCommand(model, confirmationPolicy);
+
+        return saveIfModifiedSince(modificationVersion, commandResult);
+    }
+
+    @Override
+    public void setConfirmationPolicy(ConfirmationPolicy confirmationPolicy) {
+        requireNonNull(confirmationPolicy);
+        this.confirmationPolicy = confirmationPolicy;
+    }
+
+    /**
+     * Saves the klinix if it was modified after {@code modificationVersion}, so that commands which only read the
+     * data do not write it again.
+     *
+     * @return {@code commandResult}, reporting whether the klinix was modified.
+     * @throws CommandException if the klinix could not be saved.
+     */
+    private CommandResult saveIfModifiedSince(long modificationVersion, CommandResult commandResult)
+            throws CommandException {
+        if (model.getKlinix().getModificationVersion() == modificationVersion) {
+            return commandResult;
+        }
 
         try {
             storage.saveKlinix(model.getKlinix());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveFailureMessage(ioe), ioe);
         }
 
-        return commandResult;
+        return commandResult.withStateChanged(true);
     }
 
     @Override
-    public CommandResult executeWithoutConfirmation(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+    public void searchPersons(String keywords) {
+        requireNonNull(keywords);
+        String trimmedKeywords = keywords.trim();
+        livePersonSearch.search(trimmedKeywords.isEmpty()
+                ? List.of()
+                : Arrays.asList(trimmedKeywords.split("\\s+")));
+    }
 
-        CommandResult commandResult;
-        Command command = klinixParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+    @Override
+    public void setSearchResultExecutor(Executor searchResultExecutor) {
+        livePersonSearch.setResultExecutor(searchResultExecutor);
+    }
 
-        try {
-            storage.saveKlinix(model.getKlinix());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
-        }
+    @Override
+    public void shutdown() {
+        livePersonSearch.shutdown();
+    }
 
-        return commandResult;
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        storage.setSaveFailureHandler(ioe -> saveFailureHandler.accept(getSaveFailureMessage(ioe)));
+    }
+
+    /**
+     * Returns the message shown to the user when saving the data failed with {@code ioe}.
+     */
+    private static String getSaveFailureMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
     }
 
     @Override
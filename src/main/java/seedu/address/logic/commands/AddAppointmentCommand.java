@@ -60,8 +60,6 @@ public class AddAppointmentCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException, OverlappingAppointmentException {
         requireNonNull(model);
-        List<Person> allPersons = model.getFilteredPersonList();
-
         Person person = model.findPersonByNric(nric);
         if (person == null) {
             throw new CommandException(String.format(MESSAGE_PERSON_NOT_FOUND, nric));
@@ -71,7 +69,7 @@ public class AddAppointmentCommand extends Command {
             throw new CommandException(String.format(MESSAGE_APPOINTMENT_BEFORE_BIRTHDAY));
         }
 
-        List<Appointment> overlappingAppointments = model.getOverlappingAppointments(appointment, allPersons);
+        List<Appointment> overlappingAppointments = model.getOverlappingAppointments(appointment);
 
         if (!overlappingAppointments.isEmpty()) {
             throw new OverlappingAppointmentException(
@@ -1,15 +1,17 @@
 package seedu.address.logic.commands;
 
+import static java.util.Objects.requireNonNull;
+
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.ui.ConfirmWindow;
 
 /**
  * Represents a command with hidden internal logic and the ability to be executed.
  */
 public abstract class Command {
+    public static final String MESSAGE_CANCELLED = "Operation cancelled";
+
     protected boolean showConfirmation = false;
-    private ConfirmWindow confirmWindow;
 
     /**
      * Executes the command and returns the result message.
@@ -22,22 +24,16 @@ public abstract class Command {
 
     /**
      * Executes the command and returns the result message.
-     * This method is used to show a confirmation dialog before executing the command.
-     * If the user confirms the operation, the command will be executed.
+     * If the command asks for confirmation, it is only executed if {@code confirmationPolicy} confirms it.
      * @return CommandResult of the operation
-     * @throws CommandException
+     * @throws CommandException If an error occurs during command execution.
      */
-    public CommandResult executeCommand(Model model) throws CommandException {
-        this.confirmWindow = new ConfirmWindow();
-        if (showConfirmation) {
-            if (confirmWindow.showAndWait()) {
-                return execute(model);
-            } else {
-                return new CommandResult("Operation cancelled");
-            }
-        } else {
-            return execute(model);
+    public CommandResult executeCommand(Model model, ConfirmationPolicy confirmationPolicy) throws CommandException {
+        requireNonNull(confirmationPolicy);
+        if (showConfirmation && !confirmationPolicy.confirm(this)) {
+            return new CommandResult(MESSAGE_CANCELLED);
         }
+        return execute(model);
     }
 
     public void setShowConfirmation(boolean showConfirmation) {
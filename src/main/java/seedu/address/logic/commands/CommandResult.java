@@ -19,13 +19,24 @@ public class CommandResult {
     /** The application should exit. */
     private final boolean exit;
 
+    /** The command modified the klinix data. */
+    private final boolean stateChanged;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
-    public CommandResult(String feedbackToUser, boolean showHelp, boolean exit) {
+    public CommandResult(String feedbackToUser, boolean showHelp, boolean exit, boolean stateChanged) {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.exit = exit;
+        this.stateChanged = stateChanged;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified fields, which did not modify the klinix data.
+     */
+    public CommandResult(String feedbackToUser, boolean showHelp, boolean exit) {
+        this(feedbackToUser, showHelp, exit, false);
     }
 
     /**
@@ -48,6 +59,17 @@ public class CommandResult {
         return exit;
     }
 
+    public boolean isStateChanged() {
+        return stateChanged;
+    }
+
+    /**
+     * Returns a copy of this {@code CommandResult} with {@code stateChanged} as whether the klinix data was modified.
+     */
+    public CommandResult withStateChanged(boolean stateChanged) {
+        return new CommandResult(feedbackToUser, showHelp, exit, stateChanged);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -62,12 +84,13 @@ public class CommandResult {
         CommandResult otherCommandResult = (CommandResult) other;
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                 && showHelp == otherCommandResult.showHelp
-                && exit == otherCommandResult.exit;
+                && exit == otherCommandResult.exit
+                && stateChanged == otherCommandResult.stateChanged;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit);
+        return Objects.hash(feedbackToUser, showHelp, exit, stateChanged);
     }
 
     @Override
@@ -76,6 +99,7 @@ public class CommandResult {
                 .add("feedbackToUser", feedbackToUser)
                 .add("showHelp", showHelp)
                 .add("exit", exit)
+                .add("stateChanged", stateChanged)
                 .toString();
     }
 }
@@ -0,0 +1,20 @@
+package seedu.address.logic.commands;
+
+/**
+ * Decides whether a command that asks for confirmation before it is executed may go ahead.
+ * The UI asks the user, while scripts and tests can run without a user by confirming or denying every command.
+ */
+@FunctionalInterface
+public interface ConfirmationPolicy {
+
+    /** Confirms every command, so that commands can be run without a user. */
+    ConfirmationPolicy AUTO_CONFIRM = command -> true;
+
+    /** Denies every command that asks for confirmation. */
+    ConfirmationPolicy DENY = command -> false;
+
+    /**
+     * Returns true if {@code command} may be executed.
+     */
+    boolean confirm(Command command);
+}
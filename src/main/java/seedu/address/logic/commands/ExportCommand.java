@@ -0,0 +1,115 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.RecordFileReader.Format;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.storage.KlinixExporter;
+import seedu.address.storage.KlinixExporter.Dataset;
+
+/**
+ * Exports the displayed patients, and their appointments and medicine usages, to CSV or NDJSON files in a directory.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Exports the displayed patients, their appointments and their medicine usages to separate files "
+            + "in a directory. Only the appointments and medicine usages in the date range given are exported.\n"
+            + "Parameters: DIRECTORY "
+            + "[" + PREFIX_FROM + "START_DATE] "
+            + "[" + PREFIX_TO + "END_DATE] "
+            + "[" + PREFIX_FORMAT + "csv|ndjson]\n"
+            + "Example: " + COMMAND_WORD + " data/export "
+            + PREFIX_FROM + "01-03-2025 "
+            + PREFIX_TO + "31-03-2025 "
+            + PREFIX_FORMAT + "ndjson";
+
+    public static final String MESSAGE_SUCCESS =
+            "Exported %1$d patients, %2$d appointments and %3$d medicine usages to %4$s";
+    public static final String MESSAGE_EXPORT_FAILED = "Could not export to %1$s: %2$s";
+
+    private final Path directoryPath;
+    private final Format format;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    /**
+     * Creates an ExportCommand to export to files in {@code format} in the directory at {@code directoryPath}, with
+     * the appointments and medicine usages from {@code startDate} to {@code endDate}, inclusive.
+     */
+    public ExportCommand(Path directoryPath, Format format, LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(directoryPath, format, startDate, endDate);
+        this.directoryPath = directoryPath;
+        this.format = format;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        KlinixExporter exporter = new KlinixExporter(model.getKlinix()).filterDates(startDate, endDate);
+        List<Person> displayedPersons = model.getFilteredPersonList();
+        if (displayedPersons.size() != model.getKlinix().getPersonList().size()) {
+            Set<Person> displayedPersonSet = Collections.newSetFromMap(new IdentityHashMap<>());
+            displayedPersonSet.addAll(displayedPersons);
+            exporter = exporter.filterPersons(displayedPersonSet::contains);
+        }
+
+        Map<Dataset, Integer> counts;
+        try {
+            counts = exporter.exportAll(directoryPath, format);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_EXPORT_FAILED, directoryPath, e.getMessage()), e);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, counts.get(Dataset.PATIENTS),
+                counts.get(Dataset.APPOINTMENTS), counts.get(Dataset.MEDICINE_USAGES), directoryPath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return directoryPath.equals(otherExportCommand.directoryPath)
+                && format.equals(otherExportCommand.format)
+                && startDate.equals(otherExportCommand.startDate)
+                && endDate.equals(otherExportCommand.endDate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("directoryPath", directoryPath)
+                .add("format", format)
+                .add("startDate", startDate)
+                .add("endDate", endDate)
+                .toString();
+    }
+}
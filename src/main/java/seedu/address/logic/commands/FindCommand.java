@@ -10,6 +10,7 @@ import seedu.address.model.person.NameContainsKeywordsPredicate;
 /**
  * Finds and lists all patients in klinix whose name contains any of the argument keywords.
  * Keyword matching is case insensitive.
+ * The name index of klinix narrows down the patients whose names are checked.
  */
 public class FindCommand extends Command {
 
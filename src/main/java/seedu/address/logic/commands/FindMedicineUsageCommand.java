@@ -11,6 +11,7 @@ import seedu.address.model.person.MedicineUsageContainsKeywordsPredicate;
  * Finds and lists all medicine usages in the Klinix whose name contains any of the argument keywords.
  * Keywords matching is case-insensitive.
  * Matching medicine usages are displayed as a list of person containing them.
+ * The patients are looked up in the medicine usage index of klinix.
  */
 public class FindMedicineUsageCommand extends Command {
 
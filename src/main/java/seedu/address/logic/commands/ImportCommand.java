@@ -0,0 +1,222 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.RecordFileReader;
+import seedu.address.commons.util.RecordFileReader.Format;
+import seedu.address.commons.util.RecordFileReader.Record;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.PatientRecordParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+
+/**
+ * Imports the patients in a CSV or NDJSON file into the klinix.
+ * Rows are read in batches and checked in parallel. Rows that are invalid, or whose NRIC is already in the klinix or
+ * appears on an earlier row, are skipped and reported, and the other patients are added in one step.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Imports the patients in a CSV or NDJSON file. "
+            + "A CSV file starts with a header row naming its columns. "
+            + "Required fields: " + String.join(", ", PatientRecordParser.REQUIRED_FIELDS) + ". "
+            + "Optional fields: " + PatientRecordParser.FIELD_TAGS + " (separated by "
+            + RecordFileReader.LIST_SEPARATOR + "), " + PatientRecordParser.FIELD_ALLERGIES + ", "
+            + PatientRecordParser.FIELD_ILLNESSES + ", " + PatientRecordParser.FIELD_SURGERIES + ", "
+            + PatientRecordParser.FIELD_IMMUNIZATIONS + ".\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " data/new-branch.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d of %2$d patients from %3$s in %4$d ms "
+            + "(%5$d rows per second)";
+    public static final String MESSAGE_REJECTED_ROWS = "Rejected %1$d rows:";
+    public static final String MESSAGE_MORE_REJECTED_ROWS = "... and %1$d more";
+    public static final String MESSAGE_REJECTED_ROW = "Line %1$d: %2$s";
+    public static final String MESSAGE_DUPLICATE_IN_FILE = "Patient with NRIC %1$s appears on an earlier line";
+    public static final String MESSAGE_DUPLICATE_PERSON = "Patient with NRIC %1$s already exists in Klinix";
+    public static final String MESSAGE_MISSING_COLUMNS = "The file has no column for: %1$s";
+    public static final String MESSAGE_UNREADABLE_FILE = "Could not read import file %1$s: %2$s";
+
+    static final int BATCH_SIZE = 1000;
+    static final int MAX_REPORTED_REJECTED_ROWS = 10;
+
+    private static final Logger logger = LogsCenter.getLogger(ImportCommand.class);
+
+    private final Path filePath;
+    private final Format format;
+
+    /**
+     * Creates an ImportCommand to import the patients in the file at {@code filePath}, which is in {@code format}.
+     */
+    public ImportCommand(Path filePath, Format format) {
+        requireAllNonNull(filePath, format);
+        this.filePath = filePath;
+        this.format = format;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        long startTime = System.nanoTime();
+
+        Set<Nric> existingNrics = model.getKlinix().getPersonList().stream()
+                .map(Person::getNric)
+                .collect(Collectors.toCollection(HashSet::new));
+        Set<Nric> importedNrics = new HashSet<>();
+        List<Person> importedPersons = new ArrayList<>();
+        Map<Integer, String> rejectedRows = new TreeMap<>();
+        int rowCount = 0;
+
+        try (RecordFileReader reader = new RecordFileReader(filePath, format)) {
+            checkColumns(reader);
+            List<Record> batch = new ArrayList<>(BATCH_SIZE);
+            while (true) {
+                Optional<Record> record;
+                try {
+                    record = reader.readRecord();
+                } catch (IllegalValueException ive) {
+                    rowCount++;
+                    rejectedRows.put(reader.getRecordLineNumber(), ive.getMessage());
+                    continue;
+                }
+                if (record.isEmpty()) {
+                    break;
+                }
+
+                rowCount++;
+                batch.add(record.get());
+                if (batch.size() == BATCH_SIZE) {
+                    importBatch(batch, existingNrics, importedNrics, importedPersons, rejectedRows);
+                    batch.clear();
+                }
+            }
+            importBatch(batch, existingNrics, importedNrics, importedPersons, rejectedRows);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_UNREADABLE_FILE, filePath, e.getMessage()), e);
+        }
+
+        if (!importedPersons.isEmpty()) {
+            model.addPersons(importedPersons);
+        }
+
+        long elapsedNanos = Math.max(System.nanoTime() - startTime, 1);
+        long rowsPerSecond = rowCount * 1_000_000_000L / elapsedNanos;
+        logger.info(String.format("Imported %d of %d rows from %s in %d ms", importedPersons.size(), rowCount,
+                filePath, elapsedNanos / 1_000_000));
+        rejectedRows.forEach((lineNumber, reason) -> logger.fine(String.format(MESSAGE_REJECTED_ROW, lineNumber,
+                reason)));
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, importedPersons.size(), rowCount, filePath,
+                elapsedNanos / 1_000_000, rowsPerSecond) + formatRejectedRows(rejectedRows));
+    }
+
+    /**
+     * Throws a {@code CommandException} if the file has a header row without a column for each required field.
+     */
+    private void checkColumns(RecordFileReader reader) throws CommandException {
+        Optional<List<String>> columnNames = reader.getColumnNames();
+        if (columnNames.isEmpty()) {
+            return;
+        }
+        List<String> missingColumns = PatientRecordParser.REQUIRED_FIELDS.stream()
+                .filter(field -> !columnNames.get().contains(field))
+                .collect(Collectors.toList());
+        if (!missingColumns.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_MISSING_COLUMNS, String.join(", ", missingColumns)));
+        }
+    }
+
+    /**
+     * Parses the patients in {@code batch} in parallel, then adds those that are valid and not duplicates to
+     * {@code importedPersons} in file order, and the reasons the others are rejected to {@code rejectedRows}.
+     */
+    private static void importBatch(List<Record> batch, Set<Nric> existingNrics, Set<Nric> importedNrics,
+            List<Person> importedPersons, Map<Integer, String> rejectedRows) {
+        PatientRecordParser parser = new PatientRecordParser();
+        Person[] persons = new Person[batch.size()];
+        String[] errors = new String[batch.size()];
+        IntStream.range(0, batch.size()).parallel().forEach(i -> {
+            try {
+                persons[i] = parser.parse(batch.get(i).getFields());
+            } catch (ParseException pe) {
+                errors[i] = pe.getMessage();
+            }
+        });
+
+        for (int i = 0; i < batch.size(); i++) {
+            int lineNumber = batch.get(i).getLineNumber();
+            if (errors[i] != null) {
+                rejectedRows.put(lineNumber, errors[i]);
+            } else if (existingNrics.contains(persons[i].getNric())) {
+                rejectedRows.put(lineNumber, String.format(MESSAGE_DUPLICATE_PERSON, persons[i].getNric()));
+            } else if (!importedNrics.add(persons[i].getNric())) {
+                rejectedRows.put(lineNumber, String.format(MESSAGE_DUPLICATE_IN_FILE, persons[i].getNric()));
+            } else {
+                importedPersons.add(persons[i]);
+            }
+        }
+    }
+
+    private static String formatRejectedRows(Map<Integer, String> rejectedRows) {
+        if (rejectedRows.isEmpty()) {
+            return "";
+        }
+        StringBuilder report = new StringBuilder("\n").append(String.format(MESSAGE_REJECTED_ROWS,
+                rejectedRows.size()));
+        rejectedRows.entrySet().stream()
+                .limit(MAX_REPORTED_REJECTED_ROWS)
+                .forEach(entry -> report.append("\n")
+                        .append(String.format(MESSAGE_REJECTED_ROW, entry.getKey(), entry.getValue())));
+        if (rejectedRows.size() > MAX_REPORTED_REJECTED_ROWS) {
+            report.append("\n").append(String.format(MESSAGE_MORE_REJECTED_ROWS,
+                    rejectedRows.size() - MAX_REPORTED_REJECTED_ROWS));
+        }
+        return report.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return filePath.equals(otherImportCommand.filePath)
+                && format.equals(otherImportCommand.format);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("format", format)
+                .toString();
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Runs the commands in a script file one after another, as a single change to the klinix.
+ * If any command fails, the changes made by the commands before it are undone by restoring only the persons they
+ * changed.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Runs the commands in a script file, one command per line. "
+            + "Blank lines and lines starting with # are skipped. "
+            + "If any command fails, none of the changes are kept.\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " data/script.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands from %2$s";
+    public static final String MESSAGE_LINE_FAILED = "Line %1$d: %2$s";
+    public static final String MESSAGE_ROLLED_BACK = "No changes from %1$s were kept.";
+
+    private final Path filePath;
+    private final Map<Integer, Command> commandsByLineNumber;
+
+    /**
+     * Creates a RunCommand to run {@code commandsByLineNumber}, in order, read from the script at {@code filePath}.
+     */
+    public RunCommand(Path filePath, Map<Integer, Command> commandsByLineNumber) {
+        requireAllNonNull(filePath, commandsByLineNumber);
+        this.filePath = filePath;
+        this.commandsByLineNumber = new LinkedHashMap<>(commandsByLineNumber);
+        super.setShowConfirmation(true);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        model.setSavepoint();
+        for (Map.Entry<Integer, Command> entry : commandsByLineNumber.entrySet()) {
+            try {
+                entry.getValue().execute(model);
+            } catch (CommandException | RuntimeException e) {
+                model.rollbackToSavepoint();
+                throw new CommandException(String.format(MESSAGE_LINE_FAILED, entry.getKey(), e.getMessage())
+                        + "\n" + String.format(MESSAGE_ROLLED_BACK, filePath), e);
+            }
+        }
+        model.releaseSavepoint();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commandsByLineNumber.size(), filePath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return filePath.equals(otherRunCommand.filePath)
+                && commandsByLineNumber.equals(otherRunCommand.commandsByLineNumber);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("commandsByLineNumber", commandsByLineNumber)
+                .toString();
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.PatientContainsKeywordsPredicate;
+
+/**
+ * Finds and lists all patients in klinix whose name, NRIC or tags contain every one of the argument keywords.
+ * Keyword matching is case insensitive.
+ * The list is also filtered as the command is typed, by a live search on a background thread.
+ */
+public class SearchCommand extends Command {
+
+    public static final String COMMAND_WORD = "search";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all patients whose name, NRIC or tags "
+            + "contain all of the specified keywords (case-insensitive) and displays them as a list with index "
+            + "numbers. The list is updated as you type.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " alice diabetic";
+
+    private final PatientContainsKeywordsPredicate predicate;
+
+    public SearchCommand(PatientContainsKeywordsPredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPersonList(predicate);
+
+        int count = model.getFilteredPersonList().size();
+        String patientWord = (count <= 1) ? "patient" : "patients";
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, count, patientWord));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SearchCommand)) {
+            return false;
+        }
+
+        SearchCommand otherSearchCommand = (SearchCommand) other;
+        return predicate.equals(otherSearchCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
@@ -25,4 +25,5 @@ public class CliSyntax {
     public static final Prefix PREFIX_ID = new Prefix("id/");
     public static final Prefix PREFIX_APPOINTMENT_DESCRIPTION = new Prefix("appt/");
     public static final Prefix PREFIX_BIRTHDATE = new Prefix("b/");
+    public static final Prefix PREFIX_FORMAT = new Prefix("fmt/");
 }
@@ -0,0 +1,49 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.logic.commands.Command;
+
+/**
+ * Maps command words to the parsers of their commands.
+ * Parsers hold no state, so each parser is created once when it is registered and reused for every command parsed.
+ */
+public class CommandRegistry {
+
+    public static final String MESSAGE_DUPLICATE_COMMAND_WORD = "Command word %1$s is already registered";
+
+    private final Map<String, Parser<? extends Command>> parsersByCommandWord = new HashMap<>();
+
+    /**
+     * Registers {@code parser} as the parser of the arguments of commands starting with {@code commandWord}.
+     *
+     * @throws IllegalArgumentException if {@code commandWord} is already registered.
+     */
+    public CommandRegistry register(String commandWord, Parser<? extends Command> parser) {
+        requireAllNonNull(commandWord, parser);
+        if (parsersByCommandWord.putIfAbsent(commandWord, parser) != null) {
+            throw new IllegalArgumentException(String.format(MESSAGE_DUPLICATE_COMMAND_WORD, commandWord));
+        }
+        return this;
+    }
+
+    /**
+     * Returns the parser registered for {@code commandWord}, if any.
+     */
+    public Optional<Parser<? extends Command>> getParser(String commandWord) {
+        return Optional.ofNullable(parsersByCommandWord.get(commandWord));
+    }
+
+    /**
+     * Returns the registered command words.
+     */
+    public Set<String> getCommandWords() {
+        return Collections.unmodifiableSet(parsersByCommandWord.keySet());
+    }
+}
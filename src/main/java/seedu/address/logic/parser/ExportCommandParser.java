@@ -0,0 +1,74 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+
+import seedu.address.commons.util.RecordFileReader.Format;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    public static final String MESSAGE_UNKNOWN_FORMAT = "Format must be csv or ndjson";
+    public static final String MESSAGE_INVALID_DATE_RANGE = "Start date must not be after end date";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     * The format is CSV and the date range is unbounded if they are not given.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FROM, PREFIX_TO, PREFIX_FORMAT);
+        if (argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FROM, PREFIX_TO, PREFIX_FORMAT);
+
+        Path directoryPath;
+        try {
+            directoryPath = Paths.get(argMultimap.getPreamble());
+        } catch (InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE), e);
+        }
+
+        Format format = Format.CSV;
+        Optional<String> formatName = argMultimap.getValue(PREFIX_FORMAT);
+        if (formatName.isPresent()) {
+            format = parseFormat(formatName.get());
+        }
+
+        LocalDate startDate = argMultimap.getValue(PREFIX_FROM).isPresent()
+                ? ParserUtil.parseLocalDate(argMultimap.getValue(PREFIX_FROM).get())
+                : LocalDate.MIN;
+        LocalDate endDate = argMultimap.getValue(PREFIX_TO).isPresent()
+                ? ParserUtil.parseLocalDate(argMultimap.getValue(PREFIX_TO).get())
+                : LocalDate.MAX;
+        if (startDate.isAfter(endDate)) {
+            throw new ParseException(MESSAGE_INVALID_DATE_RANGE);
+        }
+
+        return new ExportCommand(directoryPath, format, startDate, endDate);
+    }
+
+    private static Format parseFormat(String formatName) throws ParseException {
+        String trimmedFormatName = formatName.trim().toUpperCase(Locale.ROOT);
+        return Arrays.stream(Format.values())
+                .filter(format -> format.name().equals(trimmedFormatName))
+                .findFirst()
+                .orElseThrow(() -> new ParseException(MESSAGE_UNKNOWN_FORMAT));
+    }
+}
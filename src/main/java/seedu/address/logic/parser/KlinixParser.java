@@ -3,9 +3,8 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.Optional;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddAppointmentCommand;
@@ -22,111 +21,112 @@ import seedu.address.logic.commands.DeleteMedicalReportCommand;
 import seedu.address.logic.commands.DeleteMedicineUsageCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FindMedicineUsageCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.MarkAppointmentVisitedCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.SearchCommand;
 import seedu.address.logic.commands.UnmarkAppointmentVisitedCommand;
 import seedu.address.logic.commands.ViewAppointmentByDateCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Parses user input.
+ * The parser of each command is looked up by the command word in a registry shared by all {@code KlinixParser}s, so
+ * no parser is created per input.
  */
 public class KlinixParser {
 
-    /**
-     * Used for initial separation of command word and args.
-     */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
     private static final Logger logger = LogsCenter.getLogger(KlinixParser.class);
+
+    private static final CommandRegistry COMMAND_REGISTRY = new CommandRegistry()
+            .register(AddCommand.COMMAND_WORD, new AddCommandParser())
+            .register(EditCommand.COMMAND_WORD, new EditCommandParser())
+            .register(DeleteCommand.COMMAND_WORD, new DeleteCommandParser())
+            .register(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand())
+            .register(FindCommand.COMMAND_WORD, new FindCommandParser())
+            .register(SearchCommand.COMMAND_WORD, new SearchCommandParser())
+            .register(ListCommand.COMMAND_WORD, arguments -> new ListCommand())
+            .register(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand())
+            .register(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand())
+            .register(AddMedicalReportCommand.COMMAND_WORD, new AddMedicalReportCommandParser())
+            .register(DeleteMedicalReportCommand.COMMAND_WORD, new DeleteMedicalReportCommandParser())
+            .register(AddMedicineUsageCommand.COMMAND_WORD, new AddMedicineUsageCommandParser())
+            .register(ClearMedicineUsageCommand.COMMAND_WORD, new ClearMedicineUsageCommandParser())
+            .register(FindMedicineUsageCommand.COMMAND_WORD, new FindMedicineUsageCommandParser())
+            .register(DeleteMedicineUsageCommand.COMMAND_WORD, new DeleteMedicineUsageCommandParser())
+            .register(AddAppointmentCommand.COMMAND_WORD, new AddAppointmentCommandParser())
+            .register(DeleteAppointmentCommand.COMMAND_WORD, new DeleteAppointmentCommandParser())
+            .register(ClearAppointmentsCommand.COMMAND_WORD, new ClearAppointmentsCommandParser())
+            .register(ViewAppointmentByDateCommand.COMMAND_WORD, new ViewAppointmentByDateParser())
+            .register(MarkAppointmentVisitedCommand.COMMAND_WORD, new MarkAppointmentVisitedCommandParser())
+            .register(UnmarkAppointmentVisitedCommand.COMMAND_WORD, new UnmarkAppointmentVisitedCommandParser())
+            .register(RunCommand.COMMAND_WORD, new RunCommandParser())
+            .register(ImportCommand.COMMAND_WORD, new ImportCommandParser())
+            .register(ExportCommand.COMMAND_WORD, new ExportCommandParser());
+
     /**
      * Parses user input into command for execution.
+     * The command word is the input up to the first whitespace, and the arguments are the rest of the input, which
+     * must not span more than one line.
      *
      * @param userInput full user input string
      * @return the command based on the user input
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String trimmedInput = userInput.trim();
+        final int commandWordEnd = findCommandWordEnd(trimmedInput);
+        if (trimmedInput.isEmpty() || containsLineBreak(trimmedInput, commandWordEnd)) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
+        final String commandWord = trimmedInput.substring(0, commandWordEnd);
+        final String arguments = trimmedInput.substring(commandWordEnd);
 
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
         // log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
         logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
 
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-
-        case AddMedicalReportCommand.COMMAND_WORD:
-            return new AddMedicalReportCommandParser().parse(arguments);
-
-        case DeleteMedicalReportCommand.COMMAND_WORD:
-            return new DeleteMedicalReportCommandParser().parse(arguments);
-
-        case AddMedicineUsageCommand.COMMAND_WORD:
-            return new AddMedicineUsageCommandParser().parse(arguments);
-
-        case ClearMedicineUsageCommand.COMMAND_WORD:
-            return new ClearMedicineUsageCommandParser().parse(arguments);
-
-        case FindMedicineUsageCommand.COMMAND_WORD:
-            return new FindMedicineUsageCommandParser().parse(arguments);
-
-        case DeleteMedicineUsageCommand.COMMAND_WORD:
-            return new DeleteMedicineUsageCommandParser().parse(arguments);
-
-        case AddAppointmentCommand.COMMAND_WORD:
-            return new AddAppointmentCommandParser().parse(arguments);
-
-        case DeleteAppointmentCommand.COMMAND_WORD:
-            return new DeleteAppointmentCommandParser().parse(arguments);
-
-        case ClearAppointmentsCommand.COMMAND_WORD:
-            return new ClearAppointmentsCommandParser().parse(arguments);
-
-        case ViewAppointmentByDateCommand.COMMAND_WORD:
-            return new ViewAppointmentByDateParser().parse(arguments);
-
-        case MarkAppointmentVisitedCommand.COMMAND_WORD:
-            return new MarkAppointmentVisitedCommandParser().parse(arguments);
-
-        case UnmarkAppointmentVisitedCommand.COMMAND_WORD:
-            return new UnmarkAppointmentVisitedCommandParser().parse(arguments);
-
-        default:
+        Optional<Parser<? extends Command>> parser = COMMAND_REGISTRY.getParser(commandWord);
+        if (parser.isEmpty()) {
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
+        return parser.get().parse(arguments);
+    }
+
+    /**
+     * Returns the index of the first whitespace in {@code input}, or its length if it has none.
+     */
+    private static int findCommandWordEnd(String input) {
+        for (int i = 0; i < input.length(); i++) {
+            if (isWhitespace(input.charAt(i))) {
+                return i;
+            }
+        }
+        return input.length();
+    }
+
+    /**
+     * Returns true if {@code input} has a line break at or after {@code fromIndex}.
+     */
+    private static boolean containsLineBreak(String input, int fromIndex) {
+        for (int i = fromIndex; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
     }
 }
@@ -0,0 +1,84 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.RecordFileReader;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.appointment.AppointmentList;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.BirthDate;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.MedicalReport;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses a patient record of named fields, such as a row of an imported file, into a {@code Person}.
+ * Fields are checked by the same rules as the fields of the add and addmr commands.
+ */
+public class PatientRecordParser {
+
+    public static final String FIELD_NAME = "name";
+    public static final String FIELD_PHONE = "phone";
+    public static final String FIELD_EMAIL = "email";
+    public static final String FIELD_NRIC = "nric";
+    public static final String FIELD_BIRTHDATE = "birthdate";
+    public static final String FIELD_ADDRESS = "address";
+    public static final String FIELD_TAGS = "tags";
+    public static final String FIELD_ALLERGIES = "allergies";
+    public static final String FIELD_ILLNESSES = "illnesses";
+    public static final String FIELD_SURGERIES = "surgeries";
+    public static final String FIELD_IMMUNIZATIONS = "immunizations";
+
+    public static final List<String> REQUIRED_FIELDS =
+            List.of(FIELD_NAME, FIELD_PHONE, FIELD_EMAIL, FIELD_NRIC, FIELD_BIRTHDATE, FIELD_ADDRESS);
+
+    public static final String MESSAGE_MISSING_FIELD = "Missing field: %1$s";
+
+    private static final String NO_MEDICAL_DETAILS = "None";
+
+    /**
+     * Parses the patient in {@code fields}, keyed by the lower-case field names above.
+     * Tags are separated by {@link RecordFileReader#LIST_SEPARATOR}, and blank medical report fields are read as none.
+     *
+     * @throws ParseException if a required field is missing or blank, or any field is invalid.
+     */
+    public Person parse(Map<String, String> fields) throws ParseException {
+        requireNonNull(fields);
+        for (String requiredField : REQUIRED_FIELDS) {
+            if (fields.getOrDefault(requiredField, "").isBlank()) {
+                throw new ParseException(String.format(MESSAGE_MISSING_FIELD, requiredField));
+            }
+        }
+
+        Name name = ParserUtil.parseName(fields.get(FIELD_NAME));
+        Phone phone = ParserUtil.parsePhone(fields.get(FIELD_PHONE));
+        Email email = ParserUtil.parseEmail(fields.get(FIELD_EMAIL));
+        Nric nric = ParserUtil.parseNric(fields.get(FIELD_NRIC));
+        BirthDate birthDate = ParserUtil.parseBirthDate(fields.get(FIELD_BIRTHDATE));
+        Address address = ParserUtil.parseAddress(fields.get(FIELD_ADDRESS));
+        Set<Tag> tags = ParserUtil.parseTags(Arrays.stream(fields.getOrDefault(FIELD_TAGS, "")
+                        .split(RecordFileReader.LIST_SEPARATOR))
+                .filter(tag -> !tag.isBlank())
+                .collect(Collectors.toList()));
+
+        MedicalReport medicalReport = new MedicalReport(parseMedicalField(fields, FIELD_ALLERGIES),
+                parseMedicalField(fields, FIELD_ILLNESSES), parseMedicalField(fields, FIELD_SURGERIES),
+                parseMedicalField(fields, FIELD_IMMUNIZATIONS));
+        return new Person(name, phone, email, nric, birthDate, address, tags, medicalReport, new AppointmentList());
+    }
+
+    private static String parseMedicalField(Map<String, String> fields, String fieldName) throws ParseException {
+        String field = fields.getOrDefault(fieldName, "");
+        return field.isBlank() ? NO_MEDICAL_DETAILS : ParserUtil.parseMedicalField(field);
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunCommand object
+ */
+public class RunCommandParser implements Parser<RunCommand> {
+
+    public static final String COMMENT_PREFIX = "#";
+    public static final String MESSAGE_UNREADABLE_FILE = "Could not read script file %1$s";
+    public static final String MESSAGE_NESTED_RUN = "A script cannot run another script";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunCommand
+     * and returns a RunCommand object for execution.
+     * Every line of the script is parsed before any command is run, and the errors of all lines are reported together.
+     * @throws ParseException if the user input does not conform the expected format, the script cannot be read, or
+     *     any line of the script is not a valid command
+     */
+    public RunCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        }
+
+        Path filePath;
+        List<String> lines;
+        try {
+            filePath = Paths.get(trimmedArgs);
+            lines = Files.readAllLines(filePath, StandardCharsets.UTF_8);
+        } catch (IOException | InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_UNREADABLE_FILE, trimmedArgs), e);
+        }
+
+        KlinixParser klinixParser = new KlinixParser();
+        Map<Integer, Command> commandsByLineNumber = new LinkedHashMap<>();
+        List<String> errors = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            int lineNumber = i + 1;
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            if (line.split("\\s+", 2)[0].equals(RunCommand.COMMAND_WORD)) {
+                errors.add(String.format(RunCommand.MESSAGE_LINE_FAILED, lineNumber, MESSAGE_NESTED_RUN));
+                continue;
+            }
+            try {
+                commandsByLineNumber.put(lineNumber, klinixParser.parseCommand(line));
+            } catch (ParseException pe) {
+                errors.add(String.format(RunCommand.MESSAGE_LINE_FAILED, lineNumber, pe.getMessage()));
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            throw new ParseException(String.join("\n", errors));
+        }
+        return new RunCommand(filePath, commandsByLineNumber);
+    }
+}
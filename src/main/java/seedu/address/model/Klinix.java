@@ -1,17 +1,25 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentIntervalTree;
 import seedu.address.model.appointment.AppointmentListByDate;
+import seedu.address.model.medicineusage.MedicineName;
 import seedu.address.model.medicineusage.MedicineUsage;
+import seedu.address.model.person.MedicineUsageContainsKeywordsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Nric;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
@@ -24,9 +32,12 @@ import seedu.address.model.util.ObservableLocalDateTime;
 public class Klinix implements ReadOnlyKlinix {
 
     private final UniquePersonList persons;
+    private final PersonChangeLog changeLog;
+    private final AppointmentIntervalTree appointmentIntervals;
     private AppointmentListByDate appointmentsByDate;
     private ObservableList<Appointment> displayedAppointments;
     private ObservableLocalDateTime displayedAppointmentDate;
+    private PersonSavepoint savepoint;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -37,6 +48,8 @@ public class Klinix implements ReadOnlyKlinix {
      */
     {
         persons = new UniquePersonList();
+        changeLog = new PersonChangeLog();
+        appointmentIntervals = new AppointmentIntervalTree();
         appointmentsByDate = new AppointmentListByDate();
         displayedAppointments = FXCollections.observableArrayList();
         displayedAppointmentDate = new ObservableLocalDateTime();
@@ -60,6 +73,28 @@ public class Klinix implements ReadOnlyKlinix {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        changeLog.recordReplacement();
+        if (savepoint != null) {
+            savepoint.markReplaced();
+        }
+    }
+
+    /**
+     * Replaces the contents of the person list with {@code persons}, and the appointments with the appointments of
+     * {@code persons}, in one step.
+     * {@code persons} must not contain duplicate persons.
+     */
+    public void setPersonsWithAppointments(List<Person> persons) {
+        setPersons(persons);
+        appointmentsByDate = new AppointmentListByDate();
+        appointmentIntervals.clear();
+        for (Person person : persons) {
+            for (Appointment appointment : person.getAppointments()) {
+                appointmentsByDate.addAppointment(appointment);
+                appointmentIntervals.add(appointment);
+            }
+        }
+        refreshDisplayedAppointments();
     }
 
     public void setAppointmentsByDate(AppointmentListByDate appointmentsByDate) {
@@ -74,6 +109,10 @@ public class Klinix implements ReadOnlyKlinix {
 
         setPersons(newData.getPersonList());
         setAppointmentsByDate(newData.getAppointmentsByDate());
+        appointmentIntervals.clear();
+        for (Person person : persons) {
+            person.getAppointments().forEach(appointmentIntervals::add);
+        }
         changeDisplayedAppointments(LocalDate.now());
     }
 
@@ -92,7 +131,26 @@ public class Klinix implements ReadOnlyKlinix {
      * The person must not already exist in the klinix.
      */
     public void addPerson(Person p) {
+        saveBeforeChange(p.getNric());
         persons.add(p);
+        changeLog.recordChange(p.getNric());
+    }
+
+    /**
+     * Adds {@code toAdd} to the klinix in one step, along with their appointments.
+     * {@code toAdd} must not contain duplicate persons, or persons that already exist in the klinix.
+     */
+    public void addPersons(List<Person> toAdd) {
+        toAdd.forEach(person -> saveBeforeChange(person.getNric()));
+        persons.addAll(toAdd);
+        for (Person person : toAdd) {
+            changeLog.recordChange(person.getNric());
+            for (Appointment appointment : person.getAppointments()) {
+                appointmentsByDate.addAppointment(appointment);
+                appointmentIntervals.add(appointment);
+            }
+        }
+        refreshDisplayedAppointments();
     }
 
     /**
@@ -102,7 +160,22 @@ public class Klinix implements ReadOnlyKlinix {
      */
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
+        saveBeforeChange(target.getNric());
+        saveBeforeChange(editedPerson.getNric());
         persons.setPerson(target, editedPerson);
+        changeLog.recordChange(target.getNric());
+        changeLog.recordChange(editedPerson.getNric());
+    }
+
+    /**
+     * Records that the medical report or appointments of {@code person} were changed in place, and notifies the
+     * observers of the person list of the change to that person.
+     * {@code person} must exist in the klinix, and {@link #saveBeforeChange(Nric)} must be called before it is changed.
+     */
+    public void markPersonModified(Person person) {
+        requireNonNull(person);
+        persons.refresh(person);
+        changeLog.recordChange(person.getNric());
     }
 
     /**
@@ -110,7 +183,92 @@ public class Klinix implements ReadOnlyKlinix {
      * {@code key} must exist in the klinix.
      */
     public void removePerson(Person key) {
+        saveBeforeChange(key.getNric());
         persons.remove(key);
+        changeLog.recordChange(key.getNric());
+        key.getAppointments().forEach(appointmentIntervals::remove);
+    }
+
+    //// savepoint operations
+
+    /**
+     * Sets a savepoint that the changes to the persons from now on can be undone to with
+     * {@link #rollbackToSavepoint()}, in place of any savepoint already set.
+     * Only the persons changed after the savepoint are copied, before their first change.
+     */
+    public void setSavepoint() {
+        savepoint = new PersonSavepoint(persons.asUnmodifiableObservableList());
+    }
+
+    /**
+     * Keeps the person with {@code nric} as it is now if a savepoint is set, unless it was changed since.
+     * Must be called before that person is changed in place.
+     */
+    public void saveBeforeChange(Nric nric) {
+        requireNonNull(nric);
+        if (savepoint != null) {
+            savepoint.save(nric, persons.findPersonByNric(nric));
+        }
+    }
+
+    /**
+     * Keeps the changes made since the savepoint, and removes the savepoint.
+     */
+    public void releaseSavepoint() {
+        savepoint = null;
+    }
+
+    /**
+     * Undoes the changes made since the savepoint, and removes the savepoint.
+     * Only the persons changed since the savepoint are restored, along with their appointments, unless all persons
+     * were replaced since.
+     *
+     * @throws IllegalStateException if no savepoint is set.
+     */
+    public void rollbackToSavepoint() {
+        if (savepoint == null) {
+            throw new IllegalStateException("No savepoint is set");
+        }
+        PersonSavepoint toRestore = savepoint;
+        savepoint = null;
+        if (toRestore.isReplaced()) {
+            setPersonsWithAppointments(toRestore.getPersonsAtSavepoint());
+            return;
+        }
+
+        Map<Nric, Person> savedPersons = toRestore.getSavedPersons();
+        for (Map.Entry<Nric, Person> entry : savedPersons.entrySet()) {
+            Person current = persons.findPersonByNric(entry.getKey());
+            if (current != null) {
+                for (Appointment appointment : current.getAppointments()) {
+                    appointmentsByDate.deleteAppointment(appointment);
+                    appointmentIntervals.remove(appointment);
+                }
+                if (entry.getValue() != null) {
+                    persons.setPerson(current, entry.getValue());
+                } else {
+                    persons.remove(current);
+                }
+            }
+            changeLog.recordChange(entry.getKey());
+        }
+
+        // The persons left are those at the savepoint, in the same order, so removed persons go back in place.
+        List<Person> personsAtSavepoint = toRestore.getPersonsAtSavepoint();
+        for (int i = 0; i < personsAtSavepoint.size(); i++) {
+            if (!persons.contains(personsAtSavepoint.get(i))) {
+                persons.add(i, personsAtSavepoint.get(i));
+            }
+        }
+        for (Person person : savedPersons.values()) {
+            if (person != null) {
+                for (Appointment appointment : person.getAppointments()) {
+                    appointmentsByDate.addAppointment(appointment);
+                    appointmentIntervals.add(appointment);
+                }
+            }
+        }
+        refreshDisplayedAppointments();
     }
 
     //// util methods
@@ -147,16 +305,51 @@ public class Klinix implements ReadOnlyKlinix {
         return persons.hashCode();
     }
 
+    @Override
+    public long getModificationVersion() {
+        return changeLog.getVersion();
+    }
+
+    @Override
+    public Optional<List<Nric>> getNricsChangedSince(long version) {
+        return changeLog.getNricsChangedSince(version);
+    }
+
     @Override
     public Person findPersonByNric(Nric nric) {
         requireNonNull(nric);
+        return persons.findPersonByNric(nric);
+    }
 
-        for (Person person : persons) {
-            if (person.getNric().equals(nric)) {
-                return person;
-            }
-        }
-        return null;
+    @Override
+    public String findPersonNameByNric(String nric) {
+        requireNonNull(nric);
+        return persons.findPersonNameByNric(nric);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that skips persons whose name cannot match.
+     */
+    public Predicate<Person> narrowByName(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return persons.narrowByName(predicate);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that looks up the matching persons in the medicine usage
+     * index instead of checking the medicine usages of every person.
+     */
+    public Predicate<Person> narrowByMedicineUsage(MedicineUsageContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return persons.narrowByMedicineUsage(predicate);
+    }
+
+    /**
+     * Returns the patients in the klinix taking the medicine {@code medicineName} on {@code date}.
+     */
+    public List<Person> findPersonsOnMedicine(MedicineName medicineName, LocalDate date) {
+        requireAllNonNull(medicineName, date);
+        return persons.findPersonsOnMedicine(medicineName, date);
     }
 
     /**
@@ -166,6 +359,7 @@ public class Klinix implements ReadOnlyKlinix {
     public void addAppointment(List<Appointment> appointments) {
         for (Appointment a : appointments) {
             this.appointmentsByDate.addAppointment(a);
+            this.appointmentIntervals.add(a);
         }
         refreshDisplayedAppointments();
     }
@@ -176,6 +370,7 @@ public class Klinix implements ReadOnlyKlinix {
      */
     public void addAppointment(Appointment appointment) {
         this.appointmentsByDate.addAppointment(appointment);
+        this.appointmentIntervals.add(appointment);
         refreshDisplayedAppointments();
     }
 
@@ -187,15 +382,16 @@ public class Klinix implements ReadOnlyKlinix {
      */
     public void replaceAppointment(Appointment target, Appointment editedAppointment) {
         this.appointmentsByDate.replaceAppointment(target, editedAppointment);
+        this.appointmentIntervals.remove(target);
+        this.appointmentIntervals.add(editedAppointment);
         refreshDisplayedAppointments();
     }
 
     /**
-     * Returns an unmodifiable view of the filtered person list
+     * Returns the appointments on the given date.
      */
     public ObservableList<Appointment> getAppointmentsListByDate(LocalDate date) {
-        this.displayedAppointments = this.appointmentsByDate.getAppointmentListByDate(date);
-        return this.displayedAppointments;
+        return FXCollections.observableArrayList(this.appointmentsByDate.getAppointmentListByDate(date));
     }
 
     /**
@@ -229,9 +425,18 @@ public class Klinix implements ReadOnlyKlinix {
      */
     public void deleteAppointment(Appointment appointmentToDelete) {
         this.appointmentsByDate.deleteAppointment(appointmentToDelete);
+        this.appointmentIntervals.remove(appointmentToDelete);
         refreshDisplayedAppointments();
     }
 
+    /**
+     * Returns the appointments in the klinix, across all patients, that overlap the time slot of {@code appointment}.
+     */
+    public List<Appointment> getOverlappingAppointments(Appointment appointment) {
+        requireNonNull(appointment);
+        return appointmentIntervals.getOverlappingAppointments(appointment);
+    }
+
     public ObservableLocalDateTime getAppointmentListDate() {
         return this.displayedAppointmentDate;
     }
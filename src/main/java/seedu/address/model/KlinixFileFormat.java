@@ -0,0 +1,15 @@
+package seedu.address.model;
+
+/**
+ * Represents the format of the file that Klinix data is stored in.
+ */
+public enum KlinixFileFormat {
+    /** The human-readable JSON format. */
+    JSON,
+    /** The compact binary format, which is smaller and faster to read and write. */
+    BINARY,
+    /** A directory with one JSON file per person, of which only the files of changed persons are written. */
+    SHARDED,
+    /** An embedded SQL database, in which only the rows of changed persons are written. */
+    SQL
+}
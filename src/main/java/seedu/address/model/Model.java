@@ -10,6 +10,8 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.appointment.Appointment;
 import seedu.address.model.medicineusage.MedicineUsage;
 import seedu.address.model.person.MedicalReport;
+import seedu.address.model.person.MedicineUsageContainsKeywordsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Nric;
 import seedu.address.model.person.Person;
 import seedu.address.model.util.ObservableLocalDateTime;
@@ -59,6 +61,25 @@ public interface Model {
     /** Returns the Klinix */
     ReadOnlyKlinix getKlinix();
 
+    /**
+     * Sets a savepoint that the changes to the klinix from now on can be undone to with
+     * {@link #rollbackToSavepoint()}. Only the persons changed after the savepoint are copied.
+     */
+    void setSavepoint();
+
+    /**
+     * Keeps the changes to the klinix made since the savepoint, and removes the savepoint.
+     */
+    void releaseSavepoint();
+
+    /**
+     * Undoes the changes to the klinix made since the savepoint by restoring only the persons changed since,
+     * and removes the savepoint.
+     *
+     * @throws IllegalStateException if no savepoint is set.
+     */
+    void rollbackToSavepoint();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the klinix.
      */
@@ -76,6 +97,12 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds the given persons, along with their appointments, in one step.
+     * {@code persons} must not contain duplicate persons, or persons that already exist in the klinix.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the klinix.
@@ -88,7 +115,16 @@ public interface Model {
      */
     Person findPersonByNric(Nric nric);
 
-    /** Returns an unmodifiable view of the filtered person list */
+    /**
+     * Returns the name of the person whose NRIC is {@code nric}, or null if there is no such person.
+     */
+    String findPersonNameByNric(String nric);
+
+    /**
+     * Returns an unmodifiable view of the filtered person list.
+     * The filter is kept when persons are added, changed or removed, and each change to a person is reported to the
+     * observers of the view as a change to that person only.
+     */
     ObservableList<Person> getFilteredPersonList();
 
     /**
@@ -97,6 +133,21 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to show the persons whose name matches {@code predicate}.
+     * The name index of the klinix is used so that only persons whose name may match are tested.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredPersonList(NameContainsKeywordsPredicate predicate);
+
+    /**
+     * Updates the filter of the filtered person list to show the persons with a medicine usage matching
+     * {@code predicate}.
+     * The matching persons are looked up in the medicine usage index of the klinix.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredPersonList(MedicineUsageContainsKeywordsPredicate predicate);
+
     /**
      * Adds a medical report to the person.
      */
@@ -143,7 +194,10 @@ public interface Model {
 
     boolean isAppointmentListEmpty();
 
-    List<Appointment> getOverlappingAppointments(Appointment newAppointmentPerson, List<Person> allPersons);
+    /**
+     * Returns the booked appointments, across all patients, that overlap the time slot of {@code newAppointment}.
+     */
+    List<Appointment> getOverlappingAppointments(Appointment newAppointment);
 
     ObservableLocalDateTime getAppointmentListDate();
 
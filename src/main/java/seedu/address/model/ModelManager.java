@@ -5,8 +5,6 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
@@ -19,6 +17,8 @@ import seedu.address.model.appointment.Appointment;
 import seedu.address.model.appointment.AppointmentList;
 import seedu.address.model.medicineusage.MedicineUsage;
 import seedu.address.model.person.MedicalReport;
+import seedu.address.model.person.MedicineUsageContainsKeywordsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Nric;
 import seedu.address.model.person.Person;
 import seedu.address.model.util.ObservableLocalDateTime;
@@ -97,6 +97,21 @@ public class ModelManager implements Model {
         return klinix;
     }
 
+    @Override
+    public void setSavepoint() {
+        klinix.setSavepoint();
+    }
+
+    @Override
+    public void releaseSavepoint() {
+        klinix.releaseSavepoint();
+    }
+
+    @Override
+    public void rollbackToSavepoint() {
+        klinix.rollbackToSavepoint();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -111,7 +126,12 @@ public class ModelManager implements Model {
     @Override
     public void addPerson(Person person) {
         klinix.addPerson(person);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    @Override
+    public void addPersons(List<Person> persons) {
+        requireNonNull(persons);
+        klinix.addPersons(persons);
     }
 
     @Override
@@ -127,6 +147,12 @@ public class ModelManager implements Model {
         return klinix.findPersonByNric(nric);
     }
 
+    @Override
+    public String findPersonNameByNric(String nric) {
+        requireNonNull(nric);
+        return klinix.findPersonNameByNric(nric);
+    }
+
 
 
     //=========== Medical Report =============================================================
@@ -147,7 +173,6 @@ public class ModelManager implements Model {
         );
 
         klinix.setPerson(target, updatedPerson);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
     @Override
@@ -167,12 +192,12 @@ public class ModelManager implements Model {
         );
 
         klinix.setPerson(target, updatedPerson);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
     //=========== Appointment =============================================================
     @Override
     public void addAppointment(Person target, Appointment appointment) {
         requireAllNonNull(target, appointment);
+        klinix.saveBeforeChange(target.getNric());
 
         AppointmentList updatedAppointments = target.getAppointmentList(); // Get current appointments
         updatedAppointments.add(appointment); // Add the new appointment
@@ -191,13 +216,13 @@ public class ModelManager implements Model {
 
         klinix.setPerson(target, updatedPerson);
         klinix.addAppointment(appointment);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
 
     @Override
     public void deleteAppointment(Person target, Appointment appointmentToDelete) {
         requireAllNonNull(target, appointmentToDelete);
+        klinix.saveBeforeChange(target.getNric());
 
         AppointmentList updatedAppointments = target.getAppointmentList(); // Get current appointments
         updatedAppointments.remove(appointmentToDelete); // Remove the specific appointment
@@ -216,18 +241,18 @@ public class ModelManager implements Model {
 
         klinix.setPerson(target, updatedPerson);
         klinix.deleteAppointment(appointmentToDelete);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
     @Override
     public void clearAppointments(Person target) {
         requireNonNull(target);
+        klinix.saveBeforeChange(target.getNric());
         AppointmentList appointmentList = target.getAppointmentList();
         for (Appointment a : appointmentList) {
             klinix.deleteAppointment(a);
         }
         appointmentList.reset();
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        klinix.markPersonModified(target);
     }
 
     @Override
@@ -240,8 +265,6 @@ public class ModelManager implements Model {
     public void updateAppointments(Person personToEdit, Person editedPerson) {
         requireAllNonNull(personToEdit, editedPerson);
         klinix.updateAppointments(personToEdit, editedPerson);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-
     }
 
     @Override
@@ -250,29 +273,9 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public List<Appointment> getOverlappingAppointments(Appointment newAppointment, List<Person> allPersons) {
-        LocalDateTime newStart = newAppointment.getStartDateTime();
-        LocalDateTime newEnd = newAppointment.getEndDateTime();
-
-        List<Appointment> overlappingAppointments = new ArrayList<>(); // List to store overlapping appointments
-
-        // Loop through all appointments in the system
-        for (Person person : allPersons) { // Assuming allPersons is a list of all persons in the system
-            for (Appointment existingAppointment : person.getAppointments()) {
-                LocalDateTime existingStart = existingAppointment.getStartDateTime();
-                LocalDateTime existingEnd = existingAppointment.getEndDateTime();
-
-                // Check if the new appointment overlaps with any existing appointment
-                boolean startsBeforeExistingEnds = newStart.isBefore(existingEnd);
-                boolean endsAfterExistingStarts = newEnd.isAfter(existingStart);
-
-                if (startsBeforeExistingEnds && endsAfterExistingStarts) {
-                    overlappingAppointments.add(existingAppointment); // Add to the list of overlaps
-                }
-            }
-        }
-
-        return overlappingAppointments; // Return the list of overlapping appointments
+    public List<Appointment> getOverlappingAppointments(Appointment newAppointment) {
+        requireNonNull(newAppointment);
+        return klinix.getOverlappingAppointments(newAppointment);
     }
 
     @Override
@@ -283,6 +286,7 @@ public class ModelManager implements Model {
     @Override
     public void markAppointmentVisited(Person target, Appointment apptToMark) {
         requireAllNonNull(target, apptToMark);
+        klinix.saveBeforeChange(target.getNric());
 
         Appointment visited = new Appointment(
                 apptToMark.getDescription(),
@@ -310,12 +314,12 @@ public class ModelManager implements Model {
         klinix.setPerson(target, updatedPerson);
         klinix.replaceAppointment(apptToMark, visited);
         klinix.refreshDisplayedAppointments();
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
     @Override
     public void unmarkAppointmentVisited(Person target, Appointment apptToUnmark) {
         requireAllNonNull(target, apptToUnmark);
+        klinix.saveBeforeChange(target.getNric());
 
         Appointment unvisitedAppointment = new Appointment(
                 apptToUnmark.getDescription(),
@@ -343,7 +347,6 @@ public class ModelManager implements Model {
         klinix.setPerson(target, updatedPerson);
         klinix.replaceAppointment(apptToUnmark, unvisitedAppointment);
         klinix.refreshDisplayedAppointments();
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
     @Override
@@ -361,24 +364,27 @@ public class ModelManager implements Model {
     @Override
     public void addMedicineUsage(Person target, MedicineUsage medicineUsage) {
         requireAllNonNull(target, medicineUsage);
+        klinix.saveBeforeChange(target.getNric());
         MedicalReport medicalReport = target.getMedicalReport();
         medicalReport.add(medicineUsage);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        klinix.markPersonModified(target);
     }
 
     @Override
     public void deleteMedicineUsage(Person target, MedicineUsage medicineUsage) {
         requireAllNonNull(target, medicineUsage);
+        klinix.saveBeforeChange(target.getNric());
         target.deleteMedicineUsage(medicineUsage);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        klinix.markPersonModified(target);
     }
 
     @Override
     public void clearMedicineUsage(Person target) {
         requireNonNull(target);
+        klinix.saveBeforeChange(target.getNric());
         MedicalReport medicalReport = target.getMedicalReport();
         medicalReport.reset();
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        klinix.markPersonModified(target);
     }
 
     /**
@@ -409,6 +415,18 @@ public class ModelManager implements Model {
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredPersonList(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        filteredPersons.setPredicate(klinix.narrowByName(predicate));
+    }
+
+    @Override
+    public void updateFilteredPersonList(MedicineUsageContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        filteredPersons.setPredicate(klinix.narrowByMedicineUsage(predicate));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
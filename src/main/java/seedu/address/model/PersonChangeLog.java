@@ -0,0 +1,64 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import seedu.address.model.person.Nric;
+
+/**
+ * Records which persons of a {@code Klinix} were added, edited or removed, so that storage can write only the
+ * persons that changed since it last saved.
+ * Every change is given the next modification version. Only the latest change of each person is kept, so looking up
+ * the changes after a version takes time proportional to the number of persons changed since then.
+ */
+class PersonChangeLog {
+    private final Map<Nric, Long> versionsByNric = new HashMap<>();
+    private final NavigableMap<Long, Nric> nricsByVersion = new TreeMap<>();
+    private long version;
+    private long replacedVersion;
+
+    /**
+     * Records that the person with {@code nric} was added, edited or removed.
+     */
+    void recordChange(Nric nric) {
+        requireNonNull(nric);
+        version++;
+        Long previousVersion = versionsByNric.put(nric, version);
+        if (previousVersion != null) {
+            nricsByVersion.remove(previousVersion);
+        }
+        nricsByVersion.put(version, nric);
+    }
+
+    /**
+     * Records that all persons were replaced at once.
+     */
+    void recordReplacement() {
+        version++;
+        replacedVersion = version;
+        versionsByNric.clear();
+        nricsByVersion.clear();
+    }
+
+    long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the NRICs of the persons changed after {@code sinceVersion}, in the order of their latest change,
+     * or {@code Optional.empty()} if all persons were replaced after {@code sinceVersion}.
+     */
+    Optional<List<Nric>> getNricsChangedSince(long sinceVersion) {
+        if (replacedVersion > sinceVersion) {
+            return Optional.empty();
+        }
+        return Optional.of(new ArrayList<>(nricsByVersion.tailMap(sinceVersion, false).values()));
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+
+/**
+ * Keeps the persons of a {@code Klinix} as they were when the savepoint was set, so that the changes made since can
+ * be undone.
+ * A person is only copied before its first change after the savepoint, so persons that are not changed are never
+ * copied. The order of the persons at the savepoint is kept, so that removed persons can be put back in their place.
+ */
+class PersonSavepoint {
+    private final List<Person> personsAtSavepoint;
+    private final Map<Nric, Person> savedPersons = new HashMap<>();
+    private boolean isReplaced;
+
+    /**
+     * Creates a {@code PersonSavepoint} of {@code persons}, the persons of the klinix in order.
+     */
+    PersonSavepoint(List<Person> persons) {
+        requireNonNull(persons);
+        personsAtSavepoint = List.copyOf(persons);
+    }
+
+    /**
+     * Keeps a copy of {@code person}, the person with {@code nric} before its first change since the savepoint,
+     * or records that there was no such person if {@code person} is null.
+     * Persons changed before are not saved again.
+     */
+    void save(Nric nric, Person person) {
+        requireNonNull(nric);
+        if (isReplaced || savedPersons.containsKey(nric)) {
+            return;
+        }
+        savedPersons.put(nric, person == null ? null : person.copy());
+    }
+
+    /**
+     * Records that all persons were replaced at once, after which the persons no longer need to be saved.
+     */
+    void markReplaced() {
+        isReplaced = true;
+    }
+
+    boolean isReplaced() {
+        return isReplaced;
+    }
+
+    /**
+     * Returns the persons changed since the savepoint, by NRIC, as they were at the savepoint.
+     * The NRICs of the persons added since the savepoint are mapped to null.
+     */
+    Map<Nric, Person> getSavedPersons() {
+        return Collections.unmodifiableMap(savedPersons);
+    }
+
+    /**
+     * Returns the persons at the savepoint in order, as they were at the savepoint.
+     */
+    List<Person> getPersonsAtSavepoint() {
+        List<Person> persons = new ArrayList<>(personsAtSavepoint.size());
+        for (Person person : personsAtSavepoint) {
+            persons.add(savedPersons.getOrDefault(person.getNric(), person));
+        }
+        return persons;
+    }
+}
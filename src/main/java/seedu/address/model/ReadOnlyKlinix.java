@@ -1,5 +1,8 @@
 package seedu.address.model;
 
+import java.util.List;
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.appointment.AppointmentListByDate;
 import seedu.address.model.person.Nric;
@@ -22,5 +25,22 @@ public interface ReadOnlyKlinix {
      */
     Person findPersonByNric(Nric nric);
 
+    /**
+     * Returns the name of the person whose NRIC is {@code nric}, or null if there is no such person.
+     */
+    String findPersonNameByNric(String nric);
+
     AppointmentListByDate getAppointmentsByDate();
+
+    /**
+     * Returns a number that increases whenever a person in the klinix is added, edited or removed.
+     */
+    long getModificationVersion();
+
+    /**
+     * Returns the NRICs of the persons added, edited or removed after modification version {@code version},
+     * in the order they were last changed.
+     * Returns {@code Optional.empty()} if all persons were replaced after that version.
+     */
+    Optional<List<Nric>> getNricsChangedSince(long version);
 }
@@ -15,6 +15,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path klinixFilePath = Paths.get("data" , "klinix.json");
+    private KlinixFileFormat klinixFileFormat = KlinixFileFormat.JSON;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +37,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setKlinixFilePath(newUserPrefs.getKlinixFilePath());
+        setKlinixFileFormat(newUserPrefs.getKlinixFileFormat());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +58,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.klinixFilePath = klinixFilePath;
     }
 
+    public KlinixFileFormat getKlinixFileFormat() {
+        return klinixFileFormat;
+    }
+
+    public void setKlinixFileFormat(KlinixFileFormat klinixFileFormat) {
+        requireNonNull(klinixFileFormat);
+        this.klinixFileFormat = klinixFileFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +80,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && klinixFilePath.equals(otherUserPrefs.klinixFilePath);
+                && klinixFilePath.equals(otherUserPrefs.klinixFilePath)
+                && klinixFileFormat.equals(otherUserPrefs.klinixFileFormat);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, klinixFilePath);
+        return Objects.hash(guiSettings, klinixFilePath, klinixFileFormat);
     }
 
     @Override
@@ -82,6 +94,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + klinixFilePath);
+        sb.append("\nLocal data file format : " + klinixFileFormat);
         return sb.toString();
     }
 
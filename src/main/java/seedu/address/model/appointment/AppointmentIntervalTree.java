@@ -0,0 +1,236 @@
+package seedu.address.model.appointment;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * An index of appointments ordered by their time interval, used to find the appointments that overlap a given time
+ * range without looking at every booked appointment.
+ * The index is an interval tree: a treap ordered by start time (then end time) in which every node also records the
+ * latest end time in its subtree. Subtrees that end before the queried range are skipped, so finding the {@code k}
+ * overlapping appointments takes O(log n + k) expected time.
+ * Appointments with exactly the same start and end time share a node. Two appointments overlap if one starts before
+ * the other ends, so appointments that merely touch (one ends when the other starts) do not overlap.
+ */
+public class AppointmentIntervalTree {
+    private final Random random = new Random();
+    private Node root;
+    private int size;
+
+    /**
+     * Adds an appointment to the index.
+     * If an equal appointment is already in the index, it is not added again.
+     */
+    public void add(Appointment toAdd) {
+        requireNonNull(toAdd);
+        Node existing = find(toAdd.getStartDateTime(), toAdd.getEndDateTime());
+        if (existing != null) {
+            if (!existing.appointments.contains(toAdd)) {
+                existing.appointments.add(toAdd);
+                size++;
+            }
+            return;
+        }
+        root = insert(root, new Node(toAdd, random.nextInt()));
+        size++;
+    }
+
+    /**
+     * Removes the equivalent appointment from the index.
+     * Does nothing if there is no such appointment in the index.
+     */
+    public void remove(Appointment toRemove) {
+        requireNonNull(toRemove);
+        Node node = find(toRemove.getStartDateTime(), toRemove.getEndDateTime());
+        if (node == null || !node.appointments.remove(toRemove)) {
+            return;
+        }
+        size--;
+        if (node.appointments.isEmpty()) {
+            root = delete(root, node.start, node.end);
+        }
+    }
+
+    /**
+     * Removes all appointments from the index.
+     */
+    public void clear() {
+        root = null;
+        size = 0;
+    }
+
+    /**
+     * Returns the number of appointments in the index.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the appointments in the index that overlap the time range from {@code start} to {@code end},
+     * ordered by start time.
+     */
+    public List<Appointment> getOverlappingAppointments(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        List<Appointment> overlappingAppointments = new ArrayList<>();
+        collectOverlapping(root, start, end, overlappingAppointments);
+        return overlappingAppointments;
+    }
+
+    /**
+     * Returns the appointments in the index that overlap the time range of {@code appointment},
+     * ordered by start time.
+     */
+    public List<Appointment> getOverlappingAppointments(Appointment appointment) {
+        requireNonNull(appointment);
+        return getOverlappingAppointments(appointment.getStartDateTime(), appointment.getEndDateTime());
+    }
+
+    private Node find(LocalDateTime start, LocalDateTime end) {
+        Node current = root;
+        while (current != null) {
+            int comparison = current.compareTo(start, end);
+            if (comparison == 0) {
+                return current;
+            }
+            current = comparison > 0 ? current.left : current.right;
+        }
+        return null;
+    }
+
+    private Node insert(Node node, Node toInsert) {
+        if (node == null) {
+            return toInsert;
+        }
+
+        if (node.compareTo(toInsert.start, toInsert.end) > 0) {
+            node.left = insert(node.left, toInsert);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, toInsert);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        node.updateMaxEnd();
+        return node;
+    }
+
+    private Node delete(Node node, LocalDateTime start, LocalDateTime end) {
+        if (node == null) {
+            return null;
+        }
+
+        int comparison = node.compareTo(start, end);
+        if (comparison == 0) {
+            return merge(node.left, node.right);
+        }
+        if (comparison > 0) {
+            node.left = delete(node.left, start, end);
+        } else {
+            node.right = delete(node.right, start, end);
+        }
+        node.updateMaxEnd();
+        return node;
+    }
+
+    /**
+     * Merges two subtrees where every node in {@code left} comes before every node in {@code right}.
+     */
+    private Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.updateMaxEnd();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.updateMaxEnd();
+        return right;
+    }
+
+    private Node rotateRight(Node node) {
+        Node newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        node.updateMaxEnd();
+        newRoot.updateMaxEnd();
+        return newRoot;
+    }
+
+    private Node rotateLeft(Node node) {
+        Node newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        node.updateMaxEnd();
+        newRoot.updateMaxEnd();
+        return newRoot;
+    }
+
+    private void collectOverlapping(Node node, LocalDateTime start, LocalDateTime end, List<Appointment> result) {
+        // nothing in this subtree ends after the range starts
+        if (node == null || !node.maxEnd.isAfter(start)) {
+            return;
+        }
+
+        collectOverlapping(node.left, start, end, result);
+
+        // the right subtree only holds appointments starting at or after this one
+        if (!node.start.isBefore(end)) {
+            return;
+        }
+        if (node.end.isAfter(start)) {
+            result.addAll(node.appointments);
+        }
+        collectOverlapping(node.right, start, end, result);
+    }
+
+    /**
+     * Represents the appointments sharing one time interval in the tree.
+     */
+    private static class Node {
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+        private final List<Appointment> appointments = new ArrayList<>();
+        private final int priority;
+        private LocalDateTime maxEnd;
+        private Node left;
+        private Node right;
+
+        Node(Appointment appointment, int priority) {
+            this.start = appointment.getStartDateTime();
+            this.end = appointment.getEndDateTime();
+            this.priority = priority;
+            this.maxEnd = end;
+            appointments.add(appointment);
+        }
+
+        int compareTo(LocalDateTime otherStart, LocalDateTime otherEnd) {
+            int comparison = start.compareTo(otherStart);
+            return comparison != 0 ? comparison : end.compareTo(otherEnd);
+        }
+
+        void updateMaxEnd() {
+            maxEnd = end;
+            if (left != null && left.maxEnd.isAfter(maxEnd)) {
+                maxEnd = left.maxEnd;
+            }
+            if (right != null && right.maxEnd.isAfter(maxEnd)) {
+                maxEnd = right.maxEnd;
+            }
+        }
+    }
+}
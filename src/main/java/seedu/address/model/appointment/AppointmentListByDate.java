@@ -1,29 +1,37 @@
 package seedu.address.model.appointment;
 
-import static seedu.address.commons.util.DateUtil.DATE_FORMATTER;
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
-import javafx.collections.ObservableMap;
 import seedu.address.model.appointment.exceptions.AppointmentNotFoundException;
 import seedu.address.model.appointment.exceptions.EmptyListException;
 import seedu.address.model.appointment.exceptions.OverlappingAppointmentException;
 
 /**
  * Represents a map of appointments grouped by date.
- * It contains lists of appointments for each date.
- * the key is the date in the format "dd-MM-yyyy"
- * the value is a list of appointments for that date
+ * It contains lists of appointments for each date, ordered by date so that a range of dates can be read in one pass.
+ * the key is the date the appointment starts on
+ * the value is a list of appointments for that date, in the order they were added
+ * Dates without appointments have no entry in the map; reading such a date does not create one.
  */
 public class AppointmentListByDate {
-    private ObservableMap<String, ObservableList<Appointment>> appointmentsByDate;
+    private static final Comparator<Appointment> BY_START_DATE_TIME =
+            Comparator.comparing(Appointment::getStartDateTime);
+
+    private final NavigableMap<LocalDate, List<Appointment>> appointmentsByDate;
 
     public AppointmentListByDate() {
-        appointmentsByDate = FXCollections.observableHashMap();
+        appointmentsByDate = new TreeMap<>();
     }
 
     /**
@@ -34,84 +42,108 @@ public class AppointmentListByDate {
      * @param appointment the appointment to be added
      */
     public void addAppointment(Appointment appointment) {
-        String formattedDate = dateTmeFormatter(appointment.getStartDateTime());
-        if (appointmentsByDate.containsKey(formattedDate)) {
-            if (appointmentsByDate.get(formattedDate).contains(appointment)) {
-                return;
-            }
-            appointmentsByDate.get(formattedDate).add(appointment);
-        } else {
-            // should not reach here normally, but just in case
-            ObservableList<Appointment> appointmentList = FXCollections.observableArrayList();
+        requireNonNull(appointment);
+        List<Appointment> appointmentList = appointmentsByDate.computeIfAbsent(appointment.getStartDate(),
+                date -> new ArrayList<>());
+        if (!appointmentList.contains(appointment)) {
             appointmentList.add(appointment);
-            appointmentsByDate.put(formattedDate, appointmentList);
         }
     }
 
     /**
      * Removes the appointment from the list of appointments for the date of the appointment.
+     * The date is removed from the map once it has no appointments left.
      *
      * @param appointment the appointment to be removed
      */
     public void removeAppointment(Appointment appointment) {
-        String startDate = dateTmeFormatter(appointment.getStartDateTime());
-        if (appointmentsByDate.containsKey(startDate)) {
-            appointmentsByDate.get(startDate).remove(appointment);
+        requireNonNull(appointment);
+        LocalDate startDate = appointment.getStartDate();
+        List<Appointment> appointmentList = appointmentsByDate.get(startDate);
+        if (appointmentList != null && appointmentList.remove(appointment) && appointmentList.isEmpty()) {
+            appointmentsByDate.remove(startDate);
         }
     }
 
     /**
      * Returns the list of appointments for the given date.
-     * If the date does not exist, a new list is created.
+     * If the date has no appointments, an empty list is returned.
      *
      * @param date the date to get the list of appointments for
-     * @return the list of appointments for the given date
+     * @return an unmodifiable view of the list of appointments for the given date
      */
-    public ObservableList<Appointment> getAppointmentListByDate(LocalDate date) {
-        String formattedDate = dateTmeFormatter(date);
-        if (appointmentsByDate.containsKey(formattedDate)) {
-            return appointmentsByDate.get(formattedDate);
-        }
-        appointmentsByDate.put(formattedDate, FXCollections.observableArrayList());
-        return appointmentsByDate.get(formattedDate);
+    public List<Appointment> getAppointmentListByDate(LocalDate date) {
+        requireNonNull(date);
+        List<Appointment> appointmentList = appointmentsByDate.get(date);
+        return appointmentList == null ? Collections.emptyList() : Collections.unmodifiableList(appointmentList);
     }
 
     /**
-     * Adds a list of appointments to the list of appointments for the date of the first appointment.
-     * If the list is empty, an EmptyListException is thrown.
+     * Returns the appointments starting on any date from {@code startDate} to {@code endDate} inclusive,
+     * ordered by their start date and time.
      *
-     * @param appointmentList the list of appointments to be added
-     * @throws EmptyListException if the list is empty
+     * @param startDate the first date of the range
+     * @param endDate the last date of the range, which must not be before {@code startDate}
+     * @return the appointments in the range
      */
-    public void addAppointmentList(ObservableList<Appointment> appointmentList) throws EmptyListException {
-        if (appointmentList.isEmpty()) {
-            throw new EmptyListException();
+    public List<Appointment> getAppointmentsBetween(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        checkArgument(!endDate.isBefore(startDate), "The end date must not be before the start date.");
+
+        List<Appointment> appointments = new ArrayList<>();
+        for (List<Appointment> appointmentList : appointmentsByDate.subMap(startDate, true, endDate, true).values()) {
+            appointments.addAll(sortByStartDateTime(appointmentList));
         }
-        LocalDateTime startDate = appointmentList.get(0).getStartDateTime();
-        appointmentsByDate.put(dateTmeFormatter(startDate), appointmentList);
+        return appointments;
     }
 
     /**
-     * Formats the date to a string in the format "dd-MM-yyyy".
-     * This is used as the key in the map.
+     * Returns at most {@code count} appointments starting at or after {@code from},
+     * ordered by their start date and time.
      *
-     * @param date the date to be formatted
-     * @return the formatted date
+     * @param from the earliest start date and time of the appointments returned
+     * @param count the maximum number of appointments to return, which must not be negative
+     * @return the upcoming appointments
+     */
+    public List<Appointment> getNextAppointments(LocalDateTime from, int count) {
+        requireNonNull(from);
+        checkArgument(count >= 0, "The number of appointments must not be negative.");
+
+        List<Appointment> appointments = new ArrayList<>();
+        for (List<Appointment> appointmentList : appointmentsByDate.tailMap(from.toLocalDate(), true).values()) {
+            for (Appointment appointment : sortByStartDateTime(appointmentList)) {
+                if (appointments.size() == count) {
+                    return appointments;
+                }
+                if (!appointment.getStartDateTime().isBefore(from)) {
+                    appointments.add(appointment);
+                }
+            }
+        }
+        return appointments;
+    }
+
+    /**
+     * Returns true if there are no appointments on any date.
      */
-    public String dateTmeFormatter(LocalDateTime date) {
-        DateTimeFormatter formatter = DATE_FORMATTER;
-        return date.format(formatter);
+    public boolean isEmpty() {
+        return appointmentsByDate.isEmpty();
     }
+
     /**
-     * Formats the date to a string in the format "dd-MM-yyyy".
-     * This is used as the key in the map.
+     * Replaces the list of appointments for the date of the first appointment with {@code appointmentList}.
+     * If the list is empty, an EmptyListException is thrown.
      *
-     * @param date the date to be formatted
-     * @return the formatted date
+     * @param appointmentList the list of appointments to be added
+     * @throws EmptyListException if the list is empty
      */
-    public String dateTmeFormatter(LocalDate date) {
-        DateTimeFormatter formatter = DATE_FORMATTER;
-        return date.format(formatter);
+    public void addAppointmentList(List<Appointment> appointmentList) throws EmptyListException {
+        requireNonNull(appointmentList);
+        if (appointmentList.isEmpty()) {
+            throw new EmptyListException();
+        }
+        LocalDate startDate = appointmentList.get(0).getStartDate();
+        appointmentsByDate.put(startDate, new ArrayList<>(appointmentList));
     }
 
     /**
@@ -120,10 +152,7 @@ public class AppointmentListByDate {
      * @param appointmentToDelete the appointment to be deleted
      */
     public void deleteAppointment(Appointment appointmentToDelete) {
-        String startDate = dateTmeFormatter(appointmentToDelete.getStartDateTime());
-        if (appointmentsByDate.containsKey(startDate)) {
-            appointmentsByDate.get(startDate).remove(appointmentToDelete);
-        }
+        removeAppointment(appointmentToDelete);
     }
 
     /**
@@ -137,21 +166,35 @@ public class AppointmentListByDate {
      * @throws OverlappingAppointmentException if the edited appointment overlaps with another appointment
      */
     public void replaceAppointment(Appointment target, Appointment editedAppointment) {
-        String startDate = dateTmeFormatter(target.getStartDateTime());
-        if (appointmentsByDate.containsKey(startDate)) {
-            ObservableList<Appointment> currentListOfAppointment = appointmentsByDate.get(startDate);
-            int index = currentListOfAppointment.indexOf(target);
+        requireAllNonNull(target, editedAppointment);
+        List<Appointment> currentListOfAppointment = appointmentsByDate.get(target.getStartDate());
+        if (currentListOfAppointment == null) {
+            return;
+        }
 
-            if (index == -1) {
-                throw new AppointmentNotFoundException();
-            }
+        int index = currentListOfAppointment.indexOf(target);
+        if (index == -1) {
+            throw new AppointmentNotFoundException();
+        }
 
-            if (!target.hasOverlap(editedAppointment)) {
-                throw new OverlappingAppointmentException("Appointment has an overlap!");
-            }
+        if (!target.hasOverlap(editedAppointment)) {
+            throw new OverlappingAppointmentException("Appointment has an overlap!");
+        }
 
+        if (target.getStartDate().equals(editedAppointment.getStartDate())) {
             currentListOfAppointment.set(index, editedAppointment);
-            addAppointment(editedAppointment);
+            return;
         }
+        removeAppointment(target);
+        addAppointment(editedAppointment);
+    }
+
+    /**
+     * Returns a copy of {@code appointmentList} ordered by start date and time.
+     */
+    private static List<Appointment> sortByStartDateTime(List<Appointment> appointmentList) {
+        List<Appointment> sorted = new ArrayList<>(appointmentList);
+        sorted.sort(BY_START_DATE_TIME);
+        return sorted;
     }
 }
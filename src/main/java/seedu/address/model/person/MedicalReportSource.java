@@ -0,0 +1,13 @@
+package seedu.address.model.person;
+
+/**
+ * Loads the medical report of a {@code Person} the first time it is needed, such as from the data it was read from.
+ */
+@FunctionalInterface
+public interface MedicalReportSource {
+
+    /**
+     * Returns a new medical report with the loaded data.
+     */
+    MedicalReport load();
+}
@@ -17,6 +17,10 @@ public class MedicineUsageContainsKeywordsPredicate implements Predicate<Person>
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Person person) {
         List<MedicineName> medicineNames = person.getMedicineUsageNames();
@@ -0,0 +1,206 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.WeakListChangeListener;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.medicineusage.MedicineName;
+import seedu.address.model.medicineusage.MedicineUsage;
+
+/**
+ * An inverted index from medicine names to the patients who have a medicine usage of that medicine.
+ * Medicine names are compared ignoring case, as in {@code MedicineName#isSameName(MedicineName)}.
+ * The index listens to the medicine usages of every indexed patient, so it stays in sync when a
+ * {@code MedicalReport} is changed in place. The listeners are weak so that an index that is no longer used does not
+ * outlive the patients it indexed.
+ * A search only looks at the distinct medicine names in the clinic rather than at every patient.
+ * Patients are indexed when the index is first searched after they were added, so that adding patients does not load
+ * medical reports that are loaded lazily.
+ */
+public class MedicineUsageIndex {
+
+    private final Map<String, Set<Nric>> nricsByMedicineName = new HashMap<>();
+    private final Map<Nric, IndexedPatient> patients = new HashMap<>();
+    private final Map<Nric, Person> pendingPatients = new LinkedHashMap<>();
+    private int version;
+
+    /**
+     * Adds the medicine usages of {@code person} to the index and keeps them in sync from now on.
+     * The medicine usages are indexed when the index is next searched.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        pendingPatients.put(person.getNric(), person);
+        version++;
+    }
+
+    /**
+     * Indexes the medicine usages of the patients added since the index was last searched.
+     */
+    private void indexPendingPatients() {
+        for (Person person : pendingPatients.values()) {
+            IndexedPatient patient = new IndexedPatient(person);
+            patients.put(person.getNric(), patient);
+            person.getMedicineUsages().addListener(patient.weakListener);
+            patient.index();
+        }
+        pendingPatients.clear();
+    }
+
+    /**
+     * Removes the medicine usages of {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        if (pendingPatients.remove(person.getNric()) != null) {
+            version++;
+            return;
+        }
+        IndexedPatient patient = patients.remove(person.getNric());
+        if (patient == null) {
+            return;
+        }
+        patient.person.getMedicineUsages().removeListener(patient.weakListener);
+        patient.unindex();
+    }
+
+    /**
+     * Removes every patient from the index.
+     */
+    public void clear() {
+        for (IndexedPatient patient : patients.values()) {
+            patient.person.getMedicineUsages().removeListener(patient.weakListener);
+        }
+        patients.clear();
+        pendingPatients.clear();
+        nricsByMedicineName.clear();
+        version++;
+    }
+
+    /**
+     * Returns the NRICs of the patients with a medicine usage whose name contains any of {@code keywords},
+     * ignoring case.
+     */
+    public Set<Nric> findPatients(List<String> keywords) {
+        requireNonNull(keywords);
+        indexPendingPatients();
+        Set<Nric> nrics = new LinkedHashSet<>();
+        for (Map.Entry<String, Set<Nric>> entry : nricsByMedicineName.entrySet()) {
+            String medicineName = entry.getKey();
+            boolean isMatch = keywords.stream()
+                    .anyMatch(keyword -> StringUtil.containsPartialWordIgnoreCase(medicineName, keyword));
+            if (isMatch) {
+                nrics.addAll(entry.getValue());
+            }
+        }
+        return nrics;
+    }
+
+    /**
+     * Returns the patients taking the medicine {@code medicineName} on {@code date}.
+     */
+    public List<Person> findPatientsOnMedicine(MedicineName medicineName, LocalDate date) {
+        requireAllNonNull(medicineName, date);
+        indexPendingPatients();
+        List<Person> patientsOnMedicine = new ArrayList<>();
+        for (Nric nric : nricsByMedicineName.getOrDefault(toKey(medicineName), Set.of())) {
+            Person person = patients.get(nric).person;
+            boolean isTakingMedicine = person.getMedicineUsages().stream()
+                    .anyMatch(usage -> usage.getName().isSameName(medicineName)
+                            && !date.isBefore(usage.getStartDate())
+                            && !date.isAfter(usage.getEndDate()));
+            if (isTakingMedicine) {
+                patientsOnMedicine.add(person);
+            }
+        }
+        return patientsOnMedicine;
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that looks up the matching patients in the index
+     * instead of checking the medicine usages of every patient.
+     * The predicate stays in sync with the index as medicine usages are added or removed.
+     */
+    public Predicate<Person> narrow(MedicineUsageContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return new IndexedMedicineUsagePredicate(predicate.getKeywords());
+    }
+
+    private static String toKey(MedicineName medicineName) {
+        return medicineName.fullName.toLowerCase();
+    }
+
+    /**
+     * Represents a patient in the index, together with the medicine names it was indexed under.
+     */
+    private class IndexedPatient implements ListChangeListener<MedicineUsage> {
+        private final Person person;
+        private final Set<String> indexedNames = new LinkedHashSet<>();
+        private final WeakListChangeListener<MedicineUsage> weakListener = new WeakListChangeListener<>(this);
+
+        IndexedPatient(Person person) {
+            this.person = person;
+        }
+
+        @Override
+        public void onChanged(Change<? extends MedicineUsage> change) {
+            unindex();
+            index();
+        }
+
+        void index() {
+            for (MedicineUsage usage : person.getMedicineUsages()) {
+                String key = toKey(usage.getName());
+                indexedNames.add(key);
+                nricsByMedicineName.computeIfAbsent(key, unused -> new LinkedHashSet<>()).add(person.getNric());
+            }
+            version++;
+        }
+
+        void unindex() {
+            for (String key : indexedNames) {
+                Set<Nric> nrics = nricsByMedicineName.get(key);
+                if (nrics != null && nrics.remove(person.getNric()) && nrics.isEmpty()) {
+                    nricsByMedicineName.remove(key);
+                }
+            }
+            indexedNames.clear();
+            version++;
+        }
+    }
+
+    /**
+     * Tests if a patient is in the set of patients the index found for some keywords.
+     * The set is looked up again whenever the index has changed since it was last looked up.
+     */
+    private class IndexedMedicineUsagePredicate implements Predicate<Person> {
+        private final List<String> keywords;
+        private Set<Nric> matchingNrics;
+        private int matchingNricsVersion = -1;
+
+        IndexedMedicineUsagePredicate(List<String> keywords) {
+            this.keywords = keywords;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            if (matchingNricsVersion != version) {
+                matchingNrics = findPatients(keywords);
+                matchingNricsVersion = version;
+            }
+            return matchingNrics.contains(person.getNric());
+        }
+    }
+}
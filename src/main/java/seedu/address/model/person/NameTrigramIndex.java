@@ -0,0 +1,138 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * An inverted index from every three-letter sequence (trigram) of a person's lowercased name to the NRICs of the
+ * persons whose name contains it.
+ * A keyword of at least three letters can only be part of a name that contains every trigram of the keyword, so the
+ * index narrows down the persons a {@code NameContainsKeywordsPredicate} has to be tested on.
+ * Keywords shorter than three letters cannot be narrowed down and match against every person.
+ */
+public class NameTrigramIndex {
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<Nric>> nricsByTrigram = new HashMap<>();
+    private int version;
+
+    /**
+     * Adds the name of {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String trigram : toTrigrams(person.getName().fullName)) {
+            nricsByTrigram.computeIfAbsent(trigram, key -> new HashSet<>()).add(person.getNric());
+        }
+        version++;
+    }
+
+    /**
+     * Removes the name of {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (String trigram : toTrigrams(person.getName().fullName)) {
+            Set<Nric> nrics = nricsByTrigram.get(trigram);
+            if (nrics != null && nrics.remove(person.getNric()) && nrics.isEmpty()) {
+                nricsByTrigram.remove(trigram);
+            }
+        }
+        version++;
+    }
+
+    /**
+     * Removes every name from the index.
+     */
+    public void clear() {
+        nricsByTrigram.clear();
+        version++;
+    }
+
+    /**
+     * Returns the NRICs of the persons whose name may contain any of {@code keywords}, ignoring case,
+     * or null if some keyword is too short to narrow down the persons.
+     * Every person whose name contains one of the keywords is in the returned set, but not every person in the set
+     * has such a name.
+     */
+    public Set<Nric> getCandidates(List<String> keywords) {
+        requireNonNull(keywords);
+        Set<Nric> candidates = new HashSet<>();
+        for (String keyword : keywords) {
+            String preppedKeyword = keyword.trim().toLowerCase();
+            if (preppedKeyword.length() < GRAM_LENGTH) {
+                return null;
+            }
+            candidates.addAll(getCandidates(preppedKeyword));
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that only tests the names of the persons the index
+     * has not ruled out.
+     * The predicate stays in sync with the index as persons are added, edited or removed.
+     */
+    public Predicate<Person> narrow(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return new NarrowedNamePredicate(predicate);
+    }
+
+    private Set<Nric> getCandidates(String keyword) {
+        List<Set<Nric>> postings = new ArrayList<>();
+        for (String trigram : toTrigrams(keyword)) {
+            Set<Nric> nrics = nricsByTrigram.get(trigram);
+            if (nrics == null) {
+                return new HashSet<>();
+            }
+            postings.add(nrics);
+        }
+
+        postings.sort(Comparator.comparingInt(Set::size));
+        Set<Nric> candidates = new HashSet<>(postings.get(0));
+        for (int i = 1; i < postings.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(postings.get(i));
+        }
+        return candidates;
+    }
+
+    private static Set<String> toTrigrams(String text) {
+        String lowerCaseText = text.toLowerCase();
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= lowerCaseText.length(); i++) {
+            trigrams.add(lowerCaseText.substring(i, i + GRAM_LENGTH));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Tests a {@code NameContainsKeywordsPredicate} only on the persons in the candidate set of the index.
+     * The candidate set is looked up again whenever the index has changed since it was last looked up.
+     */
+    private class NarrowedNamePredicate implements Predicate<Person> {
+        private final NameContainsKeywordsPredicate predicate;
+        private Set<Nric> candidates;
+        private int candidatesVersion = -1;
+
+        NarrowedNamePredicate(NameContainsKeywordsPredicate predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            if (candidatesVersion != version) {
+                candidates = getCandidates(predicate.getKeywords());
+                candidatesVersion = version;
+            }
+            return (candidates == null || candidates.contains(person.getNric())) && predicate.test(person);
+        }
+    }
+}
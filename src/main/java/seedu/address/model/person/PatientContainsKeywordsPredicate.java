@@ -0,0 +1,78 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Tests that every keyword given is part of a {@code Person}'s {@code Name}, {@code Nric} or one of its tags,
+ * ignoring case.
+ * The keywords are lower-cased once when the predicate is created, as it is tested against every person on each
+ * keystroke of a live search.
+ */
+public class PatientContainsKeywordsPredicate implements Predicate<Person> {
+    private final List<String> keywords;
+    private final List<String> lowerCaseKeywords;
+
+    /**
+     * Creates a predicate matching the persons containing all of {@code keywords}, each a single word.
+     */
+    public PatientContainsKeywordsPredicate(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = List.copyOf(keywords);
+        this.lowerCaseKeywords = keywords.stream()
+                .map(keyword -> keyword.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toList());
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        String name = person.getName().fullName.toLowerCase(Locale.ROOT);
+        String nric = person.getNric().value.toLowerCase(Locale.ROOT);
+        for (String keyword : lowerCaseKeywords) {
+            if (!name.contains(keyword) && !nric.contains(keyword) && !anyTagContains(person, keyword)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean anyTagContains(Person person, String lowerCaseKeyword) {
+        for (Tag tag : person.getTags()) {
+            if (tag.tagName.toLowerCase(Locale.ROOT).contains(lowerCaseKeyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PatientContainsKeywordsPredicate)) {
+            return false;
+        }
+
+        PatientContainsKeywordsPredicate otherPredicate = (PatientContainsKeywordsPredicate) other;
+        return keywords.equals(otherPredicate.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
@@ -7,6 +8,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
 import javafx.collections.ObservableList;
@@ -19,10 +21,15 @@ import seedu.address.model.tag.Tag;
 
 /**
  * Represents a Person in the klinix.
- * Guarantees: details are present and not null, field values are validated, immutable.
+ * Guarantees: details are present and not null, field values are validated, identity fields and tags are immutable.
+ * The medical report and appointments can be changed in place.
+ * The medical report may be loaded lazily from a {@code MedicalReportSource} the first time it is accessed, after
+ * which the person keeps it. Comparing, hashing and printing a person do not load its medical report for good.
  */
 public class Person {
 
+    private static final String MEDICAL_REPORT_NOT_LOADED = "(not loaded)";
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -33,7 +40,8 @@ public class Person {
     // Data fields
     private final Address address;
     private final Set<Tag> tags = new HashSet<>();
-    private final MedicalReport medicalReport;
+    private volatile MedicalReport medicalReport;
+    private MedicalReportSource medicalReportSource;
     private final AppointmentList appointmentList;
 
     /**
@@ -53,6 +61,17 @@ public class Person {
         this.appointmentList = appointmentList;
     }
 
+    /**
+     * Every field must be present and not null.
+     * The medical report is loaded from {@code medicalReportSource} the first time it is accessed.
+     */
+    public Person(Name name, Phone phone, Email email, Nric nric, BirthDate birthDate, Address address,
+                  Set<Tag> tags, MedicalReportSource medicalReportSource, AppointmentList appointmentList) {
+        this(name, phone, email, nric, birthDate, address, tags, (MedicalReport) null, appointmentList);
+        requireNonNull(medicalReportSource);
+        this.medicalReportSource = medicalReportSource;
+    }
+
     public Name getName() {
         return name;
     }
@@ -96,15 +115,55 @@ public class Person {
      * Returns the medical report of the person.
      */
     public MedicalReport getMedicalReport() {
-        return medicalReport;
+        MedicalReport loadedMedicalReport = medicalReport;
+        if (loadedMedicalReport != null) {
+            return loadedMedicalReport;
+        }
+
+        synchronized (this) {
+            if (medicalReport == null && medicalReportSource != null) {
+                medicalReport = medicalReportSource.load();
+                medicalReportSource = null;
+            }
+            return medicalReport;
+        }
+    }
+
+    /**
+     * Returns the source of the medical report of the person if it has not been loaded yet, so that it can be passed
+     * on without loading it.
+     */
+    public synchronized Optional<MedicalReportSource> getUnloadedMedicalReport() {
+        return Optional.ofNullable(medicalReportSource);
+    }
+
+    /**
+     * Returns the medical report of the person without keeping it if it has not been loaded yet.
+     */
+    private MedicalReport peekMedicalReport() {
+        Optional<MedicalReportSource> unloadedMedicalReport = getUnloadedMedicalReport();
+        return unloadedMedicalReport.isPresent() ? unloadedMedicalReport.get().load() : medicalReport;
+    }
+
+    /**
+     * Returns true if this person and {@code otherPerson} have equal medical reports.
+     * Reports that are both unloaded from equal sources are equal without being loaded.
+     */
+    private boolean hasSameMedicalReport(Person otherPerson) {
+        Optional<MedicalReportSource> unloadedMedicalReport = getUnloadedMedicalReport();
+        Optional<MedicalReportSource> otherUnloadedMedicalReport = otherPerson.getUnloadedMedicalReport();
+        if (unloadedMedicalReport.isPresent() && unloadedMedicalReport.equals(otherUnloadedMedicalReport)) {
+            return true;
+        }
+        return Objects.equals(peekMedicalReport(), otherPerson.peekMedicalReport());
     }
 
     public ObservableList<MedicineUsage> getMedicineUsages() {
-        return medicalReport.getMedicineUsages();
+        return getMedicalReport().getMedicineUsages();
     }
 
     public void deleteMedicineUsage(MedicineUsage medicineUsage) {
-        medicalReport.remove(medicineUsage);
+        getMedicalReport().remove(medicineUsage);
     }
 
     public List<MedicineName> getMedicineUsageNames() {
@@ -133,13 +192,33 @@ public class Person {
     }
 
     public void addMedicineUsage(MedicineUsage toAdd) {
-        medicalReport.add(toAdd);
+        getMedicalReport().add(toAdd);
     }
 
     public void setAppointment(List<Appointment> newData) {
         appointmentList.setAppointment(newData);
     }
 
+    /**
+     * Returns a copy of this person that is not affected by later changes to its medical report or appointments.
+     * A medical report that has not been loaded yet is shared rather than loaded and copied.
+     */
+    public Person copy() {
+        AppointmentList appointmentListCopy = new AppointmentList();
+        appointmentListCopy.setAppointment(getAppointments());
+        Optional<MedicalReportSource> unloadedMedicalReport = getUnloadedMedicalReport();
+        if (unloadedMedicalReport.isPresent()) {
+            return new Person(name, phone, email, nric, birthDate, address, tags, unloadedMedicalReport.get(),
+                    appointmentListCopy);
+        }
+
+        MedicalReport medicalReport = getMedicalReport();
+        MedicalReport medicalReportCopy = new MedicalReport(medicalReport.getAllergens(),
+                medicalReport.getIllnesses(), medicalReport.getSurgeries(), medicalReport.getImmunizations());
+        medicalReportCopy.setMedicineUsages(medicalReport.getMedicineUsages());
+        return new Person(name, phone, email, nric, birthDate, address, tags, medicalReportCopy, appointmentListCopy);
+    }
+
     /**
      * Returns true if both persons have the same name.
      * This defines a weaker notion of equality between two persons.
@@ -180,14 +259,18 @@ public class Person {
                 && phone.equals(otherPerson.phone) && email.equals(otherPerson.email)
                 && birthDate.equals(otherPerson.birthDate) && address.equals(otherPerson.address)
                 && tags.equals(otherPerson.tags)
-                && medicalReport.equals(otherPerson.medicalReport)
+                && hasSameMedicalReport(otherPerson)
                 && appointmentList.equals(otherPerson.appointmentList);
     }
 
 
+    /**
+     * Returns a hash code of the person that leaves out the medical report, so that it can be computed without
+     * loading the report.
+     */
     @Override
     public int hashCode() {
-        return Objects.hash(name, phone, email, nric, birthDate, address, tags, medicalReport, appointmentList);
+        return Objects.hash(name, phone, email, nric, birthDate, address, tags, appointmentList);
     }
 
     @Override
@@ -195,7 +278,8 @@ public class Person {
         return new ToStringBuilder(this).add("name", name)
                 .add("phone", phone).add("email", email)
                 .add("nric", nric).add("birthDate", birthDate).add("address", address)
-                .add("tags", tags).add("medicalReport", medicalReport)
+                .add("tags", tags).add("medicalReport", getUnloadedMedicalReport().isPresent()
+                        ? MEDICAL_REPORT_NOT_LOADED : medicalReport)
                 .add("appointmentList", appointmentList).toString();
     }
 }
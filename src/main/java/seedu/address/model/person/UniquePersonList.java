@@ -3,11 +3,18 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.medicineusage.MedicineName;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -18,6 +25,13 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Since two persons are the same person exactly when their NRICs are equal, an NRIC-keyed index is kept alongside
+ * the backing list so that identity lookups and uniqueness checks do not need to scan every person. The names of the
+ * persons are also kept by NRIC string, so that appointments, which refer to their patient by NRIC string, can show
+ * the patient's name without building an {@code Nric} or looking at the person. Likewise, a {@code NameTrigramIndex}
+ * over the names of the persons narrows down the persons a name search has to look at, and a
+ * {@code MedicineUsageIndex} finds the persons taking a medicine without looking at every person.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,13 +41,59 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Nric, Person> personsByNric = new HashMap<>();
+    private final Map<String, String> namesByNric = new HashMap<>();
+    private final NameTrigramIndex nameIndex = new NameTrigramIndex();
+    private final MedicineUsageIndex medicineUsageIndex = new MedicineUsageIndex();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByNric.containsKey(toCheck.getNric());
+    }
+
+    /**
+     * Returns the person with the given {@code nric}, or null if there is no such person in the list.
+     */
+    public Person findPersonByNric(Nric nric) {
+        requireNonNull(nric);
+        return personsByNric.get(nric);
+    }
+
+    /**
+     * Returns the name of the person whose NRIC is {@code nric}, or null if there is no such person in the list.
+     */
+    public String findPersonNameByNric(String nric) {
+        requireNonNull(nric);
+        return namesByNric.get(nric);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that uses the name index of this list
+     * to skip persons whose name cannot match.
+     */
+    public Predicate<Person> narrowByName(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return nameIndex.narrow(predicate);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that looks up the matching persons in the
+     * medicine usage index of this list.
+     */
+    public Predicate<Person> narrowByMedicineUsage(MedicineUsageContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return medicineUsageIndex.narrow(predicate);
+    }
+
+    /**
+     * Returns the persons in the list taking the medicine {@code medicineName} on {@code date}.
+     */
+    public List<Person> findPersonsOnMedicine(MedicineName medicineName, LocalDate date) {
+        requireAllNonNull(medicineName, date);
+        return medicineUsageIndex.findPatientsOnMedicine(medicineName, date);
     }
 
     /**
@@ -41,11 +101,41 @@ public class UniquePersonList implements Iterable<Person> {
      * The person must not already exist in the list.
      */
     public void add(Person toAdd) {
+        add(internalList.size(), toAdd);
+    }
+
+    /**
+     * Adds a person to the list at {@code index}.
+     * The person must not already exist in the list.
+     */
+    public void add(int index, Person toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        internalList.add(index, toAdd);
+        personsByNric.put(toAdd.getNric(), toAdd);
+        namesByNric.put(toAdd.getNric().value, toAdd.getName().fullName);
+        nameIndex.add(toAdd);
+        medicineUsageIndex.add(toAdd);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the end of the list in one step.
+     * {@code toAdd} must not contain duplicate persons, or persons that already exist in the list.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        if (!personsAreUnique(toAdd) || toAdd.stream().anyMatch(this::contains)) {
+            throw new DuplicatePersonException();
+        }
+        internalList.addAll(toAdd);
+        for (Person person : toAdd) {
+            personsByNric.put(person.getNric(), person);
+            namesByNric.put(person.getNric().value, person.getName().fullName);
+            nameIndex.add(person);
+            medicineUsageIndex.add(person);
+        }
     }
 
     /**
@@ -66,6 +156,29 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.set(index, editedPerson);
+        personsByNric.remove(target.getNric());
+        personsByNric.put(editedPerson.getNric(), editedPerson);
+        namesByNric.remove(target.getNric().value);
+        namesByNric.put(editedPerson.getNric().value, editedPerson.getName().fullName);
+        nameIndex.remove(target);
+        nameIndex.add(editedPerson);
+        medicineUsageIndex.remove(target);
+        medicineUsageIndex.add(editedPerson);
+    }
+
+    /**
+     * Notifies the observers of the list that {@code target} was changed in place, such as its medical report or
+     * appointments, as a change to that element only.
+     * {@code target} must exist in the list.
+     */
+    public void refresh(Person target) {
+        requireNonNull(target);
+
+        int index = internalList.indexOf(target);
+        if (index == -1) {
+            throw new PersonNotFoundException();
+        }
+        internalList.set(index, target);
     }
 
     /**
@@ -77,11 +190,23 @@ public class UniquePersonList implements Iterable<Person> {
         if (!internalList.remove(toRemove)) {
             throw new PersonNotFoundException();
         }
+        personsByNric.remove(toRemove.getNric());
+        namesByNric.remove(toRemove.getNric().value);
+        nameIndex.remove(toRemove);
+        medicineUsageIndex.remove(toRemove);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        personsByNric.clear();
+        personsByNric.putAll(replacement.personsByNric);
+        namesByNric.clear();
+        namesByNric.putAll(replacement.namesByNric);
+        nameIndex.clear();
+        replacement.internalList.forEach(nameIndex::add);
+        medicineUsageIndex.clear();
+        replacement.internalList.forEach(medicineUsageIndex::add);
     }
 
     /**
@@ -95,6 +220,16 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.setAll(persons);
+        personsByNric.clear();
+        namesByNric.clear();
+        nameIndex.clear();
+        medicineUsageIndex.clear();
+        for (Person person : persons) {
+            personsByNric.put(person.getNric(), person);
+            namesByNric.put(person.getNric().value, person.getName().fullName);
+            nameIndex.add(person);
+            medicineUsageIndex.add(person);
+        }
     }
 
     /**
@@ -138,11 +273,10 @@ public class UniquePersonList implements Iterable<Person> {
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Nric> seenNrics = new HashSet<>();
+        for (Person person : persons) {
+            if (!seenNrics.add(person.getNric())) {
+                return false;
             }
         }
         return true;
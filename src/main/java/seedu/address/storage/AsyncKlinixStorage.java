@@ -0,0 +1,235 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.Klinix;
+import seedu.address.model.ReadOnlyKlinix;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code KlinixStorage} that writes the klinix data on a single background writer thread, so that saving does not
+ * wait for the data to be serialized and written.
+ * Saving copies the persons changed since the previous save, and the writer thread applies these copies to its own
+ * klinix before writing it through the underlying storage. Saves made while a write is in progress are coalesced
+ * into one write.
+ * A failed write is reported to the save failure handler, and its changes are written again by the next write.
+ */
+public class AsyncKlinixStorage implements KlinixStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncKlinixStorage.class);
+
+    private final KlinixStorage klinixStorage;
+    private final ExecutorService writer;
+
+    // Guarded by this.
+    private final Map<Nric, Person> pendingChanges = new LinkedHashMap<>();
+    private List<Person> pendingReplacement;
+    private boolean isWriteScheduled;
+    private IOException lastFailure;
+    private Consumer<IOException> saveFailureHandler = failure -> {};
+    private ReadOnlyKlinix submittedKlinix;
+    private long submittedVersion;
+
+    // Accessed only by the writer thread.
+    private Klinix writtenKlinix;
+
+    /**
+     * Creates an {@code AsyncKlinixStorage} that writes the klinix data through {@code klinixStorage}.
+     */
+    public AsyncKlinixStorage(KlinixStorage klinixStorage) {
+        requireNonNull(klinixStorage);
+        this.klinixStorage = klinixStorage;
+        writer = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "klinix-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the handler that is given the exception of every failed write.
+     * The handler is called on the writer thread.
+     */
+    public synchronized void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    @Override
+    public Path getKlinixFilePath() {
+        return klinixStorage.getKlinixFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyKlinix> readKlinix() throws DataLoadingException {
+        return readKlinix(getKlinixFilePath());
+    }
+
+    /**
+     * Similar to {@link #readKlinix()}, but waits for the pending writes to finish before reading.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyKlinix> readKlinix(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        try {
+            awaitPendingWrites();
+        } catch (InterruptedIOException e) {
+            throw new DataLoadingException(e);
+        }
+        return klinixStorage.readKlinix(filePath);
+    }
+
+    /**
+     * Schedules {@code klinix} to be written to the data file, and returns without waiting for the write.
+     * Only the persons changed since the previous save are copied, unless {@code klinix} is not the klinix saved last
+     * time or all its persons have been replaced.
+     */
+    @Override
+    public void saveKlinix(ReadOnlyKlinix klinix) {
+        requireNonNull(klinix);
+
+        synchronized (this) {
+            Optional<List<Nric>> changedNrics = klinix == submittedKlinix
+                    ? klinix.getNricsChangedSince(submittedVersion)
+                    : Optional.empty();
+            if (changedNrics.isEmpty()) {
+                pendingReplacement = klinix.getPersonList().stream()
+                        .map(Person::copy)
+                        .collect(Collectors.toList());
+                pendingChanges.clear();
+            } else {
+                for (Nric nric : changedNrics.get()) {
+                    Person person = klinix.findPersonByNric(nric);
+                    pendingChanges.put(nric, person == null ? null : person.copy());
+                }
+            }
+            submittedKlinix = klinix;
+            submittedVersion = klinix.getModificationVersion();
+
+            boolean hasNothingToWrite = changedNrics.map(List::isEmpty).orElse(false) && lastFailure == null;
+            if (hasNothingToWrite || isWriteScheduled) {
+                return;
+            }
+            isWriteScheduled = true;
+        }
+        writer.execute(this::write);
+    }
+
+    /**
+     * Writes {@code klinix} to {@code filePath} once the pending writes have finished.
+     * Saving to the data file is the same as {@link #saveKlinix(ReadOnlyKlinix)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveKlinix(ReadOnlyKlinix klinix, Path filePath) throws IOException {
+        requireAllNonNull(klinix, filePath);
+        if (filePath.equals(getKlinixFilePath())) {
+            saveKlinix(klinix);
+            return;
+        }
+
+        awaitPendingWrites();
+        klinixStorage.saveKlinix(klinix, filePath);
+    }
+
+    /**
+     * Waits until all the klinix data saved so far has been written.
+     *
+     * @throws IOException if the last write failed, or if interrupted while waiting.
+     */
+    public void flush() throws IOException {
+        awaitPendingWrites();
+        synchronized (this) {
+            if (lastFailure != null) {
+                throw lastFailure;
+            }
+        }
+    }
+
+    private void awaitPendingWrites() throws InterruptedIOException {
+        CountDownLatch pendingWritesDone = new CountDownLatch(1);
+        writer.execute(pendingWritesDone::countDown);
+        try {
+            pendingWritesDone.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for klinix data to be written.");
+        }
+    }
+
+    /**
+     * Applies the pending replacement and changes to the klinix of the writer thread, and writes it.
+     */
+    private void write() {
+        List<Person> replacement;
+        Map<Nric, Person> changes;
+        synchronized (this) {
+            replacement = pendingReplacement;
+            changes = new LinkedHashMap<>(pendingChanges);
+            pendingReplacement = null;
+            pendingChanges.clear();
+            isWriteScheduled = false;
+        }
+
+        if (replacement != null) {
+            writtenKlinix = new Klinix();
+            writtenKlinix.setPersons(replacement);
+        }
+        changes.forEach(this::applyChange);
+
+        try {
+            klinixStorage.saveKlinix(writtenKlinix);
+            synchronized (this) {
+                lastFailure = null;
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to write klinix data to " + getKlinixFilePath() + ": " + StringUtil.getDetails(e));
+            Consumer<IOException> handler;
+            synchronized (this) {
+                lastFailure = e;
+                handler = saveFailureHandler;
+            }
+            handler.accept(e);
+        }
+    }
+
+    /**
+     * Puts {@code person} in the klinix of the writer thread, or removes the person with {@code nric} from it if
+     * {@code person} is null.
+     */
+    private void applyChange(Nric nric, Person person) {
+        Person writtenPerson = writtenKlinix.findPersonByNric(nric);
+        if (person == null) {
+            if (writtenPerson != null) {
+                writtenKlinix.removePerson(writtenPerson);
+            }
+        } else if (writtenPerson == null) {
+            writtenKlinix.addPerson(person);
+        } else {
+            writtenKlinix.setPerson(writtenPerson, person);
+        }
+    }
+}
@@ -0,0 +1,589 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.DateUtil.DATE_FORMATTER;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.Klinix;
+import seedu.address.model.ReadOnlyKlinix;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentList;
+import seedu.address.model.medicineusage.Dosage;
+import seedu.address.model.medicineusage.MedicineName;
+import seedu.address.model.medicineusage.MedicineUsage;
+import seedu.address.model.medicineusage.MedicineUsageList;
+import seedu.address.model.medicineusage.exceptions.OverlappingMedicineUsageException;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.BirthDate;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.MedicalReport;
+import seedu.address.model.person.MedicalReportSource;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access Klinix data stored in a compact binary file on the hard disk.
+ * <p>
+ * The file starts with a magic number and a format version, followed by a table of every distinct string in the
+ * data, and then one record per person. Records refer to strings by their index in the table, store dates as epoch
+ * days and date-times as epoch seconds, and are prefixed with their length so that a reader can skip fields added by
+ * later format versions.
+ * <p>
+ * In lazy loading mode, the medical report of each person is validated when the file is read but only decoded the
+ * first time it is accessed. Until then, the person keeps just the encoded bytes of its medical report, which are
+ * written back to the file as they are.
+ */
+public class BinaryKlinixStorage implements ImportableKlinixStorage {
+
+    public static final String BINARY_FILE_EXTENSION = ".bin";
+    public static final int FORMAT_VERSION = 1;
+
+    static final int MAGIC_NUMBER = 0x4B4C4E58; // "KLNX"
+    static final String MESSAGE_NOT_BINARY_FILE = "File is not a Klinix binary data file.";
+    static final String MESSAGE_UNSUPPORTED_VERSION = "Klinix binary data file has unsupported format version %d.";
+    static final String MESSAGE_INVALID_STRING_INDEX = "Klinix binary data file refers to a missing string %d.";
+    static final String MESSAGE_INVALID_LENGTH = "Klinix binary data file has an invalid length %d.";
+    static final String MESSAGE_MALFORMED_RECORD = "Klinix binary data file has a malformed person record.";
+
+    private static final int NULL_STRING_INDEX = -1;
+    private static final int MEDICAL_REPORT_FIELD_COUNT = 4;
+    private static final int LOAD_BATCH_SIZE = 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryKlinixStorage.class);
+
+    private final Path filePath;
+    private final boolean isLazyLoading;
+
+    public BinaryKlinixStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a storage for the binary data file at {@code filePath}, which loads the medical reports of persons
+     * lazily if {@code isLazyLoading}.
+     */
+    public BinaryKlinixStorage(Path filePath, boolean isLazyLoading) {
+        this.filePath = filePath;
+        this.isLazyLoading = isLazyLoading;
+    }
+
+    /**
+     * Returns the path of the binary data file that takes the place of the JSON data file at {@code jsonFilePath}.
+     */
+    public static Path toBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return jsonFilePath.resolveSibling(baseName + BINARY_FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getKlinixFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyKlinix> readKlinix() throws DataLoadingException {
+        return readKlinix(filePath);
+    }
+
+    /**
+     * Similar to {@link #readKlinix()}.
+     * If the file cannot be loaded, its newest backup that can be loaded is read instead.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyKlinix> readKlinix(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        return new DataFileBackups(filePath).read(this::readKlinixFile);
+    }
+
+    /**
+     * Reads the klinix in the binary file at {@code filePath}, without falling back to its backups.
+     */
+    private Optional<ReadOnlyKlinix> readKlinixFile(Path filePath) throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            return Optional.of(readKlinix(in, isLazyLoading));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveKlinix(ReadOnlyKlinix klinix) throws IOException {
+        saveKlinix(klinix, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveKlinix(ReadOnlyKlinix)}.
+     * The data is written to a temporary file that replaces the old file once it is complete, and the old file is kept
+     * as a backup.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveKlinix(ReadOnlyKlinix klinix, Path filePath) throws IOException {
+        requireNonNull(klinix);
+        requireNonNull(filePath);
+
+        DataFileBackups backups = new DataFileBackups(filePath);
+        FileUtil.writeAtomically(filePath, out -> {
+            try (DataOutputStream dataOut = new DataOutputStream(new BufferedOutputStream(out))) {
+                writeKlinix(klinix, dataOut);
+            }
+        }, backups.getNewBackupFilePath());
+        backups.deleteOldBackups();
+    }
+
+    /**
+     * Writes the data in the binary data file to {@code target}, such as a {@code JsonKlinixStorage}.
+     * Does nothing if the binary data file does not exist.
+     *
+     * @return true if data was exported.
+     * @throws DataLoadingException if reading the binary data file failed.
+     * @throws IOException if writing the data to {@code target} failed.
+     */
+    public boolean exportTo(KlinixStorage target) throws DataLoadingException, IOException {
+        requireNonNull(target);
+        Optional<ReadOnlyKlinix> klinix = readKlinix();
+        if (klinix.isEmpty()) {
+            return false;
+        }
+        target.saveKlinix(klinix.get());
+        return true;
+    }
+
+    //// writing
+
+    private static void writeKlinix(ReadOnlyKlinix klinix, DataOutputStream out) throws IOException {
+        List<Person> persons = klinix.getPersonList();
+        Map<String, Integer> stringTable = new LinkedHashMap<>();
+        for (Person person : persons) {
+            forEachString(person, string -> stringTable.putIfAbsent(string, stringTable.size()));
+        }
+
+        out.writeInt(MAGIC_NUMBER);
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(stringTable.size());
+        for (String string : stringTable.keySet()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        out.writeInt(persons.size());
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+        for (Person person : persons) {
+            recordBytes.reset();
+            writePerson(person, record, stringTable);
+            out.writeInt(recordBytes.size());
+            recordBytes.writeTo(out);
+        }
+    }
+
+    /**
+     * Passes every string stored in the record of {@code person} to {@code consumer}.
+     */
+    private static void forEachString(Person person, Consumer<String> consumer) {
+        consumer.accept(person.getName().fullName);
+        consumer.accept(person.getPhone().value);
+        consumer.accept(person.getEmail().value);
+        consumer.accept(person.getNric().value);
+        consumer.accept(person.getAddress().value);
+        person.getTags().forEach(tag -> consumer.accept(tag.tagName));
+
+        Optional<EncodedMedicalReport> encodedMedicalReport = getEncodedMedicalReport(person);
+        if (encodedMedicalReport.isPresent()) {
+            encodedMedicalReport.get().forEachString(consumer);
+        } else {
+            MedicalReport medicalReport = person.getMedicalReport();
+            consumer.accept(medicalReport.getAllergens());
+            consumer.accept(medicalReport.getIllnesses());
+            consumer.accept(medicalReport.getSurgeries());
+            consumer.accept(medicalReport.getImmunizations());
+            for (MedicineUsage medicineUsage : medicalReport.getMedicineUsages()) {
+                consumer.accept(medicineUsage.getName().fullName);
+                consumer.accept(medicineUsage.getDosage().dosage);
+            }
+        }
+
+        for (Appointment appointment : person.getAppointments()) {
+            consumer.accept(appointment.getDescription());
+            if (appointment.getPatientNric() != null) {
+                consumer.accept(appointment.getPatientNric());
+            }
+        }
+    }
+
+    private static void writePerson(Person person, DataOutput out, Map<String, Integer> stringTable)
+            throws IOException {
+        out.writeInt(stringTable.get(person.getName().fullName));
+        out.writeInt(stringTable.get(person.getPhone().value));
+        out.writeInt(stringTable.get(person.getEmail().value));
+        out.writeInt(stringTable.get(person.getNric().value));
+        out.writeLong(person.getBirthDate().value.toEpochDay());
+        out.writeInt(stringTable.get(person.getAddress().value));
+        out.writeInt(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            out.writeInt(stringTable.get(tag.tagName));
+        }
+
+        Optional<EncodedMedicalReport> encodedMedicalReport = getEncodedMedicalReport(person);
+        if (encodedMedicalReport.isPresent()) {
+            encodedMedicalReport.get().writeTo(out, stringTable);
+        } else {
+            writeMedicalReport(person.getMedicalReport(), out, stringTable);
+        }
+
+        out.writeInt(person.getAppointments().size());
+        for (Appointment appointment : person.getAppointments()) {
+            out.writeInt(stringTable.get(appointment.getDescription()));
+            out.writeLong(appointment.getStartDateTime().toEpochSecond(ZoneOffset.UTC));
+            out.writeLong(appointment.getEndDateTime().toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(appointment.getPatientNric() == null
+                    ? NULL_STRING_INDEX
+                    : stringTable.get(appointment.getPatientNric()));
+            out.writeBoolean(appointment.getVisited());
+        }
+    }
+
+    private static void writeMedicalReport(MedicalReport medicalReport, DataOutput out,
+            Map<String, Integer> stringTable) throws IOException {
+        out.writeInt(stringTable.get(medicalReport.getAllergens()));
+        out.writeInt(stringTable.get(medicalReport.getIllnesses()));
+        out.writeInt(stringTable.get(medicalReport.getSurgeries()));
+        out.writeInt(stringTable.get(medicalReport.getImmunizations()));
+        out.writeInt(medicalReport.getMedicineUsages().size());
+        for (MedicineUsage medicineUsage : medicalReport.getMedicineUsages()) {
+            out.writeInt(stringTable.get(medicineUsage.getName().fullName));
+            out.writeInt(stringTable.get(medicineUsage.getDosage().dosage));
+            out.writeLong(medicineUsage.getStartDate().toEpochDay());
+            out.writeLong(medicineUsage.getEndDate().toEpochDay());
+        }
+    }
+
+    /**
+     * Returns the encoded medical report of {@code person}, if it was read lazily from a binary data file and has not
+     * been loaded since.
+     */
+    private static Optional<EncodedMedicalReport> getEncodedMedicalReport(Person person) {
+        return person.getUnloadedMedicalReport()
+                .filter(source -> source instanceof EncodedMedicalReport)
+                .map(source -> (EncodedMedicalReport) source);
+    }
+
+    //// reading
+
+    private static Klinix readKlinix(DataInputStream in, boolean isLazyLoading)
+            throws IOException, IllegalValueException {
+        if (in.readInt() != MAGIC_NUMBER) {
+            throw new IOException(MESSAGE_NOT_BINARY_FILE);
+        }
+        int version = in.readInt();
+        if (version < 1 || version > FORMAT_VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        String[] stringTable = new String[readLength(in)];
+        for (int i = 0; i < stringTable.length; i++) {
+            byte[] bytes = new byte[readLength(in)];
+            in.readFully(bytes);
+            stringTable[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        ParallelPersonLoader<byte[]> loader =
+                new ParallelPersonLoader<>(record -> readPerson(record, stringTable, isLazyLoading));
+        int personCount = readLength(in);
+        List<byte[]> batch = new ArrayList<>();
+        for (int i = 0; i < personCount; i++) {
+            byte[] record = new byte[readLength(in)];
+            in.readFully(record);
+            batch.add(record);
+            if (batch.size() == LOAD_BATCH_SIZE) {
+                loader.addBatch(batch);
+                batch.clear();
+            }
+        }
+        loader.addBatch(batch);
+        return loader.toKlinix();
+    }
+
+    /**
+     * Reads a person from the bytes of its record. Data after the fields known to this format version is ignored.
+     * If {@code isLazyLoading}, the medical report is validated but left encoded.
+     *
+     * @throws IllegalValueException if the record is malformed, or there were any data constraints violated in it.
+     */
+    private static Person readPerson(byte[] record, String[] stringTable, boolean isLazyLoading)
+            throws IllegalValueException {
+        ByteArrayInputStream recordBytes = new ByteArrayInputStream(record);
+        DataInputStream in = new DataInputStream(recordBytes);
+        try {
+            Name name = new Name(readString(in, stringTable));
+            Phone phone = new Phone(readString(in, stringTable));
+            Email email = new Email(readString(in, stringTable));
+            Nric nric = new Nric(readString(in, stringTable));
+            BirthDate birthDate = new BirthDate(LocalDate.ofEpochDay(in.readLong()).format(DATE_FORMATTER));
+            Address address = new Address(readString(in, stringTable));
+            Set<Tag> tags = new HashSet<>();
+            for (int i = in.readInt(); i > 0; i--) {
+                tags.add(new Tag(readString(in, stringTable)));
+            }
+
+            int medicalReportStart = record.length - recordBytes.available();
+            MedicalReport medicalReport = null;
+            if (isLazyLoading) {
+                validateMedicalReport(in, stringTable);
+            } else {
+                medicalReport = readMedicalReport(in, stringTable);
+            }
+            int medicalReportEnd = record.length - recordBytes.available();
+
+            AppointmentList appointmentList = new AppointmentList();
+            for (int i = in.readInt(); i > 0; i--) {
+                appointmentList.add(new Appointment(readString(in, stringTable),
+                        LocalDateTime.ofEpochSecond(in.readLong(), 0, ZoneOffset.UTC),
+                        LocalDateTime.ofEpochSecond(in.readLong(), 0, ZoneOffset.UTC),
+                        readNullableString(in, stringTable), in.readBoolean()));
+            }
+
+            if (isLazyLoading) {
+                EncodedMedicalReport encodedMedicalReport = new EncodedMedicalReport(
+                        Arrays.copyOfRange(record, medicalReportStart, medicalReportEnd), stringTable);
+                return new Person(name, phone, email, nric, birthDate, address, tags, encodedMedicalReport,
+                        appointmentList);
+            }
+            return new Person(name, phone, email, nric, birthDate, address, tags, medicalReport, appointmentList);
+        } catch (IOException e) {
+            throw new IllegalValueException(MESSAGE_MALFORMED_RECORD, e);
+        } catch (IllegalArgumentException | DateTimeException | OverlappingMedicineUsageException e) {
+            throw new IllegalValueException(e.getMessage(), e);
+        }
+    }
+
+    private static MedicalReport readMedicalReport(DataInput in, String[] stringTable) throws IOException {
+        MedicalReport medicalReport = new MedicalReport(readString(in, stringTable),
+                readString(in, stringTable), readString(in, stringTable), readString(in, stringTable));
+        List<MedicineUsage> medicineUsages = new ArrayList<>();
+        for (int i = in.readInt(); i > 0; i--) {
+            medicineUsages.add(new MedicineUsage(new MedicineName(readString(in, stringTable)),
+                    new Dosage(readString(in, stringTable)),
+                    LocalDate.ofEpochDay(in.readLong()), LocalDate.ofEpochDay(in.readLong())));
+        }
+        medicalReport.setMedicineUsages(medicineUsages);
+        return medicalReport;
+    }
+
+    /**
+     * Checks that a medical report can be read by {@link #readMedicalReport(DataInput, String[])}, without keeping
+     * the objects of the medical report. Only the medicine usages of a medical report with several of them are
+     * built, to check that they do not overlap.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the medical report.
+     */
+    private static void validateMedicalReport(DataInput in, String[] stringTable)
+            throws IOException, IllegalValueException {
+        for (int i = 0; i < MEDICAL_REPORT_FIELD_COUNT; i++) {
+            readString(in, stringTable);
+        }
+
+        int medicineUsageCount = in.readInt();
+        List<MedicineUsage> medicineUsages = new ArrayList<>();
+        for (int i = medicineUsageCount; i > 0; i--) {
+            String medicineName = readString(in, stringTable);
+            String dosage = readString(in, stringTable);
+            LocalDate startDate = LocalDate.ofEpochDay(in.readLong());
+            LocalDate endDate = LocalDate.ofEpochDay(in.readLong());
+            if (!MedicineName.isValidName(medicineName)) {
+                throw new IllegalValueException(MedicineName.MESSAGE_CONSTRAINTS);
+            }
+            if (!Dosage.isValidDosage(dosage)) {
+                throw new IllegalValueException(Dosage.MESSAGE_CONSTRAINTS);
+            }
+            if (medicineUsageCount > 1) {
+                medicineUsages.add(new MedicineUsage(new MedicineName(medicineName), new Dosage(dosage),
+                        startDate, endDate));
+            }
+        }
+        if (medicineUsages.size() > 1) {
+            new MedicineUsageList().setMedicineUsages(medicineUsages);
+        }
+    }
+
+    /**
+     * A medical report read lazily from a binary data file, kept as the bytes it was encoded in, together with the
+     * string table they refer to. The bytes were validated when they were read, so they can always be decoded.
+     */
+    private static class EncodedMedicalReport implements MedicalReportSource {
+        private final byte[] bytes;
+        private final String[] stringTable;
+
+        EncodedMedicalReport(byte[] bytes, String[] stringTable) {
+            this.bytes = bytes;
+            this.stringTable = stringTable;
+        }
+
+        @Override
+        public MedicalReport load() {
+            try {
+                return readMedicalReport(newInput(), stringTable);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        /**
+         * Returns true if {@code other} has the same bytes referring to the same string table, so that both decode to
+         * equal medical reports. Reports from different files are not equal here even if they decode to equal reports.
+         */
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof EncodedMedicalReport)) {
+                return false;
+            }
+
+            EncodedMedicalReport otherEncodedMedicalReport = (EncodedMedicalReport) other;
+            return stringTable == otherEncodedMedicalReport.stringTable
+                    && Arrays.equals(bytes, otherEncodedMedicalReport.bytes);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(bytes);
+        }
+
+        /**
+         * Passes every string in the medical report to {@code consumer}.
+         */
+        void forEachString(Consumer<String> consumer) {
+            try {
+                transcode(consumer, null, null);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        /**
+         * Writes the medical report to {@code out}, referring to the strings by their index in {@code stringTable}.
+         */
+        void writeTo(DataOutput out, Map<String, Integer> stringTable) throws IOException {
+            transcode(string -> { }, out, stringTable);
+        }
+
+        /**
+         * Reads the medical report, passing every string in it to {@code consumer}, and writes it to {@code out} with
+         * the strings referring to {@code targetStringTable} if {@code out} is not null.
+         */
+        private void transcode(Consumer<String> consumer, DataOutput out, Map<String, Integer> targetStringTable)
+                throws IOException {
+            DataInput in = newInput();
+            for (int i = 0; i < MEDICAL_REPORT_FIELD_COUNT; i++) {
+                transcodeString(in, consumer, out, targetStringTable);
+            }
+            int medicineUsageCount = in.readInt();
+            if (out != null) {
+                out.writeInt(medicineUsageCount);
+            }
+            for (int i = medicineUsageCount; i > 0; i--) {
+                transcodeString(in, consumer, out, targetStringTable);
+                transcodeString(in, consumer, out, targetStringTable);
+                long startEpochDay = in.readLong();
+                long endEpochDay = in.readLong();
+                if (out != null) {
+                    out.writeLong(startEpochDay);
+                    out.writeLong(endEpochDay);
+                }
+            }
+        }
+
+        private void transcodeString(DataInput in, Consumer<String> consumer, DataOutput out,
+                Map<String, Integer> targetStringTable) throws IOException {
+            String string = readString(in, stringTable);
+            consumer.accept(string);
+            if (out != null) {
+                out.writeInt(targetStringTable.get(string));
+            }
+        }
+
+        private DataInput newInput() {
+            return new DataInputStream(new ByteArrayInputStream(bytes));
+        }
+    }
+
+    private static int readLength(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IOException(String.format(MESSAGE_INVALID_LENGTH, length));
+        }
+        return length;
+    }
+
+    private static String readString(DataInput in, String[] stringTable) throws IOException {
+        String string = readNullableString(in, stringTable);
+        if (string == null) {
+            throw new IOException(String.format(MESSAGE_INVALID_STRING_INDEX, NULL_STRING_INDEX));
+        }
+        return string;
+    }
+
+    private static String readNullableString(DataInput in, String[] stringTable) throws IOException {
+        int index = in.readInt();
+        if (index == NULL_STRING_INDEX) {
+            return null;
+        }
+        if (index < 0 || index >= stringTable.length) {
+            throw new IOException(String.format(MESSAGE_INVALID_STRING_INDEX, index));
+        }
+        return stringTable[index];
+    }
+}
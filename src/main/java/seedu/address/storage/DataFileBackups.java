@@ -0,0 +1,164 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyKlinix;
+
+/**
+ * The timestamped backups of a Klinix data file, kept next to it.
+ * A backup of the old data file is kept each time it is replaced, and only the newest {@code capacity} backups are
+ * kept. If the data file cannot be loaded, the newest backup that can be loaded is used instead.
+ * <p>
+ * As the data file is replaced in one step, it is never missing after a crash, so a missing data file is not
+ * restored from a backup.
+ */
+class DataFileBackups {
+
+    static final int DEFAULT_CAPACITY = 3;
+    static final String BACKUP_FILE_SUFFIX = ".bak";
+
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+    private static final String TIMESTAMP_REGEX = "\\d{8}-\\d{6}-\\d{3}";
+
+    private static final Logger logger = LogsCenter.getLogger(DataFileBackups.class);
+
+    private final Path filePath;
+    private final int capacity;
+    private final Pattern backupFileNamePattern;
+
+    /**
+     * Creates the backups of the data file at {@code filePath}, keeping the newest {@code capacity} of them.
+     */
+    DataFileBackups(Path filePath, int capacity) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.capacity = capacity;
+        backupFileNamePattern = Pattern.compile(Pattern.quote(filePath.getFileName() + ".") + TIMESTAMP_REGEX
+                + Pattern.quote(BACKUP_FILE_SUFFIX));
+    }
+
+    DataFileBackups(Path filePath) {
+        this(filePath, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Returns the path of a new backup of the data file, timestamped later than all its existing backups.
+     */
+    Path getNewBackupFilePath() throws IOException {
+        LocalDateTime timestamp = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        List<Path> backupFilePaths = getBackupFilePaths();
+        if (!backupFilePaths.isEmpty()) {
+            LocalDateTime newestTimestamp = getTimestamp(backupFilePaths.get(0));
+            if (!timestamp.isAfter(newestTimestamp)) {
+                timestamp = newestTimestamp.plus(1, ChronoUnit.MILLIS);
+            }
+        }
+        return toBackupFilePath(timestamp);
+    }
+
+    private LocalDateTime getTimestamp(Path backupFilePath) {
+        String fileName = backupFilePath.getFileName().toString();
+        int timestampStart = filePath.getFileName().toString().length() + 1;
+        return LocalDateTime.parse(fileName.substring(timestampStart, fileName.length() - BACKUP_FILE_SUFFIX.length()),
+                TIMESTAMP_FORMATTER);
+    }
+
+    private Path toBackupFilePath(LocalDateTime timestamp) {
+        return filePath.resolveSibling(filePath.getFileName() + "." + TIMESTAMP_FORMATTER.format(timestamp)
+                + BACKUP_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the backups of the data file, newest first.
+     */
+    List<Path> getBackupFilePaths() throws IOException {
+        Path directory = filePath.toAbsolutePath().getParent();
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> backupFileNamePattern.matcher(file.getFileName().toString()).matches())
+                    .map(file -> filePath.resolveSibling(file.getFileName()))
+                    .sorted(Comparator.reverseOrder())
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Deletes all but the newest {@code capacity} backups of the data file.
+     */
+    void deleteOldBackups() throws IOException {
+        List<Path> backupFilePaths = getBackupFilePaths();
+        for (Path backupFilePath : backupFilePaths.subList(Math.min(capacity, backupFilePaths.size()),
+                backupFilePaths.size())) {
+            Files.deleteIfExists(backupFilePath);
+        }
+    }
+
+    /**
+     * Reads the data file with {@code reader}. If it cannot be loaded, reads its newest backup that can be loaded
+     * instead.
+     *
+     * @throws DataLoadingException if neither the data file nor any of its backups can be loaded.
+     */
+    Optional<ReadOnlyKlinix> read(DataFileReader reader) throws DataLoadingException {
+        requireNonNull(reader);
+        DataLoadingException dataFileFailure;
+        try {
+            return reader.read(filePath);
+        } catch (DataLoadingException e) {
+            dataFileFailure = e;
+        }
+
+        List<Path> backupFilePaths;
+        try {
+            backupFilePaths = getBackupFilePaths();
+        } catch (IOException e) {
+            logger.warning("Could not list the backups of " + filePath + ": " + e);
+            backupFilePaths = List.of();
+        }
+        for (Path backupFilePath : backupFilePaths) {
+            try {
+                Optional<ReadOnlyKlinix> klinix = reader.read(backupFilePath);
+                if (klinix.isPresent()) {
+                    logger.warning("Data file " + filePath + " could not be loaded. Loaded the backup "
+                            + backupFilePath + " instead.");
+                    return klinix;
+                }
+            } catch (DataLoadingException e) {
+                logger.warning("Backup " + backupFilePath + " could not be loaded either.");
+            }
+        }
+
+        throw dataFileFailure;
+    }
+
+    /**
+     * Reads the Klinix data in a file.
+     */
+    @FunctionalInterface
+    interface DataFileReader {
+        /**
+         * Returns the data in the file at {@code filePath}, or {@code Optional.empty()} if the file does not exist.
+         *
+         * @throws DataLoadingException if loading the data from the file failed.
+         */
+        Optional<ReadOnlyKlinix> read(Path filePath) throws DataLoadingException;
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyKlinix;
+
+/**
+ * Represents a storage for Klinix whose data can be created by importing the data of another storage, such as a
+ * {@code JsonKlinixStorage}.
+ */
+public interface ImportableKlinixStorage extends KlinixStorage {
+
+    /**
+     * Replaces the data of the storage with the data read from {@code source}. Does nothing if {@code source} has no
+     * data.
+     * The data is written next to the data file, which is only created once all of the data is written, so an import
+     * that fails or is stopped part way leaves no data file behind.
+     *
+     * @return true if data was imported.
+     * @throws DataLoadingException if reading the data from {@code source} failed.
+     * @throws IOException if writing the data failed.
+     */
+    default boolean importFrom(KlinixStorage source) throws DataLoadingException, IOException {
+        requireNonNull(source);
+        Optional<ReadOnlyKlinix> klinix = source.readKlinix();
+        if (klinix.isEmpty()) {
+            return false;
+        }
+        FileUtil.createAtomically(getKlinixFilePath(), path -> saveKlinix(klinix.get(), path));
+        return true;
+    }
+}
@@ -0,0 +1,297 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.Klinix;
+import seedu.address.model.ReadOnlyKlinix;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code KlinixStorage} that saves changes by appending them to a journal next to the data file, instead of
+ * rewriting the whole data file every time.
+ * Each journal entry holds the latest state of one added or edited person, or the NRIC of a removed person, so the
+ * work done by a save is proportional to the number of persons changed since the previous save.
+ * The entries of a save are appended as a single line, which is replayed either in full or not at all, so a save
+ * that is cut short, such as an edit of an NRIC that removes one person and puts another, is never half applied.
+ * The journal is compacted into the data file, which is written by the underlying storage, when the journal would
+ * grow past the compaction threshold, when the klinix saved is not the one saved last time, or when all its persons
+ * have been replaced. Reading replays the journal on top of the data file.
+ * <p>
+ * The journal starts with the digest of the data file it was started on. A journal is not replayed on top of any
+ * other data file, such as an older backup loaded in place of a corrupt data file, as the changes made between the two
+ * would be missing. Its changes are lost then, which is logged.
+ */
+public class JournaledKlinixStorage implements KlinixStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 500;
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledKlinixStorage.class);
+
+    private final KlinixStorage snapshotStorage;
+    private final int compactionThreshold;
+    private ReadOnlyKlinix savedKlinix;
+    private long savedVersion;
+    private int journalEntryCount;
+    /** The digest of the data file written by the last compaction. */
+    private String snapshotDigest;
+
+    public JournaledKlinixStorage(KlinixStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledKlinixStorage} that writes its data file through {@code snapshotStorage} and
+     * compacts the journal once it would hold more than {@code compactionThreshold} entries.
+     */
+    public JournaledKlinixStorage(KlinixStorage snapshotStorage, int compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        checkArgument(compactionThreshold > 0, "Compaction threshold must be positive.");
+        this.snapshotStorage = snapshotStorage;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public Path getKlinixFilePath() {
+        return snapshotStorage.getKlinixFilePath();
+    }
+
+    /**
+     * Returns the file path of the journal of the data file.
+     */
+    public Path getJournalFilePath() {
+        return getJournalFilePath(getKlinixFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyKlinix> readKlinix() throws DataLoadingException {
+        return readKlinix(getKlinixFilePath());
+    }
+
+    /**
+     * Similar to {@link #readKlinix()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyKlinix> readKlinix(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyKlinix> snapshot = snapshotStorage.readKlinix(filePath);
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!Files.exists(journalFilePath)) {
+            return snapshot;
+        }
+
+        List<JsonAdaptedJournalEntry> entries = readJournal(journalFilePath, filePath);
+        if (entries.isEmpty()) {
+            return snapshot;
+        }
+        logger.info("Replaying " + entries.size() + " journal entries from " + journalFilePath);
+
+        Map<Nric, Person> persons = new LinkedHashMap<>();
+        snapshot.ifPresent(klinix -> klinix.getPersonList().forEach(person -> persons.put(person.getNric(), person)));
+        try {
+            for (JsonAdaptedJournalEntry entry : entries) {
+                entry.applyTo(persons);
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        Klinix klinix = new Klinix();
+        klinix.setPersonsWithAppointments(new ArrayList<>(persons.values()));
+        return Optional.of(klinix);
+    }
+
+    @Override
+    public void saveKlinix(ReadOnlyKlinix klinix) throws IOException {
+        saveKlinix(klinix, getKlinixFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveKlinix(ReadOnlyKlinix)}.
+     * Saving to a file other than the data file writes the whole klinix to that file and does not use a journal.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveKlinix(ReadOnlyKlinix klinix, Path filePath) throws IOException {
+        requireAllNonNull(klinix, filePath);
+
+        if (!filePath.equals(getKlinixFilePath())) {
+            snapshotStorage.saveKlinix(klinix, filePath);
+            Files.deleteIfExists(getJournalFilePath(filePath));
+            return;
+        }
+
+        Optional<List<Nric>> changedNrics = klinix == savedKlinix
+                ? klinix.getNricsChangedSince(savedVersion)
+                : Optional.empty();
+        // a save that fails part way is followed by a compaction, which leaves no trace of it in the journal
+        savedKlinix = null;
+        if (changedNrics.isEmpty() || journalEntryCount + changedNrics.get().size() > compactionThreshold) {
+            compact(klinix);
+        } else if (!changedNrics.get().isEmpty()) {
+            appendToJournal(klinix, changedNrics.get());
+        }
+
+        savedKlinix = klinix;
+        savedVersion = klinix.getModificationVersion();
+    }
+
+    /**
+     * Writes the whole {@code klinix} to the data file and empties the journal.
+     */
+    private void compact(ReadOnlyKlinix klinix) throws IOException {
+        snapshotStorage.saveKlinix(klinix);
+        Files.deleteIfExists(getJournalFilePath());
+        journalEntryCount = 0;
+        snapshotDigest = digest(getKlinixFilePath());
+    }
+
+    /**
+     * Appends the latest state of the persons with {@code changedNrics} to the journal, as a single line.
+     * A new journal is started with a header holding the digest of the data file.
+     * If the append fails, the journal is truncated back to its size before the append where possible.
+     */
+    private void appendToJournal(ReadOnlyKlinix klinix, List<Nric> changedNrics) throws IOException {
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        for (Nric nric : changedNrics) {
+            Person person = klinix.findPersonByNric(nric);
+            entries.add(person == null ? JsonAdaptedJournalEntry.remove(nric) : JsonAdaptedJournalEntry.put(person));
+        }
+        String lines = JsonUtil.toCompactJsonString(entries) + "\n";
+
+        Path journalFilePath = getJournalFilePath();
+        FileUtil.createParentDirsOfFile(journalFilePath);
+        long journalSize = Files.isRegularFile(journalFilePath) ? Files.size(journalFilePath) : 0;
+        if (journalSize == 0) {
+            assert snapshotDigest != null : "The journal is only appended to after a compaction";
+            lines = JsonUtil.toCompactJsonString(new JsonJournalHeader(snapshotDigest)) + "\n" + lines;
+        }
+        try {
+            Files.writeString(journalFilePath, lines, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            truncateJournal(journalFilePath, journalSize, e);
+            throw e;
+        }
+        journalEntryCount += changedNrics.size();
+    }
+
+    /**
+     * Truncates the journal at {@code journalFilePath} to {@code size}, removing the part of an append that failed
+     * with {@code appendFailure}. A failure to truncate is added to {@code appendFailure}.
+     */
+    private static void truncateJournal(Path journalFilePath, long size, IOException appendFailure) {
+        try (FileChannel channel = FileChannel.open(journalFilePath, StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+        } catch (IOException e) {
+            appendFailure.addSuppressed(e);
+        }
+    }
+
+    /**
+     * Returns the entries in the journal at {@code journalFilePath}, in the order they were saved, or no entries if
+     * the journal was not started on the data file at {@code filePath} as it is now.
+     * An incomplete last line, left behind if the application stopped while appending to the journal, is ignored
+     * along with all the entries of its save.
+     */
+    private static List<JsonAdaptedJournalEntry> readJournal(Path journalFilePath, Path filePath)
+            throws DataLoadingException {
+        List<String> lines;
+        String dataFileDigest;
+        try {
+            lines = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+            dataFileDigest = Files.isRegularFile(filePath) ? digest(filePath) : null;
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        if (lines.isEmpty()) {
+            return List.of();
+        }
+
+        JsonJournalHeader header;
+        try {
+            header = JsonUtil.fromJsonString(lines.get(0), JsonJournalHeader.class);
+        } catch (IOException e) {
+            if (lines.size() > 1) {
+                logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+                throw new DataLoadingException(e);
+            }
+            logger.warning("Ignoring incomplete last save in journal file " + journalFilePath);
+            return List.of();
+        }
+        if (!header.isForSnapshot(dataFileDigest)) {
+            logger.warning("Journal file " + journalFilePath + " was not started on the data file " + filePath
+                    + " as it is now, so its " + (lines.size() - 1) + " saves are not replayed and are lost. "
+                    + "This happens when the data file was replaced, such as by a backup.");
+            return List.of();
+        }
+
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        for (int i = 1; i < lines.size(); i++) {
+            if (lines.get(i).isBlank()) {
+                continue;
+            }
+            try {
+                entries.addAll(Arrays.asList(JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalEntry[].class)));
+            } catch (IOException e) {
+                if (i < lines.size() - 1) {
+                    logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+                    throw new DataLoadingException(e);
+                }
+                logger.warning("Ignoring incomplete last save in journal file " + journalFilePath);
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Returns the digest of the content of the file at {@code filePath}, in hexadecimal.
+     */
+    private static String digest(Path filePath) throws IOException {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance(DIGEST_ALGORITHM)
+                    .digest(Files.readAllBytes(filePath)));
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+}
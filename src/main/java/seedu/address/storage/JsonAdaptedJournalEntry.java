@@ -0,0 +1,86 @@
+package seedu.address.storage;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of one change in the journal of a {@link JournaledKlinixStorage}.
+ * A change either puts the latest state of an added or edited person, or removes the person with an NRIC.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_ACTION = "Journal entry has an unknown action: %s";
+
+    static final String ACTION_PUT = "put";
+    static final String ACTION_REMOVE = "remove";
+
+    private final String action;
+    private final String nric;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("action") String action, @JsonProperty("nric") String nric,
+            @JsonProperty("person") JsonAdaptedPerson person) {
+        this.action = action;
+        this.nric = nric;
+        this.person = person;
+    }
+
+    /**
+     * Returns an entry that puts the current state of {@code person}.
+     */
+    public static JsonAdaptedJournalEntry put(Person person) {
+        return new JsonAdaptedJournalEntry(ACTION_PUT, person.getNric().value, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Returns an entry that removes the person with {@code nric}.
+     */
+    public static JsonAdaptedJournalEntry remove(Nric nric) {
+        return new JsonAdaptedJournalEntry(ACTION_REMOVE, nric.value, null);
+    }
+
+    /**
+     * Applies this change to {@code persons}, which maps the NRIC of every person to the person.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the entry.
+     */
+    public void applyTo(Map<Nric, Person> persons) throws IllegalValueException {
+        if (action == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "action"));
+        }
+
+        switch (action) {
+        case ACTION_PUT:
+            if (person == null) {
+                throw new IllegalValueException(
+                        String.format(MISSING_FIELD_MESSAGE_FORMAT, Person.class.getSimpleName()));
+            }
+            Person modelPerson = person.toModelType();
+            persons.put(modelPerson.getNric(), modelPerson);
+            break;
+        case ACTION_REMOVE:
+            if (nric == null) {
+                throw new IllegalValueException(
+                        String.format(MISSING_FIELD_MESSAGE_FORMAT, Nric.class.getSimpleName()));
+            }
+            if (!Nric.isValidNric(nric)) {
+                throw new IllegalValueException(Nric.MESSAGE_CONSTRAINTS);
+            }
+            persons.remove(new Nric(nric));
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_ACTION, action));
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of the header of the journal of a {@link JournaledKlinixStorage}.
+ * The journal only holds the changes made since its data file was written, so the header holds the digest of that
+ * data file, and the journal is only replayed on top of that same data file.
+ */
+class JsonJournalHeader {
+
+    private final String snapshotDigest;
+
+    /**
+     * Constructs a {@code JsonJournalHeader} of a journal started on the data file with {@code snapshotDigest}.
+     */
+    @JsonCreator
+    public JsonJournalHeader(@JsonProperty("snapshotDigest") String snapshotDigest) {
+        this.snapshotDigest = snapshotDigest;
+    }
+
+    /**
+     * Returns true if the journal was started on the data file with {@code digest}.
+     */
+    public boolean isForSnapshot(String digest) {
+        return snapshotDigest != null && snapshotDigest.equals(digest);
+    }
+}
@@ -3,24 +3,40 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.Klinix;
 import seedu.address.model.ReadOnlyKlinix;
+import seedu.address.model.person.Person;
 
 /**
  * A class to access Klinix data stored as a json file on the hard disk.
+ * The file is read and written as a stream, a batch of persons at a time, so the whole file is never held in memory.
+ * The file is replaced atomically when saved, and a few backups of its previous versions are kept next to it.
  */
 public class JsonKlinixStorage implements KlinixStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonKlinixStorage.class);
 
+    private static final String PERSONS_FIELD = "persons";
+    private static final int LOAD_BATCH_SIZE = 1024;
+
     private Path filePath;
 
     public JsonKlinixStorage(Path filePath) {
@@ -38,27 +54,74 @@ public class JsonKlinixStorage implements KlinixStorage {
 
     /**
      * Similar to {@link #readKlinix()}.
+     * If the file cannot be loaded, its newest backup that can be loaded is read instead.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
      */
     public Optional<ReadOnlyKlinix> readKlinix(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
+        return new DataFileBackups(filePath).read(JsonKlinixStorage::readKlinixFile);
+    }
 
-        Optional<JsonSerializableKlinix> jsonKlinix = JsonUtil.readJsonFile(
-                filePath, JsonSerializableKlinix.class);
-        if (!jsonKlinix.isPresent()) {
+    /**
+     * Reads the klinix in the JSON file at {@code filePath}, without falling back to its backups.
+     */
+    private static Optional<ReadOnlyKlinix> readKlinixFile(Path filePath) throws DataLoadingException {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
 
-        try {
-            return Optional.of(jsonKlinix.get().toModelType());
+        try (JsonParser parser = JsonUtil.createJsonFileParser(filePath)) {
+            return Optional.of(readKlinix(parser));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
     }
 
+    /**
+     * Reads the klinix from {@code parser}. Persons are parsed in batches of {@code LOAD_BATCH_SIZE}, and each batch
+     * is converted into the model's {@code Person} objects in parallel while holding only that batch in memory.
+     * Fields other than the persons are skipped.
+     *
+     * @throws IOException if the data is not valid JSON, or does not have the structure of a klinix.
+     * @throws IllegalValueException if there were any data constraints violated in the persons.
+     */
+    private static Klinix readKlinix(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Klinix data should be a JSON object.");
+        }
+
+        ParallelPersonLoader<JsonAdaptedPerson> loader = new ParallelPersonLoader<>(JsonAdaptedPerson::toModelType);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (!fieldName.equals(PERSONS_FIELD) || valueToken == JsonToken.VALUE_NULL) {
+                parser.skipChildren();
+                continue;
+            }
+            if (valueToken != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Klinix data should have an array of persons.");
+            }
+
+            List<JsonAdaptedPerson> batch = new ArrayList<>(LOAD_BATCH_SIZE);
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                batch.add(parser.readValueAs(JsonAdaptedPerson.class));
+                if (batch.size() == LOAD_BATCH_SIZE) {
+                    loader.addBatch(batch);
+                    batch.clear();
+                }
+            }
+            loader.addBatch(batch);
+        }
+        return loader.toKlinix();
+    }
+
     @Override
     public void saveKlinix(ReadOnlyKlinix klinix) throws IOException {
         saveKlinix(klinix, filePath);
@@ -66,6 +129,8 @@ public class JsonKlinixStorage implements KlinixStorage {
 
     /**
      * Similar to {@link #saveKlinix(ReadOnlyKlinix)}.
+     * Each person is converted and written as it is serialized. The data is written to a temporary file that replaces
+     * the old file once it is complete, and the old file is kept as a backup.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +138,21 @@ public class JsonKlinixStorage implements KlinixStorage {
         requireNonNull(klinix);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableKlinix(klinix), filePath);
+        DataFileBackups backups = new DataFileBackups(filePath);
+        FileUtil.writeAtomically(filePath, out -> writeKlinix(klinix, out), backups.getNewBackupFilePath());
+        backups.deleteOldBackups();
+    }
+
+    private static void writeKlinix(ReadOnlyKlinix klinix, OutputStream out) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createJsonGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(PERSONS_FIELD);
+            for (Person person : klinix.getPersonList()) {
+                generator.writeObject(new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
     }
 
 }
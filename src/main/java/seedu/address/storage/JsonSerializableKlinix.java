@@ -12,7 +12,6 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.Klinix;
 import seedu.address.model.ReadOnlyKlinix;
 import seedu.address.model.appointment.Appointment;
-import seedu.address.model.person.Person;
 
 /**
  * An Immutable Klinix that is serializable to JSON format.
@@ -44,20 +43,14 @@ class JsonSerializableKlinix {
 
     /**
      * Converts this klinix into the model's {@code Klinix} object.
+     * The persons are converted in parallel.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public Klinix toModelType() throws IllegalValueException {
-        Klinix klinix = new Klinix();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (klinix.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            klinix.addPerson(person);
-            klinix.addAppointment(person.getAppointments());
-        }
-        return klinix;
+        ParallelPersonLoader<JsonAdaptedPerson> loader = new ParallelPersonLoader<>(JsonAdaptedPerson::toModelType);
+        loader.addBatch(persons);
+        return loader.toKlinix();
     }
 
 }
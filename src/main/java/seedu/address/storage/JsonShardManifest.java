@@ -0,0 +1,85 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyKlinix;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of the manifest of a {@link ShardedKlinixStorage}.
+ * The manifest lists the NRIC of every person in the klinix, in the order of the persons, along with the version of
+ * the file that holds the person.
+ */
+class JsonShardManifest {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Shard manifest's %s field is missing!";
+    public static final String MESSAGE_MISMATCHED_FILE_VERSIONS =
+            "Shard manifest does not have one file version for each NRIC.";
+
+    private final List<String> nrics = new ArrayList<>();
+    private final List<Long> fileVersions = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonShardManifest} with the given NRICs and versions of their files.
+     */
+    @JsonCreator
+    public JsonShardManifest(@JsonProperty("nrics") List<String> nrics,
+            @JsonProperty("fileVersions") List<Long> fileVersions) {
+        if (nrics != null) {
+            this.nrics.addAll(nrics);
+        }
+        if (fileVersions != null) {
+            this.fileVersions.addAll(fileVersions);
+        }
+    }
+
+    /**
+     * Converts the persons of a given {@code ReadOnlyKlinix}, whose files have the versions in
+     * {@code personFileVersions}, into this class for Jackson use.
+     */
+    public JsonShardManifest(ReadOnlyKlinix source, Map<Nric, Long> personFileVersions) {
+        for (Person person : source.getPersonList()) {
+            nrics.add(person.getNric().value);
+            fileVersions.add(personFileVersions.get(person.getNric()));
+        }
+    }
+
+    /**
+     * Converts this manifest into the versions of the files of the persons in the klinix, by NRIC, in the order of
+     * the persons.
+     *
+     * @throws IllegalValueException if any NRIC is invalid or duplicated, or if any file version is missing.
+     */
+    public Map<Nric, Long> toModelType() throws IllegalValueException {
+        if (nrics.size() != fileVersions.size()) {
+            throw new IllegalValueException(MESSAGE_MISMATCHED_FILE_VERSIONS);
+        }
+
+        Map<Nric, Long> modelFileVersions = new LinkedHashMap<>();
+        for (int i = 0; i < nrics.size(); i++) {
+            String nric = nrics.get(i);
+            if (nric == null) {
+                throw new IllegalValueException(
+                        String.format(MISSING_FIELD_MESSAGE_FORMAT, Nric.class.getSimpleName()));
+            }
+            if (!Nric.isValidNric(nric)) {
+                throw new IllegalValueException(Nric.MESSAGE_CONSTRAINTS);
+            }
+            if (fileVersions.get(i) == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "fileVersions"));
+            }
+            if (modelFileVersions.put(new Nric(nric), fileVersions.get(i)) != null) {
+                throw new IllegalValueException(JsonSerializableKlinix.MESSAGE_DUPLICATE_PERSON);
+            }
+        }
+        return modelFileVersions;
+    }
+}
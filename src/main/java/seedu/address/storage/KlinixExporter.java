@@ -0,0 +1,228 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.RecordFileReader;
+import seedu.address.commons.util.RecordFileReader.Format;
+import seedu.address.commons.util.RecordFileWriter;
+import seedu.address.model.ReadOnlyKlinix;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.medicineusage.MedicineUsage;
+import seedu.address.model.person.MedicalReport;
+import seedu.address.model.person.MedicalReportSource;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes the patients, appointments and medicine usages in a {@code ReadOnlyKlinix} to separate CSV or NDJSON streams.
+ * <p>
+ * Each record is written as soon as it is read from the klinix, so exporting needs no more memory for a large klinix
+ * than for a small one. Medical reports that have not been loaded yet are decoded for the export only, and are not
+ * kept by their persons. The patients exported can be limited by a predicate, and the appointments and medicine usages
+ * by a range of dates. A patients export can be read back by the import command.
+ */
+public class KlinixExporter {
+
+    public static final List<String> PATIENT_COLUMNS = List.of("name", "phone", "email", "nric", "birthdate",
+            "address", "tags", "allergies", "illnesses", "surgeries", "immunizations");
+    public static final List<String> APPOINTMENT_COLUMNS =
+            List.of("nric", "description", "start", "end", "visited");
+    public static final List<String> MEDICINE_USAGE_COLUMNS =
+            List.of("nric", "medicine", "dosage", "start", "end");
+
+    /**
+     * The streams an export is split into, with the base names of their files.
+     */
+    public enum Dataset {
+        PATIENTS("patients"),
+        APPOINTMENTS("appointments"),
+        MEDICINE_USAGES("medicine-usages");
+
+        private final String fileBaseName;
+
+        Dataset(String fileBaseName) {
+            this.fileBaseName = fileBaseName;
+        }
+
+        /**
+         * Returns the path of the file of this dataset in {@code format} in the directory at {@code directoryPath}.
+         */
+        public Path getFilePath(Path directoryPath, Format format) {
+            return directoryPath.resolve(fileBaseName + format.getFileExtension());
+        }
+    }
+
+    private final ReadOnlyKlinix klinix;
+    private final Predicate<Person> personFilter;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    /**
+     * Creates an exporter of all the data in {@code klinix}.
+     */
+    public KlinixExporter(ReadOnlyKlinix klinix) {
+        this(klinix, person -> true, LocalDate.MIN, LocalDate.MAX);
+    }
+
+    private KlinixExporter(ReadOnlyKlinix klinix, Predicate<Person> personFilter, LocalDate startDate,
+            LocalDate endDate) {
+        requireAllNonNull(klinix, personFilter, startDate, endDate);
+        this.klinix = klinix;
+        this.personFilter = personFilter;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    /**
+     * Returns an exporter like this one that only exports the patients matching {@code personFilter}, and their
+     * appointments and medicine usages.
+     */
+    public KlinixExporter filterPersons(Predicate<Person> personFilter) {
+        requireNonNull(personFilter);
+        return new KlinixExporter(klinix, this.personFilter.and(personFilter), startDate, endDate);
+    }
+
+    /**
+     * Returns an exporter like this one that only exports the appointments starting from {@code startDate} to
+     * {@code endDate}, and the medicine usages taken on any day in that range. Both dates are inclusive.
+     */
+    public KlinixExporter filterDates(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Start date " + startDate + " is after end date " + endDate);
+        }
+        return new KlinixExporter(klinix, personFilter, startDate, endDate);
+    }
+
+    /**
+     * Writes each dataset to its file in {@code format} in the directory at {@code directoryPath}, replacing any file
+     * already there.
+     *
+     * @return the number of records written for each dataset.
+     * @throws IOException if any file cannot be written.
+     */
+    public Map<Dataset, Integer> exportAll(Path directoryPath, Format format) throws IOException {
+        requireAllNonNull(directoryPath, format);
+        Map<Dataset, Integer> counts = new EnumMap<>(Dataset.class);
+        for (Dataset dataset : Dataset.values()) {
+            counts.put(dataset, export(dataset, dataset.getFilePath(directoryPath, format), format));
+        }
+        return counts;
+    }
+
+    /**
+     * Writes {@code dataset} to the file at {@code filePath} in {@code format}, replacing any file already there.
+     * The file is only replaced once it is completely written.
+     *
+     * @return the number of records written.
+     * @throws IOException if the file cannot be written.
+     */
+    public int export(Dataset dataset, Path filePath, Format format) throws IOException {
+        requireAllNonNull(dataset, filePath, format);
+        int[] count = new int[1];
+        FileUtil.writeAtomically(filePath, out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            count[0] = export(dataset, writer, format);
+            writer.flush();
+        });
+        return count[0];
+    }
+
+    /**
+     * Writes {@code dataset} to {@code out} in {@code format}, without closing it.
+     *
+     * @return the number of records written.
+     * @throws IOException if writing to {@code out} failed.
+     */
+    public int export(Dataset dataset, Writer out, Format format) throws IOException {
+        requireAllNonNull(dataset, out, format);
+        List<String> columnNames = dataset == Dataset.PATIENTS ? PATIENT_COLUMNS
+                : dataset == Dataset.APPOINTMENTS ? APPOINTMENT_COLUMNS
+                : MEDICINE_USAGE_COLUMNS;
+        RecordFileWriter writer = new RecordFileWriter(out, format, columnNames);
+        int count = 0;
+        for (Person person : klinix.getPersonList()) {
+            if (!personFilter.test(person)) {
+                continue;
+            }
+            switch (dataset) {
+            case PATIENTS:
+                writer.writeRecord(toPatientRecord(person));
+                count++;
+                break;
+            case APPOINTMENTS:
+                for (Appointment appointment : person.getAppointments()) {
+                    if (isInDateRange(appointment.getStartDate(), appointment.getStartDate())) {
+                        writer.writeRecord(toAppointmentRecord(appointment));
+                        count++;
+                    }
+                }
+                break;
+            default:
+                for (MedicineUsage medicineUsage : readMedicalReport(person).getMedicineUsages()) {
+                    if (isInDateRange(medicineUsage.getStartDate(), medicineUsage.getEndDate())) {
+                        writer.writeRecord(toMedicineUsageRecord(person, medicineUsage));
+                        count++;
+                    }
+                }
+                break;
+            }
+        }
+        writer.flush();
+        return count;
+    }
+
+    /**
+     * Returns true if the days from {@code start} to {@code end} overlap the range of dates exported.
+     */
+    private boolean isInDateRange(LocalDate start, LocalDate end) {
+        return !start.isAfter(endDate) && !end.isBefore(startDate);
+    }
+
+    /**
+     * Returns the medical report of {@code person}, decoding it without keeping it in the person if it has not been
+     * loaded yet.
+     */
+    private static MedicalReport readMedicalReport(Person person) {
+        return person.getUnloadedMedicalReport()
+                .map(MedicalReportSource::load)
+                .orElseGet(person::getMedicalReport);
+    }
+
+    private static List<String> toPatientRecord(Person person) {
+        MedicalReport medicalReport = readMedicalReport(person);
+        String tags = person.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted()
+                .collect(Collectors.joining(RecordFileReader.LIST_SEPARATOR));
+        return List.of(person.getName().fullName, person.getPhone().value, person.getEmail().value,
+                person.getNric().value, person.getBirthDate().toString(), person.getAddress().value, tags,
+                medicalReport.getAllergens(), medicalReport.getIllnesses(), medicalReport.getSurgeries(),
+                medicalReport.getImmunizations());
+    }
+
+    private static List<String> toAppointmentRecord(Appointment appointment) {
+        return List.of(appointment.getPatientNric(), appointment.getDescription(),
+                appointment.getStartDateTime().toString(), appointment.getEndDateTime().toString(),
+                String.valueOf(appointment.getVisited()));
+    }
+
+    private static List<String> toMedicineUsageRecord(Person person, MedicineUsage medicineUsage) {
+        return List.of(person.getNric().value, medicineUsage.getName().fullName, medicineUsage.getDosage().dosage,
+                medicineUsage.getStartDate().toString(), medicineUsage.getEndDate().toString());
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.Klinix;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+
+/**
+ * Converts stored person records into the model's {@code Person} objects in parallel on the common fork-join pool,
+ * and builds a {@code Klinix} from all of them in one step.
+ * Records are added in batches, in the order they are stored. If a record is invalid, or has the same NRIC as an
+ * earlier record, the error of the first such record is reported, as if the records were converted one at a time.
+ *
+ * @param <T> the type of the stored person records.
+ */
+class ParallelPersonLoader<T> {
+
+    /**
+     * Converts a stored person record into the model's {@code Person} object.
+     */
+    @FunctionalInterface
+    interface PersonConverter<T> {
+        /**
+         * Returns the person in {@code record}.
+         *
+         * @throws IllegalValueException if there were any data constraints violated in the record.
+         */
+        Person toModelType(T record) throws IllegalValueException;
+    }
+
+    private final PersonConverter<T> converter;
+    private final List<Person> persons = new ArrayList<>();
+    private final ConcurrentMap<Nric, Integer> firstIndexByNric = new ConcurrentHashMap<>();
+
+    ParallelPersonLoader(PersonConverter<T> converter) {
+        requireNonNull(converter);
+        this.converter = converter;
+    }
+
+    /**
+     * Converts {@code records}, which are stored after all the records added so far.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the records, or if a record is a
+     *     duplicate of an earlier one.
+     */
+    void addBatch(List<T> records) throws IllegalValueException {
+        requireNonNull(records);
+        int offset = persons.size();
+        Person[] converted = new Person[records.size()];
+        Exception[] errors = new Exception[records.size()];
+
+        IntStream.range(0, records.size()).parallel().forEach(i -> {
+            try {
+                converted[i] = converter.toModelType(records.get(i));
+                firstIndexByNric.merge(converted[i].getNric(), offset + i, Math::min);
+            } catch (IllegalValueException | RuntimeException e) {
+                errors[i] = e;
+            }
+        });
+
+        for (int i = 0; i < converted.length; i++) {
+            if (errors[i] instanceof IllegalValueException) {
+                throw (IllegalValueException) errors[i];
+            }
+            if (errors[i] != null) {
+                throw (RuntimeException) errors[i];
+            }
+            if (firstIndexByNric.get(converted[i].getNric()) < offset + i) {
+                throw new IllegalValueException(JsonSerializableKlinix.MESSAGE_DUPLICATE_PERSON);
+            }
+        }
+        persons.addAll(Arrays.asList(converted));
+    }
+
+    /**
+     * Returns a {@code Klinix} with all the persons converted so far, and their appointments.
+     */
+    Klinix toKlinix() {
+        Klinix klinix = new Klinix();
+        klinix.setPersonsWithAppointments(persons);
+        return klinix;
+    }
+}
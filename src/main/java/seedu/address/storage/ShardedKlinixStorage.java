@@ -0,0 +1,335 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyKlinix;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access Klinix data stored in a directory on the hard disk, with one JSON file per person.
+ * <p>
+ * Each person's file is named after their NRIC and the version of the file, in a subdirectory picked by the hash of
+ * the NRIC so that no subdirectory grows too large. A manifest file lists the NRICs of all persons, in order, along
+ * with the versions of their files.
+ * <p>
+ * Saving writes only the files of the persons changed since the last save, each to a new version of the file, and
+ * then replaces the manifest atomically. The manifest is the commit point of a save: a save that stops part way, even
+ * one that changes many persons, leaves the manifest listing the files of the last complete save, which are only
+ * deleted once they are no longer listed. Files left behind by such a save are deleted by the next save of all
+ * persons. Reading loads the files listed in the manifest in parallel.
+ */
+public class ShardedKlinixStorage implements ImportableKlinixStorage {
+
+    public static final String SHARD_DIRECTORY_SUFFIX = "-shards";
+
+    static final String MANIFEST_FILE_NAME = "manifest.json";
+    static final String PERSON_FILE_EXTENSION = ".json";
+    static final int BUCKET_COUNT = 256;
+    static final String MESSAGE_UNREADABLE_PERSON_FILE = "Person file %s could not be read: %s";
+    static final String MESSAGE_MISMATCHED_PERSON_FILE = "Person file %s does not hold the person with its NRIC.";
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final Pattern PERSON_FILE_NAME_PATTERN =
+            Pattern.compile("[^-]+-\\d+" + Pattern.quote(PERSON_FILE_EXTENSION));
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedKlinixStorage.class);
+
+    private final Path directoryPath;
+
+    /** Versions of the person files listed in the manifest, as last read or written. */
+    private final Map<Nric, Long> personFileVersions = new HashMap<>();
+    /** Digests of the content of the person files listed in the manifest, as last read or written. */
+    private final Map<Nric, byte[]> personFileDigests = new ConcurrentHashMap<>();
+    private byte[] manifestDigest;
+
+    /** The klinix last saved, and its modification version then. */
+    private ReadOnlyKlinix savedKlinix;
+    private long savedVersion;
+
+    public ShardedKlinixStorage(Path directoryPath) {
+        this.directoryPath = directoryPath;
+    }
+
+    /**
+     * Returns the path of the directory that takes the place of the JSON data file at {@code jsonFilePath}.
+     */
+    public static Path toShardDirectoryPath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return jsonFilePath.resolveSibling(baseName + SHARD_DIRECTORY_SUFFIX);
+    }
+
+    /**
+     * Returns the path of version {@code version} of the file of the person with {@code nric} in the directory at
+     * {@code directoryPath}.
+     */
+    static Path getPersonFilePath(Path directoryPath, Nric nric, long version) {
+        String bucketName = String.format("%02x", Math.floorMod(nric.value.hashCode(), BUCKET_COUNT));
+        return directoryPath.resolve(bucketName).resolve(nric.value + "-" + version + PERSON_FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getKlinixFilePath() {
+        return directoryPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyKlinix> readKlinix() throws DataLoadingException {
+        return readKlinix(directoryPath);
+    }
+
+    /**
+     * Similar to {@link #readKlinix()}.
+     *
+     * @param directoryPath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyKlinix> readKlinix(Path directoryPath) throws DataLoadingException {
+        requireNonNull(directoryPath);
+
+        Path manifestPath = directoryPath.resolve(MANIFEST_FILE_NAME);
+        if (!Files.exists(manifestPath)) {
+            return Optional.empty();
+        }
+        logger.info("Shard manifest " + manifestPath + " found.");
+
+        boolean isDataDirectory = directoryPath.equals(this.directoryPath);
+        try {
+            byte[] manifestContent = Files.readAllBytes(manifestPath);
+            Map<Nric, Long> fileVersions = JsonUtil.fromJsonString(
+                    new String(manifestContent, StandardCharsets.UTF_8), JsonShardManifest.class).toModelType();
+            if (isDataDirectory) {
+                savedKlinix = null;
+                personFileVersions.clear();
+                personFileVersions.putAll(fileVersions);
+                personFileDigests.clear();
+                manifestDigest = digest(manifestContent);
+            }
+
+            ParallelPersonLoader<Nric> loader = new ParallelPersonLoader<>(nric ->
+                    readPerson(directoryPath, nric, fileVersions.get(nric), isDataDirectory));
+            loader.addBatch(new ArrayList<>(fileVersions.keySet()));
+            return Optional.of(loader.toKlinix());
+        } catch (IOException e) {
+            logger.warning("Error reading from shard manifest " + manifestPath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directoryPath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Reads the person with {@code nric} from version {@code version} of their file in the directory at
+     * {@code directoryPath}, and remembers the digest of the file if {@code isDataDirectory}.
+     *
+     * @throws IllegalValueException if the file cannot be read, does not hold the person with {@code nric}, or if
+     *     there were any data constraints violated in the person.
+     */
+    private Person readPerson(Path directoryPath, Nric nric, long version, boolean isDataDirectory)
+            throws IllegalValueException {
+        Path personFilePath = getPersonFilePath(directoryPath, nric, version);
+        byte[] content;
+        JsonAdaptedPerson jsonAdaptedPerson;
+        try {
+            content = Files.readAllBytes(personFilePath);
+            jsonAdaptedPerson = JsonUtil.fromJsonString(new String(content, StandardCharsets.UTF_8),
+                    JsonAdaptedPerson.class);
+        } catch (IOException e) {
+            throw new IllegalValueException(
+                    String.format(MESSAGE_UNREADABLE_PERSON_FILE, personFilePath, e.getMessage()), e);
+        }
+
+        Person person = jsonAdaptedPerson.toModelType();
+        if (!person.getNric().equals(nric)) {
+            throw new IllegalValueException(String.format(MESSAGE_MISMATCHED_PERSON_FILE, personFilePath));
+        }
+        if (isDataDirectory) {
+            personFileDigests.put(nric, digest(content));
+        }
+        return person;
+    }
+
+    @Override
+    public void saveKlinix(ReadOnlyKlinix klinix) throws IOException {
+        saveKlinix(klinix, directoryPath);
+    }
+
+    /**
+     * Similar to {@link #saveKlinix(ReadOnlyKlinix)}.
+     * Saving to a directory other than the data directory writes the files of all persons to that directory.
+     *
+     * @param directoryPath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveKlinix(ReadOnlyKlinix klinix, Path directoryPath) throws IOException {
+        requireNonNull(klinix);
+        requireNonNull(directoryPath);
+
+        if (!directoryPath.equals(this.directoryPath)) {
+            new ShardedKlinixStorage(directoryPath).saveKlinix(klinix);
+            return;
+        }
+
+        Optional<List<Nric>> changedNrics = klinix == savedKlinix
+                ? klinix.getNricsChangedSince(savedVersion)
+                : Optional.empty();
+        // a save that fails part way is followed by a save of all persons
+        savedKlinix = null;
+        if (changedNrics.isPresent()) {
+            saveChanges(klinix, changedNrics.get());
+        } else {
+            saveAll(klinix);
+        }
+        savedKlinix = klinix;
+        savedVersion = klinix.getModificationVersion();
+    }
+
+    /**
+     * Writes new versions of the files of the persons with {@code changedNrics}, and commits them.
+     */
+    private void saveChanges(ReadOnlyKlinix klinix, List<Nric> changedNrics) throws IOException {
+        Map<Nric, Long> fileVersions = new HashMap<>(personFileVersions);
+        Map<Nric, byte[]> writtenDigests = new HashMap<>();
+        for (Nric nric : changedNrics) {
+            Person person = klinix.findPersonByNric(nric);
+            if (person == null) {
+                fileVersions.remove(nric);
+            } else {
+                writePerson(person, fileVersions, writtenDigests);
+            }
+        }
+        commit(klinix, fileVersions, writtenDigests);
+    }
+
+    /**
+     * Writes new versions of the files of all persons whose content changed, commits them, and deletes the person
+     * files not listed in the manifest, such as those left behind by a save that stopped part way.
+     */
+    private void saveAll(ReadOnlyKlinix klinix) throws IOException {
+        Map<Nric, Long> fileVersions = new HashMap<>();
+        Map<Nric, byte[]> writtenDigests = new HashMap<>();
+        for (Person person : klinix.getPersonList()) {
+            writePerson(person, fileVersions, writtenDigests);
+        }
+        commit(klinix, fileVersions, writtenDigests);
+        deleteUnlistedPersonFiles();
+    }
+
+    /**
+     * Writes a new version of the file of {@code person}, unless the file listed in the manifest already has the same
+     * content, and puts the version of the file that holds the person in {@code fileVersions}.
+     * The digest of a new version is put in {@code writtenDigests}.
+     */
+    private void writePerson(Person person, Map<Nric, Long> fileVersions, Map<Nric, byte[]> writtenDigests)
+            throws IOException {
+        Nric nric = person.getNric();
+        byte[] content = JsonUtil.toJsonString(new JsonAdaptedPerson(person)).getBytes(StandardCharsets.UTF_8);
+        byte[] contentDigest = digest(content);
+        Long listedVersion = personFileVersions.get(nric);
+        if (listedVersion != null && Arrays.equals(contentDigest, personFileDigests.get(nric))) {
+            fileVersions.put(nric, listedVersion);
+            return;
+        }
+
+        long version = listedVersion == null ? 0 : listedVersion + 1;
+        FileUtil.writeAtomically(getPersonFilePath(directoryPath, nric, version), out -> out.write(content));
+        fileVersions.put(nric, version);
+        writtenDigests.put(nric, contentDigest);
+    }
+
+    /**
+     * Commits a save by writing the manifest of {@code klinix}, whose persons are held in the files with
+     * {@code fileVersions}, and then deletes the person files it no longer lists.
+     */
+    private void commit(ReadOnlyKlinix klinix, Map<Nric, Long> fileVersions, Map<Nric, byte[]> writtenDigests)
+            throws IOException {
+        writeManifest(klinix, fileVersions);
+
+        Map<Nric, Long> replacedFileVersions = new HashMap<>(personFileVersions);
+        personFileVersions.clear();
+        personFileVersions.putAll(fileVersions);
+        personFileDigests.keySet().retainAll(fileVersions.keySet());
+        personFileDigests.putAll(writtenDigests);
+        for (Map.Entry<Nric, Long> replaced : replacedFileVersions.entrySet()) {
+            if (!replaced.getValue().equals(fileVersions.get(replaced.getKey()))) {
+                Files.deleteIfExists(getPersonFilePath(directoryPath, replaced.getKey(), replaced.getValue()));
+            }
+        }
+    }
+
+    /**
+     * Writes the manifest of {@code klinix}, whose persons are held in the files with {@code fileVersions}, unless it
+     * already has the same content.
+     */
+    private void writeManifest(ReadOnlyKlinix klinix, Map<Nric, Long> fileVersions) throws IOException {
+        byte[] content = JsonUtil.toJsonString(new JsonShardManifest(klinix, fileVersions))
+                .getBytes(StandardCharsets.UTF_8);
+        byte[] contentDigest = digest(content);
+        if (Arrays.equals(contentDigest, manifestDigest)) {
+            return;
+        }
+
+        FileUtil.writeAtomically(directoryPath.resolve(MANIFEST_FILE_NAME), out -> out.write(content));
+        manifestDigest = contentDigest;
+    }
+
+    /**
+     * Deletes the person files in the subdirectories of the directory that are not listed in the manifest.
+     */
+    private void deleteUnlistedPersonFiles() throws IOException {
+        Set<Path> listedFilePaths = new HashSet<>();
+        for (Map.Entry<Nric, Long> listed : personFileVersions.entrySet()) {
+            listedFilePaths.add(getPersonFilePath(directoryPath, listed.getKey(), listed.getValue()));
+        }
+
+        List<Path> unlistedFilePaths;
+        try (Stream<Path> paths = Files.walk(directoryPath, 2)) {
+            unlistedFilePaths = paths
+                    .filter(path -> path.getParent() != null && !path.getParent().equals(directoryPath))
+                    .filter(path -> PERSON_FILE_NAME_PATTERN.matcher(path.getFileName().toString()).matches())
+                    .filter(path -> Files.isRegularFile(path) && !listedFilePaths.contains(path))
+                    .collect(Collectors.toList());
+        }
+        for (Path path : unlistedFilePaths) {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    private static byte[] digest(byte[] content) {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM).digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,454 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.DateUtil.DATE_FORMATTER;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.Klinix;
+import seedu.address.model.ReadOnlyKlinix;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentList;
+import seedu.address.model.medicineusage.Dosage;
+import seedu.address.model.medicineusage.MedicineName;
+import seedu.address.model.medicineusage.MedicineUsage;
+import seedu.address.model.medicineusage.exceptions.OverlappingMedicineUsageException;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.BirthDate;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.MedicalReport;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access Klinix data stored in an embedded H2 database file on the hard disk, through JDBC.
+ * <p>
+ * Persons, their tags, their medicine usages and their appointments are kept in separate tables, keyed by the NRIC
+ * of the person, with indexes on the NRIC, which is unique, and on the start of appointments. Persons are read in
+ * the order they were inserted. Saving updates, inserts or deletes only the rows of the persons changed since the
+ * last save, in a single transaction, so the database is never left with only some of the changes.
+ */
+public class SqlKlinixStorage implements ImportableKlinixStorage {
+
+    public static final String DATABASE_FILE_EXTENSION = ".mv.db";
+
+    static final String MESSAGE_INVALID_PERSON_ROW = "Klinix database has an invalid row for the person %s: %s";
+
+    private static final String JDBC_URL_PREFIX = "jdbc:h2:file:";
+
+    private static final String[] CREATE_SCHEMA = {
+        "CREATE TABLE IF NOT EXISTS persons ("
+                + "id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                + "nric VARCHAR NOT NULL UNIQUE, "
+                + "name VARCHAR NOT NULL, phone VARCHAR NOT NULL, email VARCHAR NOT NULL, "
+                + "birth_date DATE NOT NULL, address VARCHAR NOT NULL, "
+                + "allergens VARCHAR NOT NULL, illnesses VARCHAR NOT NULL, surgeries VARCHAR NOT NULL, "
+                + "immunizations VARCHAR NOT NULL)",
+        "CREATE TABLE IF NOT EXISTS tags ("
+                + "person_nric VARCHAR NOT NULL REFERENCES persons (nric) ON DELETE CASCADE, "
+                + "tag_name VARCHAR NOT NULL, "
+                + "PRIMARY KEY (person_nric, tag_name))",
+        "CREATE TABLE IF NOT EXISTS medicine_usages ("
+                + "person_nric VARCHAR NOT NULL REFERENCES persons (nric) ON DELETE CASCADE, "
+                + "position INT NOT NULL, name VARCHAR NOT NULL, dosage VARCHAR NOT NULL, "
+                + "start_date DATE NOT NULL, end_date DATE NOT NULL, "
+                + "PRIMARY KEY (person_nric, position))",
+        "CREATE TABLE IF NOT EXISTS appointments ("
+                + "person_nric VARCHAR NOT NULL REFERENCES persons (nric) ON DELETE CASCADE, "
+                + "position INT NOT NULL, description VARCHAR NOT NULL, "
+                + "start_date_time TIMESTAMP NOT NULL, end_date_time TIMESTAMP NOT NULL, "
+                + "patient_nric VARCHAR, visited BOOLEAN NOT NULL, "
+                + "PRIMARY KEY (person_nric, position))",
+        "CREATE INDEX IF NOT EXISTS appointments_start_date_time ON appointments (start_date_time)"
+    };
+
+    private static final String UPDATE_PERSON = "UPDATE persons SET name = ?, phone = ?, email = ?, birth_date = ?, "
+            + "address = ?, allergens = ?, illnesses = ?, surgeries = ?, immunizations = ? WHERE nric = ?";
+    private static final String INSERT_PERSON = "INSERT INTO persons (name, phone, email, birth_date, address, "
+            + "allergens, illnesses, surgeries, immunizations, nric) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String DELETE_PERSON = "DELETE FROM persons WHERE nric = ?";
+    private static final String DELETE_ALL_PERSONS = "DELETE FROM persons";
+    private static final String DELETE_TAGS = "DELETE FROM tags WHERE person_nric = ?";
+    private static final String INSERT_TAG = "INSERT INTO tags (person_nric, tag_name) VALUES (?, ?)";
+    private static final String DELETE_MEDICINE_USAGES = "DELETE FROM medicine_usages WHERE person_nric = ?";
+    private static final String INSERT_MEDICINE_USAGE = "INSERT INTO medicine_usages "
+            + "(person_nric, position, name, dosage, start_date, end_date) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String DELETE_APPOINTMENTS = "DELETE FROM appointments WHERE person_nric = ?";
+    private static final String INSERT_APPOINTMENT = "INSERT INTO appointments (person_nric, position, description, "
+            + "start_date_time, end_date_time, patient_nric, visited) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT_PERSONS = "SELECT nric, name, phone, email, birth_date, address, "
+            + "allergens, illnesses, surgeries, immunizations FROM persons ORDER BY id";
+    private static final String SELECT_TAGS = "SELECT person_nric, tag_name FROM tags";
+    private static final String SELECT_MEDICINE_USAGES = "SELECT person_nric, name, dosage, start_date, end_date "
+            + "FROM medicine_usages ORDER BY person_nric, position";
+    private static final String SELECT_APPOINTMENTS = "SELECT person_nric, description, start_date_time, "
+            + "end_date_time, patient_nric, visited FROM appointments ORDER BY person_nric, position";
+
+    private static final Logger logger = LogsCenter.getLogger(SqlKlinixStorage.class);
+
+    private final Path filePath;
+
+    /** The klinix last saved, its modification version then, and the NRICs of its persons. */
+    private ReadOnlyKlinix savedKlinix;
+    private long savedVersion;
+    private final Set<Nric> savedNrics = new HashSet<>();
+
+    public SqlKlinixStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the database file that takes the place of the JSON data file at {@code jsonFilePath}.
+     */
+    public static Path toDatabaseFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return jsonFilePath.resolveSibling(baseName + DATABASE_FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getKlinixFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyKlinix> readKlinix() throws DataLoadingException {
+        return readKlinix(filePath);
+    }
+
+    /**
+     * Similar to {@link #readKlinix()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyKlinix> readKlinix(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Database file " + filePath + " found.");
+
+        try (Connection connection = openConnection(filePath)) {
+            if (filePath.equals(this.filePath)) {
+                savedKlinix = null;
+            }
+            return Optional.of(readKlinix(connection));
+        } catch (SQLException e) {
+            logger.warning("Error reading from database file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveKlinix(ReadOnlyKlinix klinix) throws IOException {
+        saveKlinix(klinix, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveKlinix(ReadOnlyKlinix)}.
+     * Saving to a database other than the data file writes all persons to that database.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveKlinix(ReadOnlyKlinix klinix, Path filePath) throws IOException {
+        requireNonNull(klinix);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            new SqlKlinixStorage(filePath).saveKlinix(klinix);
+            return;
+        }
+
+        Optional<List<Nric>> changedNrics = klinix == savedKlinix
+                ? klinix.getNricsChangedSince(savedVersion)
+                : Optional.empty();
+        // a save that fails part way is rolled back, and followed by a save of all persons
+        savedKlinix = null;
+        try (Connection connection = openConnection(filePath)) {
+            connection.setAutoCommit(false);
+            try {
+                if (changedNrics.isPresent() && isOrderKept(klinix)) {
+                    saveChanges(connection, klinix, changedNrics.get());
+                } else {
+                    saveAll(connection, klinix);
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new IOException("Error writing to database file " + filePath + ": " + e.getMessage(), e);
+        }
+        savedKlinix = klinix;
+        savedVersion = klinix.getModificationVersion();
+        savedNrics.clear();
+        klinix.getPersonList().forEach(person -> savedNrics.add(person.getNric()));
+    }
+
+    private static Connection openConnection(Path filePath) throws SQLException {
+        String path = filePath.toAbsolutePath().toString();
+        if (path.endsWith(DATABASE_FILE_EXTENSION)) {
+            path = path.substring(0, path.length() - DATABASE_FILE_EXTENSION.length());
+        }
+        Connection connection = DriverManager.getConnection(JDBC_URL_PREFIX + path);
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : CREATE_SCHEMA) {
+                statement.execute(sql);
+            }
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        return connection;
+    }
+
+    //// writing
+
+    /**
+     * Returns true if the persons of {@code klinix} that are not in the database yet all come after those that are,
+     * so that inserting them keeps the order of the persons. This is not so when the NRIC of a person is edited.
+     */
+    private boolean isOrderKept(ReadOnlyKlinix klinix) {
+        boolean isAddedPersonSeen = false;
+        for (Person person : klinix.getPersonList()) {
+            boolean isAdded = !savedNrics.contains(person.getNric());
+            if (isAddedPersonSeen && !isAdded) {
+                return false;
+            }
+            isAddedPersonSeen |= isAdded;
+        }
+        return true;
+    }
+
+    /**
+     * Updates the rows of the persons with {@code changedNrics}, inserting those added in order and deleting those
+     * removed.
+     */
+    private static void saveChanges(Connection connection, ReadOnlyKlinix klinix, List<Nric> changedNrics)
+            throws SQLException {
+        for (Nric nric : changedNrics) {
+            if (klinix.findPersonByNric(nric) == null) {
+                deleteRows(connection, DELETE_PERSON, nric.value);
+            }
+        }
+
+        Set<Nric> changedNricSet = new HashSet<>(changedNrics);
+        for (Person person : klinix.getPersonList()) {
+            if (changedNricSet.contains(person.getNric())) {
+                upsertPerson(connection, person);
+            }
+        }
+    }
+
+    /**
+     * Replaces the rows of all persons with those of the persons in {@code klinix}, in order.
+     */
+    private static void saveAll(Connection connection, ReadOnlyKlinix klinix) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate(DELETE_ALL_PERSONS);
+        }
+        for (Person person : klinix.getPersonList()) {
+            upsertPerson(connection, person);
+        }
+    }
+
+    /**
+     * Updates the row of {@code person}, or inserts it if there is none, and replaces the rows of its tags, medicine
+     * usages and appointments.
+     */
+    private static void upsertPerson(Connection connection, Person person) throws SQLException {
+        String nric = person.getNric().value;
+        MedicalReport medicalReport = person.getMedicalReport();
+        int updatedCount;
+        try (PreparedStatement statement = connection.prepareStatement(UPDATE_PERSON)) {
+            setPersonParameters(statement, person, medicalReport);
+            updatedCount = statement.executeUpdate();
+        }
+        if (updatedCount == 0) {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_PERSON)) {
+                setPersonParameters(statement, person, medicalReport);
+                statement.executeUpdate();
+            }
+        }
+
+        deleteRows(connection, DELETE_TAGS, nric);
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_TAG)) {
+            for (Tag tag : person.getTags()) {
+                statement.setString(1, nric);
+                statement.setString(2, tag.tagName);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+
+        deleteRows(connection, DELETE_MEDICINE_USAGES, nric);
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_MEDICINE_USAGE)) {
+            int position = 0;
+            for (MedicineUsage medicineUsage : medicalReport.getMedicineUsages()) {
+                statement.setString(1, nric);
+                statement.setInt(2, position++);
+                statement.setString(3, medicineUsage.getName().fullName);
+                statement.setString(4, medicineUsage.getDosage().dosage);
+                statement.setObject(5, medicineUsage.getStartDate());
+                statement.setObject(6, medicineUsage.getEndDate());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+
+        deleteRows(connection, DELETE_APPOINTMENTS, nric);
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_APPOINTMENT)) {
+            int position = 0;
+            for (Appointment appointment : person.getAppointments()) {
+                statement.setString(1, nric);
+                statement.setInt(2, position++);
+                statement.setString(3, appointment.getDescription());
+                statement.setObject(4, appointment.getStartDateTime());
+                statement.setObject(5, appointment.getEndDateTime());
+                statement.setString(6, appointment.getPatientNric());
+                statement.setBoolean(7, appointment.getVisited());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    /**
+     * Sets the parameters of {@code UPDATE_PERSON} or {@code INSERT_PERSON}, which are in the same order.
+     */
+    private static void setPersonParameters(PreparedStatement statement, Person person, MedicalReport medicalReport)
+            throws SQLException {
+        statement.setString(1, person.getName().fullName);
+        statement.setString(2, person.getPhone().value);
+        statement.setString(3, person.getEmail().value);
+        statement.setObject(4, person.getBirthDate().value);
+        statement.setString(5, person.getAddress().value);
+        statement.setString(6, medicalReport.getAllergens());
+        statement.setString(7, medicalReport.getIllnesses());
+        statement.setString(8, medicalReport.getSurgeries());
+        statement.setString(9, medicalReport.getImmunizations());
+        statement.setString(10, person.getNric().value);
+    }
+
+    private static void deleteRows(Connection connection, String sql, String nric) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, nric);
+            statement.executeUpdate();
+        }
+    }
+
+    //// reading
+
+    /**
+     * Reads the klinix from the tables in the database.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the rows.
+     */
+    private static Klinix readKlinix(Connection connection) throws SQLException, IllegalValueException {
+        Map<String, Set<Tag>> tagsByNric = new HashMap<>();
+        Map<String, List<MedicineUsage>> medicineUsagesByNric = new HashMap<>();
+        Map<String, List<Appointment>> appointmentsByNric = new HashMap<>();
+        List<Person> persons = new ArrayList<>();
+        String nric = null;
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet rows = statement.executeQuery(SELECT_TAGS)) {
+                while (rows.next()) {
+                    nric = rows.getString("person_nric");
+                    tagsByNric.computeIfAbsent(nric, unused -> new HashSet<>())
+                            .add(new Tag(rows.getString("tag_name")));
+                }
+            }
+
+            try (ResultSet rows = statement.executeQuery(SELECT_MEDICINE_USAGES)) {
+                while (rows.next()) {
+                    nric = rows.getString("person_nric");
+                    medicineUsagesByNric.computeIfAbsent(nric, unused -> new ArrayList<>())
+                            .add(new MedicineUsage(new MedicineName(rows.getString("name")),
+                                    new Dosage(rows.getString("dosage")),
+                                    rows.getObject("start_date", LocalDate.class),
+                                    rows.getObject("end_date", LocalDate.class)));
+                }
+            }
+
+            try (ResultSet rows = statement.executeQuery(SELECT_APPOINTMENTS)) {
+                while (rows.next()) {
+                    nric = rows.getString("person_nric");
+                    appointmentsByNric.computeIfAbsent(nric, unused -> new ArrayList<>())
+                            .add(new Appointment(rows.getString("description"),
+                                    rows.getObject("start_date_time", LocalDateTime.class),
+                                    rows.getObject("end_date_time", LocalDateTime.class),
+                                    rows.getString("patient_nric"), rows.getBoolean("visited")));
+                }
+            }
+
+            try (ResultSet rows = statement.executeQuery(SELECT_PERSONS)) {
+                while (rows.next()) {
+                    nric = rows.getString("nric");
+                    persons.add(readPerson(rows, tagsByNric.getOrDefault(nric, Set.of()),
+                            medicineUsagesByNric.getOrDefault(nric, List.of()),
+                            appointmentsByNric.getOrDefault(nric, List.of())));
+                }
+            }
+        } catch (IllegalArgumentException | DateTimeException | OverlappingMedicineUsageException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_PERSON_ROW, nric, e.getMessage()), e);
+        }
+
+        Klinix klinix = new Klinix();
+        klinix.setPersonsWithAppointments(persons);
+        return klinix;
+    }
+
+    /**
+     * Reads the person in the current row of {@code rows}, with the given tags, medicine usages and appointments.
+     */
+    private static Person readPerson(ResultSet rows, Set<Tag> tags, List<MedicineUsage> medicineUsages,
+            List<Appointment> appointments) throws SQLException {
+        MedicalReport medicalReport = new MedicalReport(rows.getString("allergens"), rows.getString("illnesses"),
+                rows.getString("surgeries"), rows.getString("immunizations"));
+        medicalReport.setMedicineUsages(medicineUsages);
+        AppointmentList appointmentList = new AppointmentList();
+        for (Appointment appointment : appointments) {
+            appointmentList.add(appointment);
+        }
+
+        return new Person(new Name(rows.getString("name")), new Phone(rows.getString("phone")),
+                new Email(rows.getString("email")), new Nric(rows.getString("nric")),
+                new BirthDate(rows.getObject("birth_date", LocalDate.class).format(DATE_FORMATTER)),
+                new Address(rows.getString("address")), tags, medicalReport, appointmentList);
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyKlinix;
@@ -29,4 +30,16 @@ public interface Storage extends KlinixStorage, UserPrefsStorage {
     @Override
     void saveKlinix(ReadOnlyKlinix klinix) throws IOException;
 
+    /**
+     * Sets the handler that is given the exception of every failed write of klinix data saved in the background.
+     */
+    void setSaveFailureHandler(Consumer<IOException> saveFailureHandler);
+
+    /**
+     * Waits until all the klinix data saved so far has been written.
+     *
+     * @throws IOException if the last write failed.
+     */
+    void flush() throws IOException;
+
 }
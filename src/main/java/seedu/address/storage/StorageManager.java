@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -17,14 +18,15 @@ import seedu.address.model.UserPrefs;
 public class StorageManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
-    private KlinixStorage klinixStorage;
+    private AsyncKlinixStorage klinixStorage;
     private UserPrefsStorage userPrefsStorage;
 
     /**
      * Creates a {@code StorageManager} with the given {@code KlinixStorage} and {@code UserPrefStorage}.
+     * Klinix data is written through {@code klinixStorage} on a background writer thread.
      */
     public StorageManager(KlinixStorage klinixStorage, UserPrefsStorage userPrefsStorage) {
-        this.klinixStorage = klinixStorage;
+        this.klinixStorage = new AsyncKlinixStorage(klinixStorage);
         this.userPrefsStorage = userPrefsStorage;
     }
 
@@ -75,4 +77,15 @@ public class StorageManager implements Storage {
         klinixStorage.saveKlinix(klinix, filePath);
     }
 
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        klinixStorage.setSaveFailureHandler(saveFailureHandler);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        logger.fine("Waiting for pending writes to data file: " + klinixStorage.getKlinixFilePath());
+        klinixStorage.flush();
+    }
+
 }
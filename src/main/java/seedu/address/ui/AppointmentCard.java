@@ -11,10 +11,16 @@ import seedu.address.model.appointment.Appointment;
 
 /**
  * A UI component that displays information of a {@code Appointment}.
+ * Like a {@code PersonCard}, a card can be bound to another appointment after it is created.
  */
 public class AppointmentCard extends UiPart<Region> {
     private static final String FXML = "AppointmentCard.fxml";
-    public final Appointment appointment;
+    private static final String VISITED_STYLE =
+            "-fx-background-color: rgba(253,189,57,0.7); -fx-text-fill: rgba(0,0,0,0.69);";
+    private static final String NOT_VISITED_STYLE =
+            "-fx-background-color: rgba(200,207,45,0.68); -fx-text-fill: rgba(0,0,0,0.69);";
+
+    private Appointment appointment;
 
     @FXML
     private HBox cardPane;
@@ -31,18 +37,32 @@ public class AppointmentCard extends UiPart<Region> {
     @FXML
     private Label visited;
 
+    /**
+     * Creates a {@code AppointmentCard} that is not showing any appointment yet.
+     */
+    public AppointmentCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code AppointmentCard} with the given {@code Appointment} and index to display.
      */
     public AppointmentCard(Appointment appointment, int displayedIndex, String pn) {
-        super(FXML);
-        this.appointment = appointment;
-        if (appointment.getVisited()) {
-            visited.setStyle("-fx-background-color: rgba(253,189,57,0.7); -fx-text-fill: rgba(0,0,0,0.69);");
-        } else {
-            visited.setStyle("-fx-background-color: rgba(200,207,45,0.68); -fx-text-fill: rgba(0,0,0,0.69);");
-        }
+        this();
+        setAppointment(appointment, displayedIndex, pn);
+    }
+
+    public Appointment getAppointment() {
+        return appointment;
+    }
 
+    /**
+     * Shows {@code appointment} of the patient named {@code pn} with the given index on this card in place of the
+     * appointment shown before.
+     */
+    public void setAppointment(Appointment appointment, int displayedIndex, String pn) {
+        this.appointment = appointment;
+        visited.setStyle(appointment.getVisited() ? VISITED_STYLE : NOT_VISITED_STYLE);
         visited.setText(appointment.getVisited() ? "Visited" : "Not Visited");
         description.setText(appointment.getDescription());
         startDate.setText(appointment.getStartDateTime().format(DATE_TIME_FORMATTER));
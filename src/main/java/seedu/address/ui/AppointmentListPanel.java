@@ -10,7 +10,6 @@ import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.ReadOnlyKlinix;
 import seedu.address.model.appointment.Appointment;
-import seedu.address.model.person.Nric;
 
 /**
  * Panel containing the list of appointments.
@@ -37,6 +36,8 @@ public class AppointmentListPanel extends UiPart<Region> {
      * Custom {@code ListCell} that displays the graphics of a {@code Appointment} using a {@code AppointmentCard}.
      */
     class AppointmentListViewCell extends ListCell<Appointment> {
+        private AppointmentCard appointmentCard;
+
         @Override
         protected void updateItem(Appointment appointment, boolean empty) {
             super.updateItem(appointment, empty);
@@ -44,15 +45,15 @@ public class AppointmentListPanel extends UiPart<Region> {
             if (empty || appointment == null) {
                 setGraphic(null);
                 setText(null);
-            } else {
-                setGraphic(
-                        new AppointmentCard(
-                                appointment, getIndex() + 1,
-                                klinix.findPersonByNric(
-                                        new Nric(appointment.getPatientNric()))
-                                        .getName().toString())
-                                .getRoot());
+                return;
+            }
+
+            if (appointmentCard == null) {
+                appointmentCard = new AppointmentCard();
             }
+            appointmentCard.setAppointment(appointment, getIndex() + 1,
+                    klinix.findPersonNameByNric(appointment.getPatientNric()));
+            setGraphic(appointmentCard.getRoot());
         }
     }
 }
@@ -7,6 +7,7 @@ import javafx.scene.layout.Region;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.ICommandHistory;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.SearchCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -17,6 +18,7 @@ public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
+    private static final String LIVE_SEARCH_PREFIX = SearchCommand.COMMAND_WORD + " ";
 
     private final CommandExecutor commandExecutor;
     private final ICommandHistory commandHistory = new CommandHistory();
@@ -26,15 +28,22 @@ public class CommandBox extends UiPart<Region> {
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code PersonSearcher}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, PersonSearcher personSearcher) {
         super(FXML);
         this.commandExecutor = commandExecutor;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty()
                 .addListener((unused1, unused2, unused3) -> setStyleToDefault());
 
+        // searches for the keywords typed so far while a search command is being typed
+        commandTextField.textProperty().addListener((unused, oldText, newText) -> {
+            if (newText.startsWith(LIVE_SEARCH_PREFIX)) {
+                personSearcher.search(newText.substring(LIVE_SEARCH_PREFIX.length()));
+            }
+        });
+
         commandTextField.focusedProperty().addListener((observable, oldValue, newValue) -> {
             if (!newValue) {
                 setStyleToDefault();
@@ -143,4 +152,17 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that filters the person list by keywords typed so far, without waiting for the result.
+     */
+    @FunctionalInterface
+    public interface PersonSearcher {
+        /**
+         * Searches for the persons matching {@code keywords}.
+         *
+         * @see seedu.address.logic.Logic#searchPersons(String)
+         */
+        void search(String keywords);
+    }
+
 }
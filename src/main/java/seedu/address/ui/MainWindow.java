@@ -4,6 +4,7 @@ import static seedu.address.commons.util.DateUtil.DATE_DISPLAY_FORMATTER;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.beans.binding.Bindings;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -40,7 +41,6 @@ public class MainWindow extends UiPart<Stage> {
     private PersonListPanel personListPanel;
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
-    private ConfirmWindow confirmWindow;
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -79,7 +79,7 @@ public class MainWindow extends UiPart<Stage> {
         setAccelerators();
 
         helpWindow = new HelpWindow();
-        confirmWindow = new ConfirmWindow();
+        logic.setConfirmationPolicy(command -> new ConfirmWindow().showAndWait());
     }
 
     public Stage getPrimaryStage() {
@@ -126,8 +126,10 @@ public class MainWindow extends UiPart<Stage> {
     void fillInnerParts() {
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
+        logic.setSearchResultExecutor(Platform::runLater);
 
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList(), resultDisplay);
+        personListPanel = new PersonListPanel(logic.getFilteredPersonList(), logic.getKlinix(), resultDisplay);
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
         AppointmentListPanel appointmentListPanel = new AppointmentListPanel(
@@ -137,7 +139,7 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getKlinixFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::searchPersons);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
         appointmentListTitle.textProperty().bind(
@@ -1,8 +1,12 @@
 package seedu.address.ui;
 
 import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
 
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
@@ -11,6 +15,8 @@ import seedu.address.model.person.Person;
 
 /**
  * A UI component that displays information of a {@code Person}.
+ * A card can be bound to another person after it is created, so that a list cell can reuse its card instead of
+ * loading the card's FXML again whenever the person it shows changes.
  */
 public class PersonCard extends UiPart<Region> {
 
@@ -24,7 +30,7 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private Person person;
 
     @FXML
     private HBox cardPane;
@@ -52,10 +58,28 @@ public class PersonCard extends UiPart<Region> {
     private FlowPane appointments;
 
     /**
-     * Creates a {@code PersonCode} with the given {@code Person} and index to display.
+     * Creates a {@code PersonCard} that is not showing any person yet.
      */
-    public PersonCard(Person person, int displayedIndex) {
+    public PersonCard() {
         super(FXML);
+    }
+
+    /**
+     * Creates a {@code PersonCard} with the given {@code Person} and index to display.
+     */
+    public PersonCard(Person person, int displayedIndex) {
+        this();
+        setPerson(person, displayedIndex);
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Shows {@code person} with the given index on this card in place of the person shown before.
+     */
+    public void setPerson(Person person, int displayedIndex) {
         this.person = person;
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
@@ -64,8 +88,27 @@ public class PersonCard extends UiPart<Region> {
         phone.setText(person.getPhone().value);
         address.setText(person.getAddress().value);
         email.setText(person.getEmail().value);
-        person.getTags().stream().sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+        setTags(person.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted(Comparator.naturalOrder())
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Shows {@code tagNames} in order, reusing the tag labels already on this card.
+     */
+    private void setTags(List<String> tagNames) {
+        ObservableList<Node> tagLabels = tags.getChildren();
+        for (int i = 0; i < tagNames.size(); i++) {
+            if (i < tagLabels.size()) {
+                ((Label) tagLabels.get(i)).setText(tagNames.get(i));
+            } else {
+                tagLabels.add(new Label(tagNames.get(i)));
+            }
+        }
+        if (tagLabels.size() > tagNames.size()) {
+            tagLabels.remove(tagNames.size(), tagLabels.size());
+        }
     }
 }
 
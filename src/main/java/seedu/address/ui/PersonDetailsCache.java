@@ -0,0 +1,96 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import seedu.address.model.ReadOnlyKlinix;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+
+/**
+ * Caches the details of the persons shown in the result display, so that selecting a person again does not format
+ * all of its medicine usages and appointments again.
+ * <p>
+ * The details of a person are formatted again only after the klinix reports that person as added, edited or
+ * removed, which includes changes to its medical report and appointments. All details are formatted again after
+ * the klinix is replaced, or on a new day, as the details include the age of the person.
+ */
+class PersonDetailsCache {
+
+    private final ReadOnlyKlinix klinix;
+    private final Function<Person, String> formatter;
+    private final Map<Nric, CachedDetails> detailsByNric = new HashMap<>();
+    private long cachedVersion;
+    private LocalDate cachedDate;
+
+    /**
+     * Creates a {@code PersonDetailsCache} of the persons in {@code klinix}, whose details are formatted by
+     * {@code formatter}.
+     */
+    PersonDetailsCache(ReadOnlyKlinix klinix, Function<Person, String> formatter) {
+        requireNonNull(klinix);
+        requireNonNull(formatter);
+        this.klinix = klinix;
+        this.formatter = formatter;
+        cachedVersion = klinix.getModificationVersion();
+        cachedDate = LocalDate.now();
+    }
+
+    /**
+     * Returns the details of {@code person}, formatting them only if they are not cached or out of date.
+     */
+    String get(Person person) {
+        requireNonNull(person);
+        invalidateChanged();
+
+        CachedDetails cached = detailsByNric.get(person.getNric());
+        if (cached != null && cached.person == person) {
+            return cached.details;
+        }
+        String details = formatter.apply(person);
+        detailsByNric.put(person.getNric(), new CachedDetails(person, details));
+        return details;
+    }
+
+    /**
+     * Removes the details of the persons changed since they were cached.
+     */
+    private void invalidateChanged() {
+        LocalDate today = LocalDate.now();
+        if (!today.equals(cachedDate)) {
+            detailsByNric.clear();
+            cachedDate = today;
+        }
+
+        long version = klinix.getModificationVersion();
+        if (version == cachedVersion) {
+            return;
+        }
+        Optional<List<Nric>> changedNrics = klinix.getNricsChangedSince(cachedVersion);
+        if (changedNrics.isPresent()) {
+            changedNrics.get().forEach(detailsByNric::remove);
+        } else {
+            detailsByNric.clear();
+        }
+        cachedVersion = version;
+    }
+
+    /**
+     * The details formatted for a person.
+     */
+    private static class CachedDetails {
+        private final Person person;
+        private final String details;
+
+        CachedDetails(Person person, String details) {
+            this.person = person;
+            this.details = details;
+        }
+    }
+}
@@ -13,6 +13,7 @@ import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyKlinix;
 import seedu.address.model.appointment.Appointment;
 import seedu.address.model.medicineusage.MedicineUsage;
 import seedu.address.model.person.Person;
@@ -27,25 +28,31 @@ public class PersonListPanel extends UiPart<Region> {
     @FXML
     private ListView<Person> personListView;
     private ResultDisplay resultDisplay;
+    private final PersonDetailsCache personDetails;
 
     /**
-     * Creates a {@code PersonListPanel} with the given {@code ObservableList}.
+     * Creates a {@code PersonListPanel} with the given {@code ObservableList} of persons in {@code klinix}.
      */
-    public PersonListPanel(ObservableList<Person> personList, ResultDisplay resultDisplay) {
+    public PersonListPanel(ObservableList<Person> personList, ReadOnlyKlinix klinix, ResultDisplay resultDisplay) {
         super(FXML);
         this.resultDisplay = resultDisplay;
+        this.personDetails = new PersonDetailsCache(klinix, PersonListPanel::parsePersonData);
         personListView.setItems(personList);
         personListView.setCellFactory(listView -> new PersonListViewCell());
         personListView.setOnMouseClicked(event -> {
             Person selectedItem = personListView.getSelectionModel().getSelectedItem();
-            if (selectedItem != null && !parsePersonData(selectedItem).equals(resultDisplay.getText())) {
-                updateResultDisplay(parsePersonData(selectedItem));
+            if (selectedItem == null) {
+                return;
+            }
+            String details = personDetails.get(selectedItem);
+            if (!details.equals(resultDisplay.getText())) {
+                updateResultDisplay(details);
             }
         });
         personListView.getSelectionModel().selectedItemProperty().addListener(new ChangeListener<Person>() {
             @Override
             public void changed(ObservableValue<? extends Person> observable, Person oldValue, Person newValue) {
-                updateResultDisplay(newValue != null ? parsePersonData(newValue).toString() : "");
+                updateResultDisplay(newValue != null ? personDetails.get(newValue) : "");
             }
         });
     }
@@ -107,6 +114,8 @@ public class PersonListPanel extends UiPart<Region> {
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
      */
     class PersonListViewCell extends ListCell<Person> {
+        private PersonCard personCard;
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
@@ -114,9 +123,15 @@ public class PersonListPanel extends UiPart<Region> {
             if (empty || person == null) {
                 setGraphic(null);
                 setText(null);
-            } else {
-                setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+                return;
+            }
+
+            // The list view reuses its cells as it scrolls, so each cell loads its card once and rebinds it after
+            if (personCard == null) {
+                personCard = new PersonCard();
             }
+            personCard.setPerson(person, getIndex() + 1);
+            setGraphic(personCard.getRoot());
         }
     }
 
@@ -1,13 +1,24 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +31,64 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_missingParentDirectories_fileWritten() throws Exception {
+        Path file = testFolder.resolve("parent").resolve("file.txt");
+        FileUtil.writeToFile(file, "content");
+        assertEquals("content", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeAtomically_existingFile_replacedAndBackupKept() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        Path backupFile = testFolder.resolve("file.txt.bak");
+        FileUtil.writeAtomically(file, out -> out.write("old".getBytes(StandardCharsets.UTF_8)), backupFile);
+        assertFalse(Files.exists(backupFile));
+
+        FileUtil.writeAtomically(file, out -> {
+            out.write("new".getBytes(StandardCharsets.UTF_8));
+            out.close();
+        }, backupFile);
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertEquals("old", FileUtil.readFromFile(backupFile));
+        assertEquals(2, countFiles(testFolder));
+    }
+
+    @Test
+    public void writeAtomically_writeFails_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old");
+
+        assertThrows(IOException.class, "dummy IO exception", () -> FileUtil.writeAtomically(file, out -> {
+            out.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("dummy IO exception");
+        }));
+        assertEquals("old", FileUtil.readFromFile(file));
+        assertEquals(1, countFiles(testFolder));
+    }
+
+    @Test
+    public void createAtomically_directory_created() throws Exception {
+        Path directory = testFolder.resolve("directory");
+        FileUtil.createAtomically(directory, path -> FileUtil.writeToFile(path.resolve("file.txt"), "content"));
+        assertEquals("content", FileUtil.readFromFile(directory.resolve("file.txt")));
+        assertEquals(1, countFiles(testFolder));
+    }
+
+    @Test
+    public void createAtomically_writeFails_nothingCreated() throws Exception {
+        Path directory = testFolder.resolve("directory");
+        assertThrows(IOException.class, "dummy IO exception", () -> FileUtil.createAtomically(directory, path -> {
+            FileUtil.writeToFile(path.resolve("file.txt"), "partial");
+            throw new IOException("dummy IO exception");
+        }));
+        assertEquals(0, countFiles(testFolder));
+    }
+
+    private static long countFiles(Path folder) throws IOException {
+        try (Stream<Path> files = Files.list(folder)) {
+            return files.count();
+        }
+    }
+
 }
@@ -0,0 +1,94 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.RecordFileReader.Format;
+import seedu.address.commons.util.RecordFileReader.Record;
+
+public class RecordFileReaderTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void formatOf_fileExtension_matchingFormat() {
+        assertEquals(Optional.of(Format.CSV), Format.of(Paths.get("data", "patients.CSV")));
+        assertEquals(Optional.of(Format.NDJSON), Format.of(Paths.get("patients.ndjson")));
+        assertEquals(Optional.empty(), Format.of(Paths.get("patients.json")));
+    }
+
+    @Test
+    public void readRecord_csv_fieldsByColumnName() throws Exception {
+        Path file = write("patients.csv", "Name, NRIC ,Address", "", "Amy,T1234567J,\"Block 1, \"\"Amy\"\" Street\"",
+                "Bob,T1234567K,\"Block 2", "Bob Street\"", "Carl,T1234567L,");
+        try (RecordFileReader reader = new RecordFileReader(file, Format.CSV)) {
+            assertEquals(Optional.of(List.of("name", "nric", "address")), reader.getColumnNames());
+            assertRecord(3, Map.of("name", "Amy", "nric", "T1234567J", "address", "Block 1, \"Amy\" Street"),
+                    reader.readRecord());
+            assertRecord(4, Map.of("name", "Bob", "nric", "T1234567K", "address", "Block 2\nBob Street"),
+                    reader.readRecord());
+            assertRecord(6, Map.of("name", "Carl", "nric", "T1234567L", "address", ""), reader.readRecord());
+            assertFalse(reader.readRecord().isPresent());
+        }
+    }
+
+    @Test
+    public void readRecord_malformedCsvRow_skippedWithLineNumber() throws Exception {
+        Path file = write("patients.csv", "name,nric", "Amy", "Bob,T1234567K", "Carl,\"T1234567L");
+        try (RecordFileReader reader = new RecordFileReader(file, Format.CSV)) {
+            assertThrows(IllegalValueException.class, String.format(RecordFileReader.MESSAGE_WRONG_FIELD_COUNT, 1, 2),
+                    reader::readRecord);
+            assertEquals(2, reader.getRecordLineNumber());
+            assertRecord(3, Map.of("name", "Bob", "nric", "T1234567K"), reader.readRecord());
+            assertThrows(IllegalValueException.class, RecordFileReader.MESSAGE_UNCLOSED_QUOTE, reader::readRecord);
+            assertEquals(4, reader.getRecordLineNumber());
+            assertFalse(reader.readRecord().isPresent());
+        }
+    }
+
+    @Test
+    public void readRecord_ndjson_fieldsByName() throws Exception {
+        Path file = write("patients.ndjson", "{\"Name\": \"Amy\", \"phone\": 11111111, \"tags\": [\"a\", \"b\"]}",
+                "   ", "[1, 2]", "{\"name\": \"Bob\", \"email\": null}");
+        try (RecordFileReader reader = new RecordFileReader(file, Format.NDJSON)) {
+            assertEquals(Optional.empty(), reader.getColumnNames());
+            assertRecord(1, Map.of("name", "Amy", "phone", "11111111", "tags", "a;b"), reader.readRecord());
+            assertThrows(IllegalValueException.class, RecordFileReader.MESSAGE_NOT_JSON_OBJECT, reader::readRecord);
+            assertEquals(3, reader.getRecordLineNumber());
+            assertRecord(4, Map.of("name", "Bob"), reader.readRecord());
+            assertFalse(reader.readRecord().isPresent());
+        }
+    }
+
+    @Test
+    public void constructor_missingFile_throwsIoException() {
+        assertThrows(IOException.class, () -> new RecordFileReader(testFolder.resolve("missing.csv"), Format.CSV));
+    }
+
+    private static void assertRecord(int expectedLineNumber, Map<String, String> expectedFields,
+            Optional<Record> record) {
+        assertEquals(expectedLineNumber, record.get().getLineNumber());
+        assertEquals(expectedFields, record.get().getFields());
+    }
+
+    private Path write(String fileName, String... lines) throws IOException {
+        Path file = testFolder.resolve(fileName);
+        Files.write(file, Arrays.asList(lines));
+        return file;
+    }
+}
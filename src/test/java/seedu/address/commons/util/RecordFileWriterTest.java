@@ -0,0 +1,66 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.RecordFileReader.Format;
+import seedu.address.commons.util.RecordFileReader.Record;
+
+public class RecordFileWriterTest {
+
+    private static final List<String> COLUMNS = List.of("name", "address");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void writeRecord_csv_quotesFieldsWhenNeeded() throws Exception {
+        StringWriter out = new StringWriter();
+        try (RecordFileWriter writer = new RecordFileWriter(out, Format.CSV, COLUMNS)) {
+            writer.writeRecord(List.of("Amy", "Block 1, \"Amy\" Street"));
+            writer.writeRecord(List.of("Bob", ""));
+        }
+        assertEquals("name,address\nAmy,\"Block 1, \"\"Amy\"\" Street\"\nBob,\n", out.toString());
+    }
+
+    @Test
+    public void writeRecord_ndjson_oneObjectPerLine() throws Exception {
+        StringWriter out = new StringWriter();
+        try (RecordFileWriter writer = new RecordFileWriter(out, Format.NDJSON, COLUMNS)) {
+            writer.writeRecord(List.of("Amy", "Block 1\n\"Amy\" Street"));
+        }
+        assertEquals("{\"name\":\"Amy\",\"address\":\"Block 1\\n\\\"Amy\\\" Street\"}\n", out.toString());
+    }
+
+    @Test
+    public void writeRecord_wrongFieldCount_throwsIllegalArgumentException() throws Exception {
+        RecordFileWriter writer = new RecordFileWriter(new StringWriter(), Format.CSV, COLUMNS);
+        assertThrows(IllegalArgumentException.class, String.format(RecordFileWriter.MESSAGE_WRONG_FIELD_COUNT, 1, 2),
+                () -> writer.writeRecord(List.of("Amy")));
+    }
+
+    @Test
+    public void writeRecord_readBack_sameFields() throws Exception {
+        for (Format format : Format.values()) {
+            Path file = testFolder.resolve("records" + format.getFileExtension());
+            try (RecordFileWriter writer = new RecordFileWriter(Files.newBufferedWriter(file), format, COLUMNS)) {
+                writer.writeRecord(List.of("Amy", "Block 1,\n\"Amy\" Street"));
+            }
+            try (RecordFileReader reader = new RecordFileReader(file, format)) {
+                Record record = reader.readRecord().get();
+                assertEquals(Map.of("name", "Amy", "address", "Block 1,\n\"Amy\" Street"), record.getFields());
+                assertFalse(reader.readRecord().isPresent());
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalKlinix;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class LivePersonSearchTest {
+
+    private final Model model = new ModelManager(getTypicalKlinix(), new UserPrefs());
+    private final List<Runnable> pendingResults = new ArrayList<>();
+
+    @Test
+    public void search_keywords_filtersPersonList() throws Exception {
+        LivePersonSearch search = new LivePersonSearch(model, 0, Runnable::run);
+        search.search(List.of("meier", "friends")).get();
+        assertEquals(List.of(BENSON, DANIEL), model.getFilteredPersonList());
+
+        search.search(List.of()).get();
+        assertEquals(getTypicalPersons(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void search_noResultExecutor_resultDiscarded() throws Exception {
+        LivePersonSearch search = new LivePersonSearch(model, 0);
+        search.search(List.of("meier")).get();
+        assertEquals(getTypicalPersons(), model.getFilteredPersonList());
+
+        search.setResultExecutor(Runnable::run);
+        search.search(List.of("meier")).get();
+        assertEquals(List.of(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void search_newerSearchWithinDelay_olderSearchCancelled() throws Exception {
+        LivePersonSearch search = new LivePersonSearch(model, 200, Runnable::run);
+        Future<?> staleSearch = search.search(List.of("meier"));
+        Future<?> latestSearch = search.search(List.of("alice"));
+
+        assertTrue(staleSearch.isCancelled());
+        latestSearch.get();
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void search_resultAppliedAfterNewerSearch_resultIgnored() throws Exception {
+        LivePersonSearch search = new LivePersonSearch(model, 0, pendingResults::add);
+        search.search(List.of("meier")).get();
+        Runnable staleResult = pendingResults.remove(0);
+        search.search(List.of("alice")).get();
+
+        staleResult.run();
+        assertEquals(getTypicalPersons(), model.getFilteredPersonList());
+        pendingResults.remove(0).run();
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void cancel_resultNotYetApplied_resultIgnored() throws Exception {
+        LivePersonSearch search = new LivePersonSearch(model, 0, pendingResults::add);
+        search.search(List.of("meier")).get();
+        search.cancel();
+
+        pendingResults.remove(0).run();
+        assertEquals(getTypicalPersons(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void shutdown_searchNotYetStarted_searchCancelled() {
+        LivePersonSearch search = new LivePersonSearch(model, 200, Runnable::run);
+        Future<?> pendingSearch = search.search(List.of("meier"));
+        search.shutdown();
+
+        assertTrue(pendingSearch.isCancelled());
+        assertThrows(RejectedExecutionException.class, () -> search.search(List.of("alice")));
+        assertEquals(getTypicalPersons(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void search_personAddedAfterSearch_addedPersonTested() throws Exception {
+        LivePersonSearch search = new LivePersonSearch(model, 0, Runnable::run);
+        search.search(List.of("meier")).get();
+
+        Person newMeier = new PersonBuilder().withName("Anna Meier").withNric("S7654321Z").build();
+        Person newPerson = new PersonBuilder().withName("Anna Schmidt").withNric("S7654321Y").build();
+        model.addPerson(newMeier);
+        model.addPerson(newPerson);
+        assertEquals(List.of(BENSON, DANIEL, newMeier), model.getFilteredPersonList());
+    }
+}
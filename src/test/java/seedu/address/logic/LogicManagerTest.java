@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -14,14 +16,20 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ConfirmationPolicy;
+import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -44,13 +52,14 @@ public class LogicManagerTest {
 
     private Model model = new ModelManager();
     private Logic logic;
+    private StorageManager storage;
 
     @BeforeEach
     public void setUp() {
         JsonKlinixStorage klinixStorage =
                 new JsonKlinixStorage(temporaryFolder.resolve("klinix.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage = new StorageManager(klinixStorage, userPrefsStorage);
+        storage = new StorageManager(klinixStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
     }
 
@@ -73,14 +82,62 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+    public void execute_readOnlyCommand_dataNotSaved() throws Exception {
+        Path klinixFilePath = temporaryFolder.resolve("klinix.json");
+        CommandResult result = logic.executeWithoutConfirmation(ListCommand.COMMAND_WORD);
+        assertFalse(result.isStateChanged());
+        logic.executeWithoutConfirmation(FindCommand.COMMAND_WORD + " Amy");
+        storage.flush();
+        assertFalse(Files.exists(klinixFilePath));
+    }
+
+    @Test
+    public void execute_modifyingCommand_dataSaved() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + NRIC_DESC_AMY + BIRTHDATE_DESC_AMY + ADDRESS_DESC_AMY;
+        CommandResult result = logic.executeWithoutConfirmation(addCommand);
+        assertTrue(result.isStateChanged());
+        storage.flush();
+        assertEquals(model.getKlinix(), storage.readKlinix().get());
+    }
+
+    @Test
+    public void execute_confirmationDenied_commandCancelled() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + NRIC_DESC_AMY + BIRTHDATE_DESC_AMY + ADDRESS_DESC_AMY;
+        logic.setConfirmationPolicy(ConfirmationPolicy.DENY);
+        CommandResult result = logic.execute(addCommand);
+        assertEquals(Command.MESSAGE_CANCELLED, result.getFeedbackToUser());
+        assertFalse(result.isStateChanged());
+        assertEquals(new ModelManager(), model);
+    }
+
+    @Test
+    public void execute_confirmationCallback_askedOnlyForCommandsNeedingConfirmation() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + NRIC_DESC_AMY + BIRTHDATE_DESC_AMY + ADDRESS_DESC_AMY;
+        List<Command> askedCommands = new ArrayList<>();
+        logic.setConfirmationPolicy(askedCommands::add);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertTrue(askedCommands.isEmpty());
+
+        CommandResult result = logic.execute(addCommand);
+        assertEquals(1, askedCommands.size());
+        assertTrue(askedCommands.get(0) instanceof AddCommand);
+        assertTrue(result.isStateChanged());
+        assertEquals(1, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void execute_storageThrowsIoException_reportsSaveFailure() throws Exception {
+        assertSaveFailureReportedForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
     }
 
     @Test
-    public void execute_storageThrowsAdException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
+    public void execute_storageThrowsAdException_reportsSaveFailure() throws Exception {
+        assertSaveFailureReportedForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
@@ -146,9 +203,10 @@ public class LogicManagerTest {
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
      *
      * @param e the exception to be thrown by the Storage component
-     * @param expectedMessage the message expected inside exception thrown by the Logic component
+     * @param expectedMessage the message expected to be given to the save failure handler of the Logic component
      */
-    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+    private void assertSaveFailureReportedForExceptionFromStorage(IOException e, String expectedMessage)
+            throws Exception {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
         // Inject LogicManager with an KlinixStorage that throws the IOException e when saving
@@ -162,16 +220,23 @@ public class LogicManagerTest {
 
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ExceptionUserPrefs.json"));
-        StorageManager storage = new StorageManager(klinixStorage, userPrefsStorage);
+        storage = new StorageManager(klinixStorage, userPrefsStorage);
 
         logic = new LogicManager(model, storage);
+        List<String> saveFailureMessages = new ArrayList<>();
+        logic.setSaveFailureHandler(saveFailureMessages::add);
 
-        // Triggers the saveKlinix method by executing an add command
+        // Triggers the saveKlinix method by executing an add command, which succeeds as data is written in the
+        // background
         String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
                 + EMAIL_DESC_AMY + NRIC_DESC_AMY + BIRTHDATE_DESC_AMY + ADDRESS_DESC_AMY;
         Person expectedPerson = new PersonBuilder(AMY).withTags().build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPerson(expectedPerson);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        assertCommandSuccess(addCommand, String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(expectedPerson)),
+                expectedModel);
+
+        assertThrows(IOException.class, e.getMessage(), storage::flush);
+        assertEquals(List.of(expectedMessage), saveFailureMessages);
     }
 }
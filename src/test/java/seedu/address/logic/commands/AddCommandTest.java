@@ -27,6 +27,8 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.appointment.Appointment;
 import seedu.address.model.medicineusage.MedicineUsage;
 import seedu.address.model.person.MedicalReport;
+import seedu.address.model.person.MedicineUsageContainsKeywordsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Nric;
 import seedu.address.model.person.Person;
 import seedu.address.model.util.ObservableLocalDateTime;
@@ -130,11 +132,31 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setKlinix(ReadOnlyKlinix newData) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setSavepoint() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void releaseSavepoint() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackToSavepoint() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyKlinix getKlinix() {
             throw new AssertionError("This method should not be called.");
@@ -165,11 +187,26 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPersonList(NameContainsKeywordsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonList(MedicineUsageContainsKeywordsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Person findPersonByNric(Nric nric) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public String findPersonNameByNric(String nric) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addMedicalReport(Person target, MedicalReport medicalReport) {
             throw new AssertionError("This method should not be called.");
@@ -232,7 +269,7 @@ public class AddCommandTest {
         }
 
         @Override
-        public List<Appointment> getOverlappingAppointments(Appointment appointment, List<Person> allPersons) {
+        public List<Appointment> getOverlappingAppointments(Appointment appointment) {
             // Since this is a stub, you can leave it empty or simulate behavior
             throw new UnsupportedOperationException("This method should not be called");
         }
@@ -15,6 +15,7 @@ public class CommandResultTest {
         // same values -> returns true
         assertTrue(commandResult.equals(new CommandResult("feedback")));
         assertTrue(commandResult.equals(new CommandResult("feedback", false, false)));
+        assertTrue(commandResult.equals(new CommandResult("feedback", false, false, false)));
 
         // same object -> returns true
         assertTrue(commandResult.equals(commandResult));
@@ -33,6 +34,16 @@ public class CommandResultTest {
 
         // different exit value -> returns false
         assertFalse(commandResult.equals(new CommandResult("feedback", false, true)));
+
+        // different stateChanged value -> returns false
+        assertFalse(commandResult.equals(new CommandResult("feedback", false, false, true)));
+    }
+
+    @Test
+    public void withStateChanged() {
+        CommandResult commandResult = new CommandResult("feedback", true, false);
+        assertEquals(new CommandResult("feedback", true, false, true), commandResult.withStateChanged(true));
+        assertEquals(commandResult, commandResult.withStateChanged(true).withStateChanged(false));
     }
 
     @Test
@@ -50,6 +61,9 @@ public class CommandResultTest {
 
         // different exit value -> returns different hashcode
         assertNotEquals(commandResult.hashCode(), new CommandResult("feedback", false, true).hashCode());
+
+        // different stateChanged value -> returns different hashcode
+        assertNotEquals(commandResult.hashCode(), new CommandResult("feedback", false, false, true).hashCode());
     }
 
     @Test
@@ -57,7 +71,7 @@ public class CommandResultTest {
         CommandResult commandResult = new CommandResult("feedback");
         String expected = CommandResult.class.getCanonicalName() + "{feedbackToUser="
                 + commandResult.getFeedbackToUser() + ", showHelp=" + commandResult.isShowHelp()
-                + ", exit=" + commandResult.isExit() + "}";
+                + ", exit=" + commandResult.isExit() + ", stateChanged=" + commandResult.isStateChanged() + "}";
         assertEquals(expected, commandResult.toString());
     }
 }
@@ -0,0 +1,88 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalKlinix;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.RecordFileReader.Format;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.KlinixExporter.Dataset;
+
+public class ExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void execute_allPersonsDisplayed_allExported() throws Exception {
+        Model model = new ModelManager(getTypicalKlinix(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalKlinix(), new UserPrefs());
+        int personCount = model.getKlinix().getPersonList().size();
+        String expectedMessage = String.format(ExportCommand.MESSAGE_SUCCESS, personCount, 0, 0, testFolder);
+
+        assertCommandSuccess(new ExportCommand(testFolder, Format.CSV, LocalDate.MIN, LocalDate.MAX), model,
+                expectedMessage, expectedModel);
+        assertEquals(personCount + 1,
+                Files.readAllLines(Dataset.PATIENTS.getFilePath(testFolder, Format.CSV)).size());
+    }
+
+    @Test
+    public void execute_filteredList_onlyDisplayedPersonsExported() throws Exception {
+        Model model = new ModelManager(getTypicalKlinix(), new UserPrefs());
+        showPersonAtIndex(model, INDEX_SECOND_PERSON);
+        Model expectedModel = new ModelManager(getTypicalKlinix(), new UserPrefs());
+        showPersonAtIndex(expectedModel, INDEX_SECOND_PERSON);
+        String expectedMessage = String.format(ExportCommand.MESSAGE_SUCCESS, 1, 0, 0, testFolder);
+
+        assertCommandSuccess(new ExportCommand(testFolder, Format.NDJSON, LocalDate.MIN, LocalDate.MAX), model,
+                expectedMessage, expectedModel);
+        assertEquals(1, Files.readAllLines(Dataset.PATIENTS.getFilePath(testFolder, Format.NDJSON)).size());
+    }
+
+    @Test
+    public void execute_exportedPatientsImported_samePatients() throws Exception {
+        Model model = new ModelManager(getTypicalKlinix(), new UserPrefs());
+        new ExportCommand(testFolder, Format.CSV, LocalDate.MIN, LocalDate.MAX).execute(model);
+
+        Model importedModel = new ModelManager();
+        new ImportCommand(Dataset.PATIENTS.getFilePath(testFolder, Format.CSV), Format.CSV).execute(importedModel);
+        assertEquals(model.getKlinix().getPersonList(), importedModel.getKlinix().getPersonList());
+    }
+
+    @Test
+    public void equals() {
+        LocalDate date = LocalDate.of(2025, 3, 1);
+        ExportCommand exportCommand = new ExportCommand(Paths.get("export"), Format.CSV, date, LocalDate.MAX);
+
+        // same values -> returns true
+        assertTrue(exportCommand.equals(new ExportCommand(Paths.get("export"), Format.CSV, date, LocalDate.MAX)));
+
+        // same object -> returns true
+        assertTrue(exportCommand.equals(exportCommand));
+
+        // null -> returns false
+        assertFalse(exportCommand.equals(null));
+
+        // different format -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand(Paths.get("export"), Format.NDJSON, date,
+                LocalDate.MAX)));
+
+        // different dates -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand(Paths.get("export"), Format.CSV, LocalDate.MIN,
+                LocalDate.MAX)));
+    }
+}
@@ -0,0 +1,174 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_BIRTHDATE_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_BIRTHDATE_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NRIC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NRIC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalKlinix;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.RecordFileReader.Format;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.MedicalReport;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
+
+public class ImportCommandTest {
+
+    private static final String CSV_HEADER = "name,phone,email,nric,birthdate,address,tags,allergies";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ImportCommand(null, Format.CSV));
+        assertThrows(NullPointerException.class, () -> new ImportCommand(Paths.get("patients.csv"), null));
+    }
+
+    @Test
+    public void execute_csvFile_validRowsImportedAndOthersRejected() throws Exception {
+        Path file = write("patients.csv", CSV_HEADER,
+                toCsvRow(VALID_NAME_AMY, VALID_PHONE_AMY, VALID_EMAIL_AMY, VALID_NRIC_AMY, VALID_BIRTHDATE_AMY,
+                        VALID_ADDRESS_AMY, VALID_TAG_FRIEND, ""),
+                toCsvRow(VALID_NAME_BOB, "not a phone", VALID_EMAIL_BOB, VALID_NRIC_BOB, VALID_BIRTHDATE_BOB,
+                        VALID_ADDRESS_BOB, "", ""),
+                toCsvRow(VALID_NAME_BOB, VALID_PHONE_BOB, VALID_EMAIL_BOB, ALICE.getNric().value,
+                        VALID_BIRTHDATE_BOB, VALID_ADDRESS_BOB, "", ""),
+                toCsvRow(VALID_NAME_BOB, VALID_PHONE_BOB, VALID_EMAIL_BOB, VALID_NRIC_BOB, VALID_BIRTHDATE_BOB,
+                        VALID_ADDRESS_BOB, VALID_TAG_HUSBAND + ";" + VALID_TAG_FRIEND, "Peanuts"),
+                toCsvRow(VALID_NAME_AMY, VALID_PHONE_AMY, VALID_EMAIL_AMY, VALID_NRIC_AMY, VALID_BIRTHDATE_AMY,
+                        VALID_ADDRESS_AMY, "", ""),
+                "too,few,fields");
+        Model model = new ModelManager(getTypicalKlinix(), new UserPrefs());
+
+        CommandResult result = new ImportCommand(file, Format.CSV).execute(model);
+
+        Person bobWithAllergy = new PersonBuilder(BOB)
+                .withMedicalReport(new MedicalReport("Peanuts", "None", "None", "None")).build();
+        Model expectedModel = new ModelManager(getTypicalKlinix(), new UserPrefs());
+        expectedModel.addPersons(Arrays.asList(AMY, bobWithAllergy));
+        assertEquals(expectedModel, model);
+
+        String feedback = result.getFeedbackToUser();
+        assertTrue(feedback.startsWith("Imported 2 of 6 patients from " + file));
+        assertTrue(feedback.contains(String.format(ImportCommand.MESSAGE_REJECTED_ROWS, 4) + "\n"
+                + String.format(ImportCommand.MESSAGE_REJECTED_ROW, 3, Phone.MESSAGE_CONSTRAINTS) + "\n"
+                + String.format(ImportCommand.MESSAGE_REJECTED_ROW, 4,
+                        String.format(ImportCommand.MESSAGE_DUPLICATE_PERSON, ALICE.getNric())) + "\n"
+                + String.format(ImportCommand.MESSAGE_REJECTED_ROW, 6,
+                        String.format(ImportCommand.MESSAGE_DUPLICATE_IN_FILE, VALID_NRIC_AMY)) + "\n"
+                + String.format(ImportCommand.MESSAGE_REJECTED_ROW, 7, "Row has 3 fields but the header has 8")));
+    }
+
+    @Test
+    public void execute_ndjsonFile_success() throws Exception {
+        Path file = write("patients.ndjson", "{\"name\": \"" + VALID_NAME_AMY + "\", \"phone\": " + VALID_PHONE_AMY
+                + ", \"email\": \"" + VALID_EMAIL_AMY + "\", \"nric\": \"" + VALID_NRIC_AMY + "\", \"birthdate\": \""
+                + VALID_BIRTHDATE_AMY + "\", \"address\": \"" + VALID_ADDRESS_AMY + "\", \"tags\": [\""
+                + VALID_TAG_FRIEND + "\"]}");
+        Model model = new ModelManager();
+
+        CommandResult result = new ImportCommand(file, Format.NDJSON).execute(model);
+
+        assertEquals(List.of(AMY), model.getKlinix().getPersonList());
+        assertFalse(result.getFeedbackToUser().contains(String.format(ImportCommand.MESSAGE_REJECTED_ROWS, 0)));
+    }
+
+    @Test
+    public void execute_moreRowsThanBatch_allImportedInOrder() throws Exception {
+        List<String> lines = new ArrayList<>();
+        lines.add(CSV_HEADER);
+        List<Person> expectedPersons = new ArrayList<>();
+        for (int i = 0; i < ImportCommand.BATCH_SIZE + ImportCommand.MAX_REPORTED_REJECTED_ROWS + 5; i++) {
+            String nric = String.format("S%07dA", i);
+            lines.add(toCsvRow(VALID_NAME_AMY, VALID_PHONE_AMY, VALID_EMAIL_AMY, nric, VALID_BIRTHDATE_AMY,
+                    VALID_ADDRESS_AMY, "", ""));
+            expectedPersons.add(new PersonBuilder(AMY).withNric(nric).withTags().build());
+        }
+        for (int i = 0; i < ImportCommand.MAX_REPORTED_REJECTED_ROWS + 2; i++) {
+            lines.add("invalid");
+        }
+        Path file = write("patients.csv", lines.toArray(new String[0]));
+        Model model = new ModelManager();
+
+        CommandResult result = new ImportCommand(file, Format.CSV).execute(model);
+
+        assertEquals(expectedPersons, model.getKlinix().getPersonList());
+        assertTrue(result.getFeedbackToUser().endsWith(String.format(ImportCommand.MESSAGE_MORE_REJECTED_ROWS, 2)));
+    }
+
+    @Test
+    public void execute_missingColumn_throwsCommandException() throws Exception {
+        Path file = write("patients.csv", "name,phone,email,nric,address");
+        Model model = new ModelManager(getTypicalKlinix(), new UserPrefs());
+
+        assertThrows(CommandException.class, String.format(ImportCommand.MESSAGE_MISSING_COLUMNS, "birthdate"), () ->
+                new ImportCommand(file, Format.CSV).execute(model));
+        assertEquals(new ModelManager(getTypicalKlinix(), new UserPrefs()), model);
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path file = testFolder.resolve("missing.csv");
+        assertThrows(CommandException.class, () -> new ImportCommand(file, Format.CSV).execute(new ModelManager()));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCommand = new ImportCommand(Paths.get("patients.csv"), Format.CSV);
+
+        // same values -> returns true
+        assertTrue(importCommand.equals(new ImportCommand(Paths.get("patients.csv"), Format.CSV)));
+
+        // same object -> returns true
+        assertTrue(importCommand.equals(importCommand));
+
+        // null -> returns false
+        assertFalse(importCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(importCommand.equals(new ImportCommand(Paths.get("other.csv"), Format.CSV)));
+    }
+
+    private static String toCsvRow(String... fields) {
+        return "\"" + String.join("\",\"", fields) + "\"";
+    }
+
+    private Path write(String fileName, String... lines) throws IOException {
+        Path file = testFolder.resolve(fileName);
+        Files.write(file, Arrays.asList(lines));
+        return file;
+    }
+}
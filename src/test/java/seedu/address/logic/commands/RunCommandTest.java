@@ -0,0 +1,142 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NRIC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalKlinix;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.medicineusage.Dosage;
+import seedu.address.model.medicineusage.MedicineName;
+import seedu.address.model.medicineusage.MedicineUsage;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class RunCommandTest {
+
+    private static final Path SCRIPT_PATH = Paths.get("script.txt");
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new RunCommand(null, new LinkedHashMap<>()));
+        assertThrows(NullPointerException.class, () -> new RunCommand(SCRIPT_PATH, null));
+    }
+
+    @Test
+    public void execute_allCommandsSucceed_success() {
+        Map<Integer, Command> commands = new LinkedHashMap<>();
+        commands.put(1, new DeleteCommand(ALICE.getNric()));
+        commands.put(3, new AddCommand(AMY));
+        Model model = new ModelManager(getTypicalKlinix(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalKlinix(), new UserPrefs());
+        expectedModel.deletePerson(ALICE);
+        expectedModel.addPerson(AMY);
+
+        assertCommandSuccess(new RunCommand(SCRIPT_PATH, commands), model,
+                String.format(RunCommand.MESSAGE_SUCCESS, 2, SCRIPT_PATH), expectedModel);
+    }
+
+    @Test
+    public void execute_commandFails_changesRolledBack() {
+        Map<Integer, Command> commands = new LinkedHashMap<>();
+        commands.put(1, new DeleteCommand(ALICE.getNric()));
+        commands.put(2, new AddCommand(AMY));
+        commands.put(4, new DeleteCommand(new Nric(VALID_NRIC_BOB)));
+        Model model = new ModelManager(getTypicalKlinix(), new UserPrefs());
+
+        String expectedMessage = String.format(RunCommand.MESSAGE_LINE_FAILED, 4,
+                String.format(DeleteCommand.MESSAGE_PERSON_NOT_FOUND_NRIC, VALID_NRIC_BOB))
+                + "\n" + String.format(RunCommand.MESSAGE_ROLLED_BACK, SCRIPT_PATH);
+        assertThrows(CommandException.class, expectedMessage, () ->
+                new RunCommand(SCRIPT_PATH, commands).execute(model));
+        assertEquals(new ModelManager(getTypicalKlinix(), new UserPrefs()), model);
+    }
+
+    @Test
+    public void execute_commandFails_onlyChangedPersonsRestored() {
+        Person patient = new PersonBuilder().withName("Anna Meier").withNric("S7654321Z").build();
+        Model model = new ModelManager(getTypicalKlinix(), new UserPrefs());
+        model.addPerson(patient);
+        Model expectedModel = new ModelManager(getTypicalKlinix(), new UserPrefs());
+        expectedModel.addPerson(new PersonBuilder().withName("Anna Meier").withNric("S7654321Z").build());
+
+        Appointment appointment = new Appointment("Check-Up", LocalDateTime.of(2025, 2, 22, 12, 0),
+                LocalDateTime.of(2025, 2, 22, 12, 30), patient.getNric().toString());
+        Map<Integer, Command> commands = new LinkedHashMap<>();
+        commands.put(1, new DeleteCommand(ALICE.getNric()));
+        commands.put(2, new AddMedicineUsageCommand(patient.getNric(), new MedicineUsage(
+                new MedicineName("Paracetamol"), new Dosage("500mg"), LocalDate.now(), LocalDate.now().plusDays(5))));
+        commands.put(3, new AddAppointmentCommand(patient.getNric(), appointment));
+        commands.put(4, new AddCommand(AMY));
+        commands.put(5, new DeleteCommand(new Nric(VALID_NRIC_BOB)));
+        long versionBeforeRun = model.getKlinix().getModificationVersion();
+
+        assertThrows(CommandException.class, () -> new RunCommand(SCRIPT_PATH, commands).execute(model));
+        assertEquals(expectedModel, model);
+        assertTrue(model.getOverlappingAppointments(appointment).isEmpty());
+        assertEquals(Set.of(ALICE.getNric(), patient.getNric(), AMY.getNric()),
+                new HashSet<>(model.getKlinix().getNricsChangedSince(versionBeforeRun).orElseThrow()));
+    }
+
+    @Test
+    public void execute_commandFailsAfterClear_changesRolledBack() {
+        Map<Integer, Command> commands = new LinkedHashMap<>();
+        commands.put(1, new ClearCommand());
+        commands.put(2, new DeleteCommand(ALICE.getNric()));
+        Model model = new ModelManager(getTypicalKlinix(), new UserPrefs());
+
+        assertThrows(CommandException.class, () -> new RunCommand(SCRIPT_PATH, commands).execute(model));
+        assertEquals(new ModelManager(getTypicalKlinix(), new UserPrefs()), model);
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runCommand = new RunCommand(SCRIPT_PATH, Map.of(1, new DeleteCommand(ALICE.getNric())));
+
+        // same values -> returns true
+        assertTrue(runCommand.equals(new RunCommand(SCRIPT_PATH, Map.of(1, new DeleteCommand(ALICE.getNric())))));
+
+        // same object -> returns true
+        assertTrue(runCommand.equals(runCommand));
+
+        // null -> returns false
+        assertFalse(runCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(runCommand.equals(new RunCommand(Paths.get("other.txt"),
+                Map.of(1, new DeleteCommand(ALICE.getNric())))));
+
+        // different line number -> returns false
+        assertFalse(runCommand.equals(new RunCommand(SCRIPT_PATH, Map.of(2, new DeleteCommand(ALICE.getNric())))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Map<Integer, Command> commands = Map.of(1, new DeleteCommand(ALICE.getNric()));
+        RunCommand runCommand = new RunCommand(SCRIPT_PATH, commands);
+        String expected = RunCommand.class.getCanonicalName() + "{filePath=" + SCRIPT_PATH
+                + ", commandsByLineNumber=" + commands + "}";
+        assertEquals(expected, runCommand.toString());
+    }
+}
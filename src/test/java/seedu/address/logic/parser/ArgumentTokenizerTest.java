@@ -136,6 +136,23 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesGivenOutOfOrder_valuesInInputOrder() {
+        String argsString = "preamble ^Q hat -t dash\tp/ tab-separated p/ slash ";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, dashT, hatQ);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, hatQ, "hat");
+        assertArgumentPresent(argMultimap, dashT, "dash\tp/ tab-separated");
+        assertArgumentPresent(argMultimap, pSlash, "slash");
+    }
+
+    @Test
+    public void tokenize_prefixAtEndOfString_emptyValue() {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" p/", pSlash);
+        assertPreambleEmpty(argMultimap);
+        assertArgumentPresent(argMultimap, pSlash, "");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
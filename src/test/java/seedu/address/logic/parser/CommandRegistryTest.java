@@ -0,0 +1,56 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.CommandRegistry.MESSAGE_DUPLICATE_COMMAND_WORD;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ListCommand;
+
+public class CommandRegistryTest {
+
+    private final CommandRegistry registry = new CommandRegistry();
+
+    @Test
+    public void register_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> registry.register(null, arguments -> new ListCommand()));
+        assertThrows(NullPointerException.class, () -> registry.register(ListCommand.COMMAND_WORD, null));
+    }
+
+    @Test
+    public void register_duplicateCommandWord_throwsIllegalArgumentException() {
+        registry.register(ListCommand.COMMAND_WORD, arguments -> new ListCommand());
+        assertThrows(IllegalArgumentException.class,
+                String.format(MESSAGE_DUPLICATE_COMMAND_WORD, ListCommand.COMMAND_WORD), ()
+                        -> registry.register(ListCommand.COMMAND_WORD, arguments -> new ClearCommand()));
+    }
+
+    @Test
+    public void getParser_registeredCommandWord_returnsSameParser() {
+        Parser<ListCommand> parser = arguments -> new ListCommand();
+        registry.register(ListCommand.COMMAND_WORD, parser);
+
+        assertSame(parser, registry.getParser(ListCommand.COMMAND_WORD).get());
+        assertSame(parser, registry.getParser(ListCommand.COMMAND_WORD).get());
+    }
+
+    @Test
+    public void getParser_unregisteredCommandWord_returnsEmpty() {
+        registry.register(ListCommand.COMMAND_WORD, arguments -> new ListCommand());
+        assertTrue(registry.getParser(ClearCommand.COMMAND_WORD).isEmpty());
+        assertTrue(registry.getParser(ListCommand.COMMAND_WORD.toUpperCase()).isEmpty());
+    }
+
+    @Test
+    public void getCommandWords_registeredCommandWords_returnsAll() {
+        registry.register(ListCommand.COMMAND_WORD, arguments -> new ListCommand())
+                .register(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand());
+        assertEquals(Set.of(ListCommand.COMMAND_WORD, ClearCommand.COMMAND_WORD), registry.getCommandWords());
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.RecordFileReader.Format;
+import seedu.address.logic.commands.ExportCommand;
+
+public class ExportCommandParserTest {
+
+    private final ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_directoryOnly_csvWithoutDateRange() {
+        assertParseSuccess(parser, " data/export",
+                new ExportCommand(Paths.get("data/export"), Format.CSV, LocalDate.MIN, LocalDate.MAX));
+    }
+
+    @Test
+    public void parse_allFieldsPresent_success() {
+        assertParseSuccess(parser, " export from/01-03-2025 to/31-03-2025 fmt/NDJSON",
+                new ExportCommand(Paths.get("export"), Format.NDJSON, LocalDate.of(2025, 3, 1),
+                        LocalDate.of(2025, 3, 31)));
+    }
+
+    @Test
+    public void parse_missingDirectory_throwsParseException() {
+        assertParseFailure(parser, " fmt/csv",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_unknownFormat_throwsParseException() {
+        assertParseFailure(parser, " export fmt/xlsx", ExportCommandParser.MESSAGE_UNKNOWN_FORMAT);
+    }
+
+    @Test
+    public void parse_startAfterEnd_throwsParseException() {
+        assertParseFailure(parser, " export from/02-03-2025 to/01-03-2025",
+                ExportCommandParser.MESSAGE_INVALID_DATE_RANGE);
+    }
+}
@@ -0,0 +1,35 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.RecordFileReader.Format;
+import seedu.address.logic.commands.ImportCommand;
+
+public class ImportCommandParserTest {
+
+    private final ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_supportedFile_returnsImportCommand() {
+        assertParseSuccess(parser, " data/patients.csv ",
+                new ImportCommand(Paths.get("data/patients.csv"), Format.CSV));
+        assertParseSuccess(parser, " patients.ndjson", new ImportCommand(Paths.get("patients.ndjson"), Format.NDJSON));
+    }
+
+    @Test
+    public void parse_unsupportedFile_throwsParseException() {
+        assertParseFailure(parser, " patients.xlsx", ImportCommandParser.MESSAGE_UNSUPPORTED_FORMAT);
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.model.person.Nric;
+
+public class RunCommandParserTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final RunCommandParser parser = new RunCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_missingFile_throwsParseException() {
+        Path missingFile = testFolder.resolve("missing.txt");
+        assertParseFailure(parser, " " + missingFile,
+                String.format(RunCommandParser.MESSAGE_UNREADABLE_FILE, missingFile));
+    }
+
+    @Test
+    public void parse_validScript_returnsRunCommand() throws IOException {
+        Path script = writeScript("# remove patients", "delete ic/" + ALICE.getNric(), "", "  delete 1  ");
+        Map<Integer, Command> expectedCommands = new LinkedHashMap<>();
+        expectedCommands.put(2, new DeleteCommand(ALICE.getNric()));
+        expectedCommands.put(4, new DeleteCommand(INDEX_FIRST_PERSON));
+
+        assertParseSuccess(parser, " " + script, new RunCommand(script, expectedCommands));
+    }
+
+    @Test
+    public void parse_invalidLines_throwsParseExceptionWithLineNumbers() throws IOException {
+        Path script = writeScript("list", "unknown", "delete ic/INVALID123");
+        String expectedMessage = String.format(RunCommand.MESSAGE_LINE_FAILED, 2, MESSAGE_UNKNOWN_COMMAND) + "\n"
+                + String.format(RunCommand.MESSAGE_LINE_FAILED, 3, Nric.MESSAGE_CONSTRAINTS);
+
+        assertParseFailure(parser, " " + script, expectedMessage);
+    }
+
+    @Test
+    public void parse_nestedRun_throwsParseException() throws IOException {
+        Path script = writeScript("run other.txt");
+        assertParseFailure(parser, " " + script,
+                String.format(RunCommand.MESSAGE_LINE_FAILED, 1, RunCommandParser.MESSAGE_NESTED_RUN));
+    }
+
+    private Path writeScript(String... lines) throws IOException {
+        Path script = testFolder.resolve("script.txt");
+        Files.write(script, Arrays.asList(lines));
+        return script;
+    }
+}
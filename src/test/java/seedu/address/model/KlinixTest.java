@@ -7,17 +7,22 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalKlinix;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentList;
 import seedu.address.model.appointment.AppointmentListByDate;
 import seedu.address.model.person.Nric;
 import seedu.address.model.person.Person;
@@ -85,6 +90,69 @@ public class KlinixTest {
         assertThrows(UnsupportedOperationException.class, () -> klinix.getPersonList().remove(0));
     }
 
+    @Test
+    public void setPersonsWithAppointments_personsWithAppointments_appointmentsIndexed() {
+        Appointment booked = new Appointment("Checkup", LocalDateTime.of(2025, 3, 20, 10, 0),
+                LocalDateTime.of(2025, 3, 20, 11, 0), ALICE.getNric().value);
+        AppointmentList appointments = new AppointmentList();
+        appointments.add(booked);
+        Person alice = new PersonBuilder(ALICE).withAppointmentList(appointments).build();
+        klinix.setPersonsWithAppointments(Arrays.asList(alice, BENSON));
+
+        assertEquals(Arrays.asList(alice, BENSON), klinix.getPersonList());
+        assertEquals(Arrays.asList(booked),
+                klinix.getAppointmentsListByDate(booked.getStartDateTime().toLocalDate()));
+        Appointment requested = new Appointment("Visit", LocalDateTime.of(2025, 3, 20, 10, 30),
+                LocalDateTime.of(2025, 3, 20, 11, 30), BENSON.getNric().value);
+        assertEquals(Arrays.asList(booked), klinix.getOverlappingAppointments(requested));
+    }
+
+    @Test
+    public void getOverlappingAppointments_appointmentOfAnotherPatient_returnsConflict() {
+        Appointment booked = new Appointment("Checkup", LocalDateTime.of(2025, 3, 20, 10, 0),
+                LocalDateTime.of(2025, 3, 20, 11, 0), ALICE.getNric().value);
+        AppointmentList appointments = new AppointmentList();
+        appointments.add(booked);
+        klinix.resetData(new KlinixStub(Arrays.asList(
+                new PersonBuilder(ALICE).withAppointmentList(appointments).build(), BENSON)) {
+            @Override
+            public AppointmentListByDate getAppointmentsByDate() {
+                return new AppointmentListByDate();
+            }
+        });
+
+        Appointment requested = new Appointment("Visit", LocalDateTime.of(2025, 3, 20, 10, 30),
+                LocalDateTime.of(2025, 3, 20, 11, 30), BENSON.getNric().value);
+        assertEquals(Arrays.asList(booked), klinix.getOverlappingAppointments(requested));
+
+        klinix.addAppointment(requested);
+        assertEquals(Arrays.asList(booked, requested), klinix.getOverlappingAppointments(requested));
+
+        klinix.deleteAppointment(booked);
+        assertEquals(Arrays.asList(requested), klinix.getOverlappingAppointments(requested));
+    }
+
+    @Test
+    public void getNricsChangedSince_personsChanged_returnsLatestChangeOfEachPerson() {
+        klinix.addPerson(ALICE);
+        long version = klinix.getModificationVersion();
+        klinix.addPerson(BENSON);
+        klinix.markPersonModified(ALICE);
+        klinix.removePerson(BENSON);
+        assertEquals(Optional.of(Arrays.asList(ALICE.getNric(), BENSON.getNric())),
+                klinix.getNricsChangedSince(version));
+        assertEquals(Optional.of(Collections.emptyList()),
+                klinix.getNricsChangedSince(klinix.getModificationVersion()));
+    }
+
+    @Test
+    public void getNricsChangedSince_personsReplaced_returnsEmpty() {
+        long version = klinix.getModificationVersion();
+        klinix.resetData(getTypicalKlinix());
+        assertTrue(klinix.getModificationVersion() > version);
+        assertFalse(klinix.getNricsChangedSince(version).isPresent());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Klinix.class.getCanonicalName() + "{persons=" + klinix.getPersonList() + "}";
@@ -111,10 +179,25 @@ public class KlinixTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public String findPersonNameByNric(String nric) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public AppointmentListByDate getAppointmentsByDate() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public long getModificationVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<List<Nric>> getNricsChangedSince(long version) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
 }
@@ -11,16 +11,22 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.medicineusage.Dosage;
 import seedu.address.model.medicineusage.MedicineName;
 import seedu.address.model.medicineusage.MedicineUsage;
+import seedu.address.model.person.MedicalReport;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.KlinixBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -154,4 +160,33 @@ public class ModelManagerTest {
         modelManager.clearMedicineUsage(ALICE);
         assertTrue(ALICE.getMedicalReport().getMedicineUsages().isEmpty());
     }
+
+    @Test
+    public void addPerson_filteredList_filterKept() {
+        modelManager = new ModelManager(new KlinixBuilder().withPerson(ALICE).build(), new UserPrefs());
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Alice")));
+
+        modelManager.addPerson(BENSON);
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void addMedicineUsage_filteredList_onlyChangedPersonReported() {
+        Person alice = new PersonBuilder(ALICE).withMedicalReport(new MedicalReport("None", "None", "None", "None"))
+                .build();
+        modelManager = new ModelManager(new KlinixBuilder().withPerson(BENSON).withPerson(alice).build(),
+                new UserPrefs());
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Alice")));
+        List<String> changes = new ArrayList<>();
+        modelManager.getFilteredPersonList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                changes.add(change.getFrom() + "-" + change.getTo());
+            }
+        });
+
+        modelManager.addMedicineUsage(alice, new MedicineUsage(new MedicineName("Paracetamol"), new Dosage("500mg"),
+                LocalDate.now(), LocalDate.now().plusDays(5)));
+        assertEquals(Arrays.asList(alice), modelManager.getFilteredPersonList());
+        assertEquals(Arrays.asList("0-1"), changes);
+    }
 }
@@ -0,0 +1,145 @@
+package seedu.address.model.appointment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.util.DateUtil.DATE_TIME_FORMATTER;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AppointmentIntervalTreeTest {
+
+    private AppointmentIntervalTree tree;
+    private Appointment morning;
+    private Appointment noon;
+    private Appointment afternoon;
+
+    @BeforeEach
+    public void setUp() {
+        tree = new AppointmentIntervalTree();
+        morning = createAppointment("Checkup", "20-03-2025 09:00", "20-03-2025 10:00", "S1234567A");
+        noon = createAppointment("Surgery", "20-03-2025 11:00", "20-03-2025 13:00", "S1234567B");
+        afternoon = createAppointment("Visit", "20-03-2025 14:00", "20-03-2025 15:00", "S1234567C");
+    }
+
+    @Test
+    public void add_nullAppointment_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> tree.add(null));
+    }
+
+    @Test
+    public void add_duplicateAppointment_notAddedAgain() {
+        tree.add(morning);
+        tree.add(morning);
+        assertEquals(1, tree.size());
+    }
+
+    @Test
+    public void add_sameTimeSlotDifferentPatient_bothReturned() {
+        Appointment sameSlot = createAppointment("Checkup", "20-03-2025 09:00", "20-03-2025 10:00", "S7654321Z");
+        tree.add(morning);
+        tree.add(sameSlot);
+        assertEquals(2, tree.size());
+        assertEquals(Arrays.asList(morning, sameSlot), tree.getOverlappingAppointments(morning));
+    }
+
+    @Test
+    public void getOverlappingAppointments_emptyTree_returnsEmptyList() {
+        assertTrue(tree.getOverlappingAppointments(morning).isEmpty());
+    }
+
+    @Test
+    public void getOverlappingAppointments_touchingAppointments_notOverlapping() {
+        tree.add(morning);
+        Appointment adjacent = createAppointment("Visit", "20-03-2025 10:00", "20-03-2025 11:00", "S1234567D");
+        assertTrue(tree.getOverlappingAppointments(adjacent).isEmpty());
+    }
+
+    @Test
+    public void getOverlappingAppointments_spanningAppointment_returnsAllOverlapsInStartOrder() {
+        tree.add(afternoon);
+        tree.add(morning);
+        tree.add(noon);
+        Appointment longAppointment = createAppointment("Surgery", "20-03-2025 09:30", "20-03-2025 14:30",
+                "S1234567D");
+        assertEquals(Arrays.asList(morning, noon, afternoon), tree.getOverlappingAppointments(longAppointment));
+    }
+
+    @Test
+    public void getOverlappingAppointments_partialOverlap_returnsOnlyOverlapping() {
+        tree.add(morning);
+        tree.add(noon);
+        tree.add(afternoon);
+        Appointment query = createAppointment("Visit", "20-03-2025 12:30", "20-03-2025 13:30", "S1234567D");
+        assertEquals(Arrays.asList(noon), tree.getOverlappingAppointments(query));
+    }
+
+    @Test
+    public void remove_existingAppointment_noLongerReturned() {
+        tree.add(morning);
+        tree.add(noon);
+        tree.remove(morning);
+        assertEquals(1, tree.size());
+        assertTrue(tree.getOverlappingAppointments(morning).isEmpty());
+        assertEquals(Arrays.asList(noon), tree.getOverlappingAppointments(noon));
+    }
+
+    @Test
+    public void remove_appointmentNotInTree_doesNothing() {
+        tree.add(morning);
+        tree.remove(noon);
+        assertEquals(1, tree.size());
+    }
+
+    @Test
+    public void clear_nonEmptyTree_removesAllAppointments() {
+        tree.add(morning);
+        tree.add(noon);
+        tree.clear();
+        assertEquals(0, tree.size());
+        assertTrue(tree.getOverlappingAppointments(noon).isEmpty());
+    }
+
+    @Test
+    public void getOverlappingAppointments_randomAppointments_matchesFullScan() {
+        Random random = new Random(2103);
+        LocalDateTime base = LocalDateTime.parse("01-01-2025 00:00", DATE_TIME_FORMATTER);
+        List<Appointment> booked = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            LocalDateTime start = base.plusMinutes(random.nextInt(2000) * 15L);
+            Appointment appointment = new Appointment("Visit " + i, start,
+                    start.plusMinutes((random.nextInt(16) + 1) * 15L), "S" + (1000000 + i) + "A");
+            booked.add(appointment);
+            tree.add(appointment);
+        }
+        for (int i = 0; i < 100; i++) {
+            tree.remove(booked.remove(random.nextInt(booked.size())));
+        }
+        assertEquals(booked.size(), tree.size());
+
+        for (int i = 0; i < 200; i++) {
+            LocalDateTime start = base.plusMinutes(random.nextInt(2000) * 15L);
+            LocalDateTime end = start.plusMinutes((random.nextInt(16) + 1) * 15L);
+            List<Appointment> expected = new ArrayList<>();
+            for (Appointment existing : booked) {
+                if (start.isBefore(existing.getEndDateTime()) && end.isAfter(existing.getStartDateTime())) {
+                    expected.add(existing);
+                }
+            }
+            assertEquals(new HashSet<>(expected), new HashSet<>(tree.getOverlappingAppointments(start, end)));
+        }
+    }
+
+    private static Appointment createAppointment(String description, String start, String end, String nric) {
+        return new Appointment(description, LocalDateTime.parse(start, DATE_TIME_FORMATTER),
+                LocalDateTime.parse(end, DATE_TIME_FORMATTER), nric);
+    }
+}
@@ -0,0 +1,131 @@
+package seedu.address.model.appointment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.util.DateUtil.DATE_TIME_FORMATTER;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.appointment.exceptions.AppointmentNotFoundException;
+import seedu.address.model.appointment.exceptions.EmptyListException;
+
+public class AppointmentListByDateTest {
+
+    private static final LocalDate MARCH_20 = LocalDate.of(2025, 3, 20);
+    private static final LocalDate MARCH_21 = LocalDate.of(2025, 3, 21);
+
+    private AppointmentListByDate appointmentListByDate;
+    private Appointment lateMorning;
+    private Appointment earlyMorning;
+    private Appointment nextDay;
+    private Appointment nextWeek;
+
+    @BeforeEach
+    public void setUp() {
+        appointmentListByDate = new AppointmentListByDate();
+        lateMorning = createAppointment("Checkup", "20-03-2025 11:00", "20-03-2025 12:00", "S1234567A");
+        earlyMorning = createAppointment("Surgery", "20-03-2025 08:00", "20-03-2025 09:00", "S1234567B");
+        nextDay = createAppointment("Visit", "21-03-2025 10:00", "21-03-2025 11:00", "S1234567C");
+        nextWeek = createAppointment("Visit", "27-03-2025 10:00", "27-03-2025 11:00", "S1234567D");
+    }
+
+    @Test
+    public void addAppointment_duplicateAppointment_notAddedAgain() {
+        appointmentListByDate.addAppointment(lateMorning);
+        appointmentListByDate.addAppointment(lateMorning);
+        assertEquals(Collections.singletonList(lateMorning), appointmentListByDate.getAppointmentListByDate(MARCH_20));
+    }
+
+    @Test
+    public void getAppointmentListByDate_dateWithoutAppointments_returnsEmptyListWithoutAddingDate() {
+        assertTrue(appointmentListByDate.getAppointmentListByDate(MARCH_20).isEmpty());
+        assertTrue(appointmentListByDate.isEmpty());
+    }
+
+    @Test
+    public void getAppointmentListByDate_modifyList_throwsUnsupportedOperationException() {
+        appointmentListByDate.addAppointment(lateMorning);
+        assertThrows(UnsupportedOperationException.class, () ->
+                appointmentListByDate.getAppointmentListByDate(MARCH_20).remove(0));
+    }
+
+    @Test
+    public void deleteAppointment_lastAppointmentOnDate_removesDate() {
+        appointmentListByDate.addAppointment(lateMorning);
+        appointmentListByDate.deleteAppointment(lateMorning);
+        assertTrue(appointmentListByDate.isEmpty());
+    }
+
+    @Test
+    public void replaceAppointment_appointmentNotFound_throwsAppointmentNotFoundException() {
+        appointmentListByDate.addAppointment(lateMorning);
+        assertThrows(AppointmentNotFoundException.class, () ->
+                appointmentListByDate.replaceAppointment(earlyMorning, lateMorning));
+    }
+
+    @Test
+    public void replaceAppointment_sameDate_keepsPosition() {
+        appointmentListByDate.addAppointment(lateMorning);
+        appointmentListByDate.addAppointment(earlyMorning);
+        Appointment visited = new Appointment(lateMorning.getDescription(), lateMorning.getStartDateTime(),
+                lateMorning.getEndDateTime(), lateMorning.getPatientNric(), true);
+        appointmentListByDate.replaceAppointment(lateMorning, visited);
+        assertEquals(Arrays.asList(visited, earlyMorning), appointmentListByDate.getAppointmentListByDate(MARCH_20));
+    }
+
+    @Test
+    public void addAppointmentList_emptyList_throwsEmptyListException() {
+        assertThrows(EmptyListException.class, () -> appointmentListByDate.addAppointmentList(Collections.emptyList()));
+    }
+
+    @Test
+    public void getAppointmentsBetween_multipleDates_returnsAppointmentsInRangeByStartTime() {
+        appointmentListByDate.addAppointment(nextWeek);
+        appointmentListByDate.addAppointment(nextDay);
+        appointmentListByDate.addAppointment(lateMorning);
+        appointmentListByDate.addAppointment(earlyMorning);
+
+        assertEquals(Arrays.asList(earlyMorning, lateMorning, nextDay),
+                appointmentListByDate.getAppointmentsBetween(MARCH_20, MARCH_21));
+        assertEquals(Collections.singletonList(nextDay),
+                appointmentListByDate.getAppointmentsBetween(MARCH_21, MARCH_21));
+    }
+
+    @Test
+    public void getAppointmentsBetween_endBeforeStart_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                appointmentListByDate.getAppointmentsBetween(MARCH_21, MARCH_20));
+    }
+
+    @Test
+    public void getNextAppointments_fromMidDay_skipsEarlierAppointments() {
+        appointmentListByDate.addAppointment(nextWeek);
+        appointmentListByDate.addAppointment(nextDay);
+        appointmentListByDate.addAppointment(lateMorning);
+        appointmentListByDate.addAppointment(earlyMorning);
+
+        LocalDateTime from = LocalDateTime.parse("20-03-2025 10:00", DATE_TIME_FORMATTER);
+        assertEquals(Arrays.asList(lateMorning, nextDay), appointmentListByDate.getNextAppointments(from, 2));
+        assertEquals(Arrays.asList(lateMorning, nextDay, nextWeek),
+                appointmentListByDate.getNextAppointments(from, 10));
+        assertTrue(appointmentListByDate.getNextAppointments(from, 0).isEmpty());
+    }
+
+    @Test
+    public void getNextAppointments_negativeCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                appointmentListByDate.getNextAppointments(LocalDateTime.now(), -1));
+    }
+
+    private static Appointment createAppointment(String description, String start, String end, String nric) {
+        return new Appointment(description, LocalDateTime.parse(start, DATE_TIME_FORMATTER),
+                LocalDateTime.parse(end, DATE_TIME_FORMATTER), nric);
+    }
+}
@@ -0,0 +1,120 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.medicineusage.Dosage;
+import seedu.address.model.medicineusage.MedicineName;
+import seedu.address.model.medicineusage.MedicineUsage;
+import seedu.address.testutil.PersonBuilder;
+
+public class MedicineUsageIndexTest {
+
+    private static final MedicineUsage PARACETAMOL = new MedicineUsage(new MedicineName("Paracetamol"),
+            new Dosage("2 pills"), LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 10));
+    private static final MedicineUsage IBUPROFEN = new MedicineUsage(new MedicineName("Ibuprofen"),
+            new Dosage("1 tablet"), LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 5));
+
+    private final MedicineUsageIndex medicineUsageIndex = new MedicineUsageIndex();
+    private Person alice;
+    private Person benson;
+
+    @BeforeEach
+    public void setUp() {
+        alice = new PersonBuilder(ALICE).withMedicalReport(new MedicalReport("", "", "", "")).build();
+        benson = new PersonBuilder(BENSON).withMedicalReport(new MedicalReport("", "", "", "")).build();
+        alice.getMedicalReport().add(PARACETAMOL);
+        benson.getMedicalReport().add(IBUPROFEN);
+        medicineUsageIndex.add(alice);
+        medicineUsageIndex.add(benson);
+    }
+
+    @Test
+    public void findPatients_nullKeywords_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> medicineUsageIndex.findPatients(null));
+    }
+
+    @Test
+    public void findPatients_partialKeywordsDifferentCase_returnsMatchingPatients() {
+        assertEquals(Collections.singleton(alice.getNric()),
+                medicineUsageIndex.findPatients(Collections.singletonList("pARAcet")));
+        assertEquals(new HashSet<>(Arrays.asList(alice.getNric(), benson.getNric())),
+                medicineUsageIndex.findPatients(Arrays.asList("paracetamol", "profen")));
+        assertTrue(medicineUsageIndex.findPatients(Collections.singletonList("aspirin")).isEmpty());
+    }
+
+    @Test
+    public void add_lazyMedicalReport_loadedOnlyWhenSearched() {
+        boolean[] isLoaded = new boolean[1];
+        Person carl = new Person(benson.getName(), benson.getPhone(), benson.getEmail(), new Nric("S1234567D"),
+                benson.getBirthDate(), benson.getAddress(), benson.getTags(), () -> {
+                    isLoaded[0] = true;
+                    MedicalReport medicalReport = new MedicalReport("", "", "", "");
+                    medicalReport.add(PARACETAMOL);
+                    return medicalReport;
+                }, benson.getAppointmentList());
+
+        medicineUsageIndex.add(carl);
+        assertFalse(isLoaded[0]);
+
+        assertEquals(new HashSet<>(Arrays.asList(alice.getNric(), carl.getNric())),
+                medicineUsageIndex.findPatients(Collections.singletonList("paracetamol")));
+        assertTrue(isLoaded[0]);
+    }
+
+    @Test
+    public void findPatients_medicalReportChangedInPlace_reflectsChange() {
+        benson.getMedicalReport().add(PARACETAMOL);
+        assertEquals(new HashSet<>(Arrays.asList(alice.getNric(), benson.getNric())),
+                medicineUsageIndex.findPatients(Collections.singletonList("paracetamol")));
+
+        alice.getMedicalReport().reset();
+        benson.getMedicalReport().remove(PARACETAMOL);
+        assertTrue(medicineUsageIndex.findPatients(Collections.singletonList("paracetamol")).isEmpty());
+    }
+
+    @Test
+    public void findPatients_patientRemoved_notReturned() {
+        medicineUsageIndex.remove(alice);
+        assertTrue(medicineUsageIndex.findPatients(Collections.singletonList("paracetamol")).isEmpty());
+
+        // changes to a removed patient are no longer tracked
+        alice.getMedicalReport().add(IBUPROFEN);
+        assertEquals(Collections.singleton(benson.getNric()),
+                medicineUsageIndex.findPatients(Collections.singletonList("ibuprofen")));
+    }
+
+    @Test
+    public void findPatientsOnMedicine_dateWithinUsage_returnsPatient() {
+        MedicineName paracetamol = new MedicineName("PARACETAMOL");
+        assertEquals(Collections.singletonList(alice),
+                medicineUsageIndex.findPatientsOnMedicine(paracetamol, LocalDate.of(2024, 1, 10)));
+        assertTrue(medicineUsageIndex.findPatientsOnMedicine(paracetamol, LocalDate.of(2024, 1, 11)).isEmpty());
+    }
+
+    @Test
+    public void narrow_medicineUsagesChanged_matchesPredicate() {
+        MedicineUsageContainsKeywordsPredicate predicate =
+                new MedicineUsageContainsKeywordsPredicate(Collections.singletonList("ibu"));
+        Predicate<Person> narrowedPredicate = medicineUsageIndex.narrow(predicate);
+        assertFalse(narrowedPredicate.test(alice));
+        assertTrue(narrowedPredicate.test(benson));
+
+        alice.getMedicalReport().add(IBUPROFEN);
+        assertTrue(narrowedPredicate.test(alice));
+        assertEquals(predicate.test(alice), narrowedPredicate.test(alice));
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameTrigramIndexTest {
+
+    private final NameTrigramIndex nameIndex = new NameTrigramIndex();
+
+    @Test
+    public void getCandidates_nullKeywords_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> nameIndex.getCandidates(null));
+    }
+
+    @Test
+    public void getCandidates_shortKeyword_returnsNull() {
+        nameIndex.add(ALICE);
+        assertNull(nameIndex.getCandidates(Arrays.asList("Alice", "al")));
+    }
+
+    @Test
+    public void getCandidates_partialWordDifferentCase_returnsMatchingPersons() {
+        nameIndex.add(ALICE);
+        nameIndex.add(BENSON);
+        nameIndex.add(DANIEL);
+        assertEquals(new HashSet<>(Arrays.asList(BENSON.getNric(), DANIEL.getNric())),
+                nameIndex.getCandidates(Collections.singletonList("mEIe")));
+    }
+
+    @Test
+    public void getCandidates_noPersonHasTrigram_returnsEmptySet() {
+        nameIndex.add(ALICE);
+        assertTrue(nameIndex.getCandidates(Collections.singletonList("xyz")).isEmpty());
+    }
+
+    @Test
+    public void remove_person_noLongerCandidate() {
+        nameIndex.add(BENSON);
+        nameIndex.add(DANIEL);
+        nameIndex.remove(BENSON);
+        assertEquals(Collections.singleton(DANIEL.getNric()),
+                nameIndex.getCandidates(Collections.singletonList("Meier")));
+    }
+
+    @Test
+    public void narrow_keywordsOfAnyLength_matchesPredicate() {
+        List<Person> persons = getTypicalPersons();
+        persons.forEach(nameIndex::add);
+        for (List<String> keywords : Arrays.asList(Arrays.asList("Meier"), Arrays.asList("ku", "Pauline"),
+                Arrays.asList("ell", "Best"), Arrays.asList("Bob"), Collections.<String>emptyList())) {
+            NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords);
+            Predicate<Person> narrowedPredicate = nameIndex.narrow(predicate);
+            for (Person person : persons) {
+                assertEquals(predicate.test(person), narrowedPredicate.test(person));
+            }
+        }
+    }
+
+    @Test
+    public void narrow_personEditedAfterwards_usesUpdatedIndex() {
+        nameIndex.add(ELLE);
+        Predicate<Person> narrowedPredicate =
+                nameIndex.narrow(new NameContainsKeywordsPredicate(Collections.singletonList("Yvonne")));
+        assertFalse(narrowedPredicate.test(ELLE));
+
+        Person editedElle = new PersonBuilder(ELLE).withName("Yvonne Meyer").build();
+        nameIndex.remove(ELLE);
+        nameIndex.add(editedElle);
+        assertTrue(narrowedPredicate.test(editedElle));
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PatientContainsKeywordsPredicateTest {
+
+    private final Person person = new PersonBuilder().withName("Alice Bob").withNric("S1234567A")
+            .withTags("diabetic", "friends").build();
+
+    @Test
+    public void equals() {
+        List<String> firstPredicateKeywordList = Collections.singletonList("first");
+        List<String> secondPredicateKeywordList = Arrays.asList("first", "second");
+
+        PatientContainsKeywordsPredicate firstPredicate =
+                new PatientContainsKeywordsPredicate(firstPredicateKeywordList);
+        PatientContainsKeywordsPredicate secondPredicate =
+                new PatientContainsKeywordsPredicate(secondPredicateKeywordList);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new PatientContainsKeywordsPredicate(firstPredicateKeywordList)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_allKeywordsMatch_returnsTrue() {
+        // Partial name
+        assertTrue(new PatientContainsKeywordsPredicate(Collections.singletonList("ali")).test(person));
+
+        // Partial NRIC, mixed case
+        assertTrue(new PatientContainsKeywordsPredicate(Collections.singletonList("s123")).test(person));
+
+        // Tag
+        assertTrue(new PatientContainsKeywordsPredicate(Collections.singletonList("DIABETIC")).test(person));
+
+        // Keywords matching different fields
+        assertTrue(new PatientContainsKeywordsPredicate(Arrays.asList("bob", "4567A", "friend")).test(person));
+
+        // Zero keywords
+        assertTrue(new PatientContainsKeywordsPredicate(Collections.emptyList()).test(person));
+    }
+
+    @Test
+    public void test_anyKeywordDoesNotMatch_returnsFalse() {
+        // Non-matching keyword
+        assertFalse(new PatientContainsKeywordsPredicate(Collections.singletonList("Carol")).test(person));
+
+        // Only one matching keyword
+        assertFalse(new PatientContainsKeywordsPredicate(Arrays.asList("Alice", "Carol")).test(person));
+
+        // Keywords match phone and email, but not name, NRIC or tags
+        Person otherPerson = new PersonBuilder().withName("Alice").withPhone("12345")
+                .withEmail("alice@email.com").build();
+        assertFalse(new PatientContainsKeywordsPredicate(Arrays.asList("12345", "email")).test(otherPerson));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("keyword1", "keyword2");
+        PatientContainsKeywordsPredicate predicate = new PatientContainsKeywordsPredicate(keywords);
+
+        String expected = PatientContainsKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -113,6 +113,52 @@ public class PersonTest {
         assertEquals(bobAge, BOB.getAge());
     }
 
+    @Test
+    public void getMedicalReport_medicalReportSource_loadedOnceOnFirstAccess() {
+        Person alice = new PersonBuilder(ALICE).build();
+        int[] loadCount = new int[1];
+        Person lazyAlice = new Person(alice.getName(), alice.getPhone(), alice.getEmail(), alice.getNric(),
+                alice.getBirthDate(), alice.getAddress(), alice.getTags(), () -> {
+                    loadCount[0]++;
+                    return alice.getMedicalReport();
+                }, alice.getAppointmentList());
+
+        assertTrue(lazyAlice.getUnloadedMedicalReport().isPresent());
+        assertEquals(0, loadCount[0]);
+
+        assertEquals(alice.getMedicalReport(), lazyAlice.getMedicalReport());
+        assertEquals(alice, lazyAlice);
+        assertEquals(1, loadCount[0]);
+        assertFalse(lazyAlice.getUnloadedMedicalReport().isPresent());
+    }
+
+    @Test
+    public void equals_unloadedMedicalReports_notKeptLoaded() {
+        Person alice = new PersonBuilder(ALICE).build();
+        int[] loadCount = new int[1];
+        MedicalReportSource source = () -> {
+            loadCount[0]++;
+            return new PersonBuilder(ALICE).build().getMedicalReport();
+        };
+        Person lazyAlice = new Person(alice.getName(), alice.getPhone(), alice.getEmail(), alice.getNric(),
+                alice.getBirthDate(), alice.getAddress(), alice.getTags(), source, alice.getAppointmentList());
+        Person otherLazyAlice = new Person(alice.getName(), alice.getPhone(), alice.getEmail(), alice.getNric(),
+                alice.getBirthDate(), alice.getAddress(), alice.getTags(), source, alice.getAppointmentList());
+
+        // same source -> equal without loading
+        assertEquals(lazyAlice, otherLazyAlice);
+        assertEquals(lazyAlice.hashCode(), otherLazyAlice.hashCode());
+        assertEquals(0, loadCount[0]);
+
+        // loaded report -> unloaded report decoded for the comparison only
+        assertEquals(alice, lazyAlice);
+        assertEquals(alice.hashCode(), lazyAlice.hashCode());
+        assertTrue(lazyAlice.getUnloadedMedicalReport().isPresent());
+
+        assertTrue(lazyAlice.toString().contains("medicalReport=(not loaded)"));
+        assertTrue(lazyAlice.getUnloadedMedicalReport().isPresent());
+    }
+
     @Test
     public void hashCodeMethod() {
         Person aliceCopy = new PersonBuilder(ALICE).build();
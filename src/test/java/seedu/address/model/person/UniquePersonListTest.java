@@ -2,12 +2,15 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.HOON;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -47,6 +50,81 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void findPersonByNric_nullNric_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.findPersonByNric(null));
+    }
+
+    @Test
+    public void findPersonByNric_personNotInList_returnsNull() {
+        uniquePersonList.add(BOB);
+        assertNull(uniquePersonList.findPersonByNric(ALICE.getNric()));
+    }
+
+    @Test
+    public void findPersonByNric_personInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(ALICE, uniquePersonList.findPersonByNric(ALICE.getNric()));
+        assertEquals(BOB, uniquePersonList.findPersonByNric(BOB.getNric()));
+    }
+
+    @Test
+    public void findPersonNameByNric_nullNric_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.findPersonNameByNric(null));
+    }
+
+    @Test
+    public void findPersonNameByNric_personInList_returnsName() {
+        uniquePersonList.add(ALICE);
+        assertEquals(ALICE.getName().fullName, uniquePersonList.findPersonNameByNric(ALICE.getNric().value));
+        assertNull(uniquePersonList.findPersonNameByNric(BOB.getNric().value));
+    }
+
+    @Test
+    public void findPersonNameByNric_afterSetPerson_returnsEditedName() {
+        uniquePersonList.add(ALICE);
+        Person renamedAlice = new PersonBuilder(ALICE).withName(VALID_NAME_BOB).build();
+        uniquePersonList.setPerson(ALICE, renamedAlice);
+        assertEquals(VALID_NAME_BOB, uniquePersonList.findPersonNameByNric(ALICE.getNric().value));
+
+        uniquePersonList.setPerson(renamedAlice, BOB);
+        assertNull(uniquePersonList.findPersonNameByNric(ALICE.getNric().value));
+        assertEquals(BOB.getName().fullName, uniquePersonList.findPersonNameByNric(BOB.getNric().value));
+    }
+
+    @Test
+    public void findPersonNameByNric_afterRemove_returnsNull() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertNull(uniquePersonList.findPersonNameByNric(ALICE.getNric().value));
+    }
+
+    @Test
+    public void findPersonByNric_afterSetPerson_returnsEditedPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertNull(uniquePersonList.findPersonByNric(ALICE.getNric()));
+        assertEquals(BOB, uniquePersonList.findPersonByNric(BOB.getNric()));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void findPersonByNric_afterRemove_returnsNull() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertNull(uniquePersonList.findPersonByNric(ALICE.getNric()));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void findPersonByNric_afterSetPersons_returnsReplacementPersons() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertNull(uniquePersonList.findPersonByNric(ALICE.getNric()));
+        assertEquals(BOB, uniquePersonList.findPersonByNric(BOB.getNric()));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -58,6 +136,30 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void addAll_newPersons_addedInOrder() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.addAll(Arrays.asList(BOB, HOON));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.setPersons(Arrays.asList(ALICE, BOB, HOON));
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertEquals(HOON, uniquePersonList.findPersonByNric(HOON.getNric()));
+    }
+
+    @Test
+    public void addAll_duplicatePersons_throwsDuplicatePersonException() {
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, BOB)));
+
+        uniquePersonList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, ALICE)));
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void refresh_personNotInList_throwsPersonNotFoundException() {
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.refresh(ALICE));
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
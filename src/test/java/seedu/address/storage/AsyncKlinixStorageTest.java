@@ -0,0 +1,183 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalKlinix;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Klinix;
+import seedu.address.model.ReadOnlyKlinix;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentList;
+import seedu.address.testutil.PersonBuilder;
+
+public class AsyncKlinixStorageTest {
+
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("klinix.json");
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AsyncKlinixStorage(null));
+    }
+
+    @Test
+    public void saveKlinix_changesAfterSave_writtenByLaterSave() throws Exception {
+        AsyncKlinixStorage asyncStorage = new AsyncKlinixStorage(new JsonKlinixStorage(filePath));
+        Klinix original = getTypicalKlinix();
+        asyncStorage.saveKlinix(original);
+        asyncStorage.flush();
+        assertEquals(original, new Klinix(asyncStorage.readKlinix().get()));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withPhone(VALID_PHONE_BOB).build());
+        asyncStorage.saveKlinix(original);
+        // reading waits for the pending write
+        assertEquals(original, new Klinix(asyncStorage.readKlinix().get()));
+    }
+
+    @Test
+    public void saveKlinix_personChangedInPlaceAfterSave_pendingWriteUnaffected() throws Exception {
+        BlockingKlinixStorage blockingStorage = new BlockingKlinixStorage(filePath);
+        AsyncKlinixStorage asyncStorage = new AsyncKlinixStorage(blockingStorage);
+        Klinix original = new Klinix();
+        original.addPerson(new PersonBuilder(ALICE).withAppointmentList(getAppointmentList()).build());
+        Klinix expected = new Klinix();
+        expected.addPerson(new PersonBuilder(ALICE).withAppointmentList(getAppointmentList()).build());
+        asyncStorage.saveKlinix(original);
+
+        original.getPersonList().get(0).getAppointmentList().reset();
+        blockingStorage.release();
+        asyncStorage.flush();
+        assertEquals(expected, new Klinix(asyncStorage.readKlinix().get()));
+    }
+
+    @Test
+    public void saveKlinix_savesDuringWrite_coalescedIntoOneWrite() throws Exception {
+        BlockingKlinixStorage blockingStorage = new BlockingKlinixStorage(filePath);
+        AsyncKlinixStorage asyncStorage = new AsyncKlinixStorage(blockingStorage);
+        Klinix original = getTypicalKlinix();
+        asyncStorage.saveKlinix(original);
+        blockingStorage.awaitWriteStarted();
+
+        original.addPerson(HOON);
+        asyncStorage.saveKlinix(original);
+        original.addPerson(IDA);
+        asyncStorage.saveKlinix(original);
+        original.removePerson(ALICE);
+        asyncStorage.saveKlinix(original);
+
+        blockingStorage.release();
+        asyncStorage.flush();
+        assertEquals(2, blockingStorage.getWriteCount());
+        assertEquals(original, new Klinix(asyncStorage.readKlinix().get()));
+    }
+
+    @Test
+    public void saveKlinix_writeFails_failureReportedAndRetried() throws Exception {
+        BlockingKlinixStorage failingStorage = new BlockingKlinixStorage(filePath);
+        failingStorage.release();
+        failingStorage.setFailure(DUMMY_IO_EXCEPTION);
+        AsyncKlinixStorage asyncStorage = new AsyncKlinixStorage(failingStorage);
+        List<IOException> failures = new ArrayList<>();
+        asyncStorage.setSaveFailureHandler(failures::add);
+
+        Klinix original = getTypicalKlinix();
+        asyncStorage.saveKlinix(original);
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), asyncStorage::flush);
+        assertEquals(List.of(DUMMY_IO_EXCEPTION), failures);
+
+        // saving unchanged data writes it again after a failure
+        failingStorage.setFailure(null);
+        asyncStorage.saveKlinix(original);
+        asyncStorage.flush();
+        assertEquals(original, new Klinix(asyncStorage.readKlinix().get()));
+    }
+
+    @Test
+    public void saveKlinix_otherFilePath_writtenBeforeReturning() throws Exception {
+        AsyncKlinixStorage asyncStorage = new AsyncKlinixStorage(new JsonKlinixStorage(filePath));
+        Path otherFilePath = testFolder.resolve("other.json");
+        Klinix original = getTypicalKlinix();
+        asyncStorage.saveKlinix(original, otherFilePath);
+        assertEquals(original, new Klinix(new JsonKlinixStorage(otherFilePath).readKlinix().get()));
+    }
+
+    private static AppointmentList getAppointmentList() {
+        AppointmentList appointmentList = new AppointmentList();
+        appointmentList.add(new Appointment("Checkup", LocalDateTime.of(2025, 3, 20, 10, 0),
+                LocalDateTime.of(2025, 3, 20, 11, 0), ALICE.getNric().value));
+        return appointmentList;
+    }
+
+    /**
+     * A {@code JsonKlinixStorage} whose writes wait until released, and fail with a given exception.
+     */
+    private static class BlockingKlinixStorage extends JsonKlinixStorage {
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+        private final AtomicInteger writeCount = new AtomicInteger();
+        private volatile IOException failure;
+
+        BlockingKlinixStorage(Path filePath) {
+            super(filePath);
+        }
+
+        void awaitWriteStarted() throws InterruptedException {
+            writeStarted.await();
+        }
+
+        void release() {
+            released.countDown();
+        }
+
+        void setFailure(IOException failure) {
+            this.failure = failure;
+        }
+
+        int getWriteCount() {
+            return writeCount.get();
+        }
+
+        @Override
+        public void saveKlinix(ReadOnlyKlinix klinix, Path filePath) throws IOException {
+            writeStarted.countDown();
+            try {
+                released.await();
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            writeCount.incrementAndGet();
+            if (failure != null) {
+                throw failure;
+            }
+            super.saveKlinix(klinix, filePath);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalKlinix;
+
+import java.io.DataOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.Klinix;
+import seedu.address.model.ReadOnlyKlinix;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentList;
+import seedu.address.model.medicineusage.Dosage;
+import seedu.address.model.medicineusage.MedicineName;
+import seedu.address.model.medicineusage.MedicineUsage;
+import seedu.address.model.person.MedicalReport;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryKlinixStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void toBinaryFilePath_jsonFilePath_replacesExtension() {
+        assertEquals(Paths.get("data", "klinix.bin"),
+                BinaryKlinixStorage.toBinaryFilePath(Paths.get("data", "klinix.json")));
+        assertEquals(Paths.get("klinix.bin"), BinaryKlinixStorage.toBinaryFilePath(Paths.get("klinix")));
+    }
+
+    @Test
+    public void readKlinix_nullFilePath_throwsNullPointerException() {
+        BinaryKlinixStorage binaryStorage = new BinaryKlinixStorage(testFolder.resolve("klinix.bin"));
+        assertThrows(NullPointerException.class, () -> binaryStorage.readKlinix(null));
+    }
+
+    @Test
+    public void readKlinix_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryKlinixStorage(testFolder.resolve("missing.bin")).readKlinix().isPresent());
+    }
+
+    @Test
+    public void readKlinix_notBinaryFormat_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("klinix.bin");
+        new JsonKlinixStorage(filePath).saveKlinix(getTypicalKlinix());
+        assertThrows(DataLoadingException.class, () -> new BinaryKlinixStorage(filePath).readKlinix());
+    }
+
+    @Test
+    public void readKlinix_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("klinix.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(filePath))) {
+            out.writeInt(BinaryKlinixStorage.MAGIC_NUMBER);
+            out.writeInt(BinaryKlinixStorage.FORMAT_VERSION + 1);
+        }
+        assertThrows(DataLoadingException.class, () -> new BinaryKlinixStorage(filePath).readKlinix());
+    }
+
+    @Test
+    public void readKlinix_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("klinix.bin");
+        new BinaryKlinixStorage(filePath).saveKlinix(getTypicalKlinix());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(DataLoadingException.class, () -> new BinaryKlinixStorage(filePath).readKlinix());
+    }
+
+    @Test
+    public void readAndSaveKlinix_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("klinix.bin");
+        Klinix original = getTypicalKlinix();
+        BinaryKlinixStorage binaryStorage = new BinaryKlinixStorage(filePath);
+
+        binaryStorage.saveKlinix(original, filePath);
+        ReadOnlyKlinix readBack = binaryStorage.readKlinix(filePath).get();
+        assertEquals(original, new Klinix(readBack));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.addPerson(IDA);
+        binaryStorage.saveKlinix(original);
+        readBack = binaryStorage.readKlinix().get();
+        assertEquals(original, new Klinix(readBack));
+    }
+
+    @Test
+    public void readAndSaveKlinix_medicalReportAndAppointments_success() throws Exception {
+        MedicalReport medicalReport = new MedicalReport("Peanuts", "Asthma", "", "Flu");
+        medicalReport.add(new MedicineUsage(new MedicineName("Paracetamol"), new Dosage("2 pills"),
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 10)));
+        AppointmentList appointmentList = new AppointmentList();
+        appointmentList.add(new Appointment("Checkup", LocalDateTime.of(2025, 3, 20, 10, 0),
+                LocalDateTime.of(2025, 3, 20, 11, 30), ALICE.getNric().value, true));
+        Klinix original = new Klinix();
+        original.addPerson(new PersonBuilder(ALICE).withMedicalReport(medicalReport)
+                .withAppointmentList(appointmentList).build());
+
+        BinaryKlinixStorage binaryStorage = new BinaryKlinixStorage(testFolder.resolve("klinix.bin"));
+        binaryStorage.saveKlinix(original);
+        assertEquals(original, new Klinix(binaryStorage.readKlinix().get()));
+    }
+
+    @Test
+    public void readKlinix_lazyLoading_medicalReportsLoadedOnAccess() throws Exception {
+        Klinix original = getTypicalKlinix();
+        MedicalReport medicalReport = new MedicalReport("Peanuts", "Asthma", "", "Flu");
+        medicalReport.add(new MedicineUsage(new MedicineName("Paracetamol"), new Dosage("2 pills"),
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 10)));
+        original.addPerson(new PersonBuilder(HOON).withMedicalReport(medicalReport).build());
+        Path filePath = testFolder.resolve("klinix.bin");
+        new BinaryKlinixStorage(filePath).saveKlinix(original);
+
+        BinaryKlinixStorage lazyStorage = new BinaryKlinixStorage(filePath, true);
+        ReadOnlyKlinix readBack = lazyStorage.readKlinix().get();
+        assertTrue(readBack.getPersonList().stream()
+                .allMatch(person -> person.getUnloadedMedicalReport().isPresent()));
+
+        // saving writes the medical reports back without loading them
+        Path savedFilePath = testFolder.resolve("saved.bin");
+        lazyStorage.saveKlinix(readBack, savedFilePath);
+        assertTrue(readBack.getPersonList().stream()
+                .allMatch(person -> person.getUnloadedMedicalReport().isPresent()));
+        assertEquals(original, new Klinix(new BinaryKlinixStorage(savedFilePath).readKlinix().get()));
+
+        // comparing decodes the medical reports without keeping them
+        assertEquals(original, new Klinix(readBack));
+        assertTrue(readBack.getPersonList().stream()
+                .allMatch(person -> person.getUnloadedMedicalReport().isPresent()));
+
+        readBack.getPersonList().forEach(Person::getMedicalReport);
+        assertTrue(readBack.getPersonList().stream()
+                .noneMatch(person -> person.getUnloadedMedicalReport().isPresent()));
+    }
+
+    @Test
+    public void readKlinix_lazyLoadingInvalidMedicineUsage_throwsDataLoadingException() throws Exception {
+        MedicalReport medicalReport = new MedicalReport("", "", "", "");
+        medicalReport.add(new MedicineUsage(new MedicineName("Paracetamol"), new Dosage("2 pills"),
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 10)));
+        Klinix original = new Klinix();
+        original.addPerson(new PersonBuilder(ALICE).withMedicalReport(medicalReport).build());
+        Path filePath = testFolder.resolve("klinix.bin");
+        new BinaryKlinixStorage(filePath).saveKlinix(original);
+
+        // makes the medicine name start with a symbol, which is invalid
+        byte[] bytes = Files.readAllBytes(filePath);
+        byte[] medicineName = "Paracetamol".getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i + medicineName.length <= bytes.length; i++) {
+            if (Arrays.equals(Arrays.copyOfRange(bytes, i, i + medicineName.length), medicineName)) {
+                bytes[i] = '!';
+            }
+        }
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryKlinixStorage(filePath, true).readKlinix());
+    }
+
+    @Test
+    public void saveKlinix_typicalKlinix_smallerThanJson() throws Exception {
+        Path binaryFilePath = testFolder.resolve("klinix.bin");
+        Path jsonFilePath = testFolder.resolve("klinix.json");
+        new BinaryKlinixStorage(binaryFilePath).saveKlinix(getTypicalKlinix());
+        new JsonKlinixStorage(jsonFilePath).saveKlinix(getTypicalKlinix());
+        assertTrue(Files.size(binaryFilePath) * 2 < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void importFromAndExportTo_jsonStorage_success() throws Exception {
+        Klinix original = getTypicalKlinix();
+        JsonKlinixStorage jsonStorage = new JsonKlinixStorage(testFolder.resolve("klinix.json"));
+        BinaryKlinixStorage binaryStorage = new BinaryKlinixStorage(testFolder.resolve("klinix.bin"));
+        assertFalse(binaryStorage.importFrom(jsonStorage));
+        assertFalse(binaryStorage.exportTo(jsonStorage));
+
+        jsonStorage.saveKlinix(original);
+        assertTrue(binaryStorage.importFrom(jsonStorage));
+        assertEquals(original, new Klinix(binaryStorage.readKlinix().get()));
+
+        JsonKlinixStorage exportedStorage = new JsonKlinixStorage(testFolder.resolve("exported.json"));
+        assertTrue(binaryStorage.exportTo(exportedStorage));
+        assertEquals(original, new Klinix(exportedStorage.readKlinix().get()));
+    }
+}
@@ -0,0 +1,104 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalKlinix;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.Klinix;
+import seedu.address.model.ReadOnlyKlinix;
+
+public class DataFileBackupsTest {
+
+    private static final DataLoadingException DUMMY_DATA_LOADING_EXCEPTION =
+            new DataLoadingException(new Exception("dummy data loading exception"));
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("klinix.json");
+    }
+
+    @Test
+    public void getNewBackupFilePath_existingBackups_newerThanAll() throws Exception {
+        DataFileBackups backups = new DataFileBackups(filePath);
+        Path futureBackup = filePath.resolveSibling("klinix.json.21000101-000000-000.bak");
+        Files.createFile(futureBackup);
+        Files.createFile(filePath.resolveSibling("klinix.json.journal"));
+        Files.createFile(filePath.resolveSibling("other.json.20240101-000000-000.bak"));
+
+        assertEquals(List.of(futureBackup), backups.getBackupFilePaths());
+        Path newBackup = backups.getNewBackupFilePath();
+        Files.createFile(newBackup);
+        assertEquals(List.of(newBackup, futureBackup), backups.getBackupFilePaths());
+    }
+
+    @Test
+    public void deleteOldBackups_moreThanCapacity_newestKept() throws Exception {
+        DataFileBackups backups = new DataFileBackups(filePath, 2);
+        for (int i = 0; i < 4; i++) {
+            Files.createFile(backups.getNewBackupFilePath());
+        }
+        List<Path> newestBackups = backups.getBackupFilePaths().subList(0, 2);
+        backups.deleteOldBackups();
+        assertEquals(newestBackups, backups.getBackupFilePaths());
+    }
+
+    @Test
+    public void read_dataFileLoads_dataFileRead() throws Exception {
+        DataFileBackups backups = new DataFileBackups(filePath);
+        Files.createFile(backups.getNewBackupFilePath());
+        Klinix klinix = getTypicalKlinix();
+        assertEquals(Optional.of(klinix), backups.read(path -> path.equals(filePath)
+                ? Optional.of(klinix) : Optional.empty()));
+        assertEquals(Optional.empty(), backups.read(path -> Optional.empty()));
+    }
+
+    @Test
+    public void read_dataFileFails_newestLoadableBackupRead() throws Exception {
+        DataFileBackups backups = new DataFileBackups(filePath);
+        Path oldBackup = backups.getNewBackupFilePath();
+        Files.createFile(oldBackup);
+        Path newBackup = backups.getNewBackupFilePath();
+        Files.createFile(newBackup);
+        Klinix klinix = getTypicalKlinix();
+
+        Optional<ReadOnlyKlinix> readBack = backups.read(path -> {
+            if (!path.equals(oldBackup)) {
+                throw DUMMY_DATA_LOADING_EXCEPTION;
+            }
+            return Optional.of(klinix);
+        });
+        assertEquals(Optional.of(klinix), readBack);
+    }
+
+    @Test
+    public void read_dataFileAndBackupsFail_dataFileFailureThrown() throws Exception {
+        DataFileBackups backups = new DataFileBackups(filePath);
+        Files.createFile(backups.getNewBackupFilePath());
+        DataLoadingException backupFailure = new DataLoadingException(new Exception("backup failure"));
+
+        assertThrows(DataLoadingException.class, DUMMY_DATA_LOADING_EXCEPTION.getMessage(), () ->
+                backups.read(path -> {
+                    throw path.equals(filePath) ? DUMMY_DATA_LOADING_EXCEPTION : backupFailure;
+                }));
+    }
+
+    @Test
+    public void read_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new DataFileBackups(filePath).read(null));
+    }
+}
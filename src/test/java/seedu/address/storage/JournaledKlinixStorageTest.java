@@ -0,0 +1,224 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NRIC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalKlinix;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.Klinix;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledKlinixStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private JsonKlinixStorage snapshotStorage;
+    private JournaledKlinixStorage journaledStorage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("klinix.json");
+        snapshotStorage = new JsonKlinixStorage(filePath);
+        journaledStorage = new JournaledKlinixStorage(snapshotStorage);
+    }
+
+    @Test
+    public void constructor_nonPositiveThreshold_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new JournaledKlinixStorage(snapshotStorage, 0));
+    }
+
+    @Test
+    public void getJournalFilePath_returnsFileNextToDataFile() {
+        assertEquals(testFolder.resolve("klinix.json.journal"), journaledStorage.getJournalFilePath());
+    }
+
+    @Test
+    public void readKlinix_missingFiles_emptyResult() throws Exception {
+        assertFalse(journaledStorage.readKlinix().isPresent());
+    }
+
+    @Test
+    public void saveKlinix_unchangedKlinix_journalNotWritten() throws Exception {
+        Klinix original = getTypicalKlinix();
+        journaledStorage.saveKlinix(original);
+        journaledStorage.saveKlinix(original);
+        assertFalse(Files.exists(journaledStorage.getJournalFilePath()));
+        assertEquals(original, new Klinix(journaledStorage.readKlinix().get()));
+    }
+
+    @Test
+    public void saveKlinix_changedPersons_appendedToJournalAndReplayed() throws Exception {
+        Klinix original = getTypicalKlinix();
+        journaledStorage.saveKlinix(original);
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withPhone(VALID_PHONE_BOB).build());
+        journaledStorage.saveKlinix(original);
+
+        // the header of the journal is followed by the changes of the save, appended as one line
+        assertEquals(2, Files.readAllLines(journaledStorage.getJournalFilePath()).size());
+        // the data file itself is not rewritten
+        assertEquals(getTypicalKlinix(), new Klinix(snapshotStorage.readKlinix().get()));
+        assertEquals(original, new Klinix(journaledStorage.readKlinix().get()));
+    }
+
+    @Test
+    public void saveKlinix_journalReachesThreshold_compacted() throws Exception {
+        journaledStorage = new JournaledKlinixStorage(snapshotStorage, 2);
+        Klinix original = getTypicalKlinix();
+        journaledStorage.saveKlinix(original);
+
+        original.addPerson(HOON);
+        journaledStorage.saveKlinix(original);
+        assertTrue(Files.exists(journaledStorage.getJournalFilePath()));
+
+        original.addPerson(IDA);
+        original.removePerson(ALICE);
+        journaledStorage.saveKlinix(original);
+        assertFalse(Files.exists(journaledStorage.getJournalFilePath()));
+        assertEquals(original, new Klinix(snapshotStorage.readKlinix().get()));
+    }
+
+    @Test
+    public void saveKlinix_personsReplaced_compacted() throws Exception {
+        Klinix original = getTypicalKlinix();
+        journaledStorage.saveKlinix(original);
+        original.addPerson(HOON);
+        journaledStorage.saveKlinix(original);
+
+        original.resetData(new Klinix());
+        journaledStorage.saveKlinix(original);
+        assertFalse(Files.exists(journaledStorage.getJournalFilePath()));
+        assertEquals(new Klinix(), new Klinix(journaledStorage.readKlinix().get()));
+    }
+
+    @Test
+    public void readKlinix_incompleteLastEntry_ignored() throws Exception {
+        Klinix original = getTypicalKlinix();
+        journaledStorage.saveKlinix(original);
+        original.addPerson(HOON);
+        journaledStorage.saveKlinix(original);
+
+        Files.writeString(journaledStorage.getJournalFilePath(), "[{\"action\":\"put\",\"person\":{\"na",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        assertEquals(original, new Klinix(journaledStorage.readKlinix().get()));
+    }
+
+    @Test
+    public void readKlinix_incompleteLastSave_wholeSaveIgnored() throws Exception {
+        Klinix original = getTypicalKlinix();
+        journaledStorage.saveKlinix(original);
+        original.setPerson(ALICE, new PersonBuilder(ALICE).withNric(VALID_NRIC_BOB).build());
+        journaledStorage.saveKlinix(original);
+
+        // cut off the end of the save, which removes the old NRIC before it puts the new one
+        Path journalFilePath = journaledStorage.getJournalFilePath();
+        byte[] journal = Files.readAllBytes(journalFilePath);
+        Files.write(journalFilePath, Arrays.copyOf(journal, journal.length - 10));
+        assertEquals(getTypicalKlinix(), new Klinix(journaledStorage.readKlinix().get()));
+    }
+
+    @Test
+    public void saveKlinix_appendFails_nextSaveCompacted() throws Exception {
+        Klinix original = getTypicalKlinix();
+        journaledStorage.saveKlinix(original);
+
+        // a directory in place of the journal makes appending to it fail
+        Files.createDirectory(journaledStorage.getJournalFilePath());
+        original.addPerson(HOON);
+        assertThrows(IOException.class, () -> journaledStorage.saveKlinix(original));
+        Files.delete(journaledStorage.getJournalFilePath());
+
+        original.addPerson(IDA);
+        journaledStorage.saveKlinix(original);
+        assertFalse(Files.exists(journaledStorage.getJournalFilePath()));
+        assertEquals(original, new Klinix(snapshotStorage.readKlinix().get()));
+    }
+
+    @Test
+    public void readKlinix_invalidEntry_throwsDataLoadingException() throws Exception {
+        Klinix original = getTypicalKlinix();
+        journaledStorage.saveKlinix(original);
+        original.addPerson(HOON);
+        journaledStorage.saveKlinix(original);
+
+        Files.writeString(journaledStorage.getJournalFilePath(), "[{\"action\":\"remove\",\"nric\":\"invalid\"}]\n",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        assertThrows(DataLoadingException.class, () -> journaledStorage.readKlinix());
+    }
+
+    @Test
+    public void readKlinix_invalidHeader_throwsDataLoadingException() throws Exception {
+        journaledStorage.saveKlinix(getTypicalKlinix());
+        Files.writeString(journaledStorage.getJournalFilePath(), "invalid\n[]\n", StandardCharsets.UTF_8);
+        assertThrows(DataLoadingException.class, () -> journaledStorage.readKlinix());
+    }
+
+    @Test
+    public void readKlinix_incompleteHeader_journalIgnored() throws Exception {
+        journaledStorage.saveKlinix(getTypicalKlinix());
+        Files.writeString(journaledStorage.getJournalFilePath(), "{\"snapshotDig", StandardCharsets.UTF_8);
+        assertEquals(getTypicalKlinix(), new Klinix(journaledStorage.readKlinix().get()));
+    }
+
+    @Test
+    public void readKlinix_corruptDataFile_journalNotReplayedOnBackup() throws Exception {
+        Klinix older = getTypicalKlinix();
+        journaledStorage.saveKlinix(older);
+        // saving another klinix compacts, which backs up the older data file
+        Klinix newer = getTypicalKlinix();
+        newer.removePerson(ALICE);
+        journaledStorage.saveKlinix(newer);
+        newer.addPerson(HOON);
+        journaledStorage.saveKlinix(newer);
+        assertTrue(Files.exists(journaledStorage.getJournalFilePath()));
+
+        Files.writeString(filePath, "corrupt", StandardCharsets.UTF_8);
+        // the journal was written against the newer data file, so it is not applied to the older backup
+        assertEquals(older, new Klinix(journaledStorage.readKlinix().get()));
+    }
+
+    @Test
+    public void readKlinix_dataFileReplaced_journalNotReplayed() throws Exception {
+        Klinix original = getTypicalKlinix();
+        journaledStorage.saveKlinix(original);
+        original.addPerson(HOON);
+        journaledStorage.saveKlinix(original);
+
+        Klinix replacement = new Klinix();
+        replacement.addPerson(IDA);
+        snapshotStorage.saveKlinix(replacement);
+        assertEquals(replacement, new Klinix(journaledStorage.readKlinix().get()));
+    }
+
+    @Test
+    public void saveKlinix_otherFilePath_writesWholeKlinix() throws Exception {
+        Path otherFilePath = testFolder.resolve("other.json");
+        Klinix original = getTypicalKlinix();
+        journaledStorage.saveKlinix(original, otherFilePath);
+        assertFalse(Files.exists(otherFilePath.resolveSibling("other.json.journal")));
+        assertEquals(original, new Klinix(journaledStorage.readKlinix(otherFilePath).get()));
+    }
+}
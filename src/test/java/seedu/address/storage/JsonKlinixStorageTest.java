@@ -9,18 +9,23 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalKlinix;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.Klinix;
 import seedu.address.model.ReadOnlyKlinix;
 
 public class JsonKlinixStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonKlinixStorageTest");
+    private static final Path JSON_SERIALIZABLE_KLINIX_DATA_FOLDER =
+            Paths.get("src", "test", "data", "JsonSerializableKlinixTest");
 
     @TempDir
     public Path testFolder;
@@ -60,6 +65,28 @@ public class JsonKlinixStorageTest {
         assertThrows(DataLoadingException.class, () -> readKlinix("invalidAndValidPersonKlinix.json"));
     }
 
+    @Test
+    public void readKlinix_typicalPersonsFile_success() throws Exception {
+        Path typicalPersonsFile = JSON_SERIALIZABLE_KLINIX_DATA_FOLDER.resolve("typicalPersonsKlinix.json");
+        ReadOnlyKlinix readBack = new JsonKlinixStorage(typicalPersonsFile).readKlinix().get();
+        assertEquals(getTypicalKlinix(), new Klinix(readBack));
+    }
+
+    @Test
+    public void readKlinix_duplicatePersons_throwDataLoadingException() {
+        Path duplicatePersonFile = JSON_SERIALIZABLE_KLINIX_DATA_FOLDER.resolve("duplicatePersonKlinix.json");
+        assertThrows(DataLoadingException.class, () -> new JsonKlinixStorage(duplicatePersonFile).readKlinix());
+    }
+
+    @Test
+    public void saveKlinix_readAsJsonSerializableKlinix_success() throws Exception {
+        Path filePath = testFolder.resolve("TempKlinix.json");
+        Klinix original = getTypicalKlinix();
+        new JsonKlinixStorage(filePath).saveKlinix(original);
+        JsonSerializableKlinix readBack = JsonUtil.readJsonFile(filePath, JsonSerializableKlinix.class).get();
+        assertEquals(original, readBack.toModelType());
+    }
+
     @Test
     public void readAndSaveKlinix_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempKlinix.json");
@@ -86,6 +113,40 @@ public class JsonKlinixStorageTest {
 
     }
 
+    @Test
+    public void readKlinix_corruptedFile_readsNewestValidBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempKlinix.json");
+        JsonKlinixStorage jsonKlinixStorage = new JsonKlinixStorage(filePath);
+        Klinix original = getTypicalKlinix();
+        jsonKlinixStorage.saveKlinix(original);
+        original.addPerson(HOON);
+        jsonKlinixStorage.saveKlinix(original);
+        Files.writeString(filePath, "{\"persons\": [");
+
+        assertEquals(getTypicalKlinix(), new Klinix(jsonKlinixStorage.readKlinix().get()));
+    }
+
+    @Test
+    public void readKlinix_corruptedFileWithoutBackups_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempKlinix.json");
+        Files.writeString(filePath, "{\"persons\": [");
+        assertThrows(DataLoadingException.class, () -> new JsonKlinixStorage(filePath).readKlinix());
+    }
+
+    @Test
+    public void saveKlinix_manySaves_oldVersionsKeptAsBoundedBackups() throws Exception {
+        Path filePath = testFolder.resolve("TempKlinix.json");
+        JsonKlinixStorage jsonKlinixStorage = new JsonKlinixStorage(filePath);
+        Klinix original = getTypicalKlinix();
+        for (int i = 0; i < DataFileBackups.DEFAULT_CAPACITY + 2; i++) {
+            jsonKlinixStorage.saveKlinix(original);
+        }
+        assertEquals(DataFileBackups.DEFAULT_CAPACITY, new DataFileBackups(filePath).getBackupFilePaths().size());
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(DataFileBackups.DEFAULT_CAPACITY + 1, files.count());
+        }
+    }
+
     @Test
     public void saveKlinix_nullKlinix_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveKlinix(null, "SomeFile.json"));
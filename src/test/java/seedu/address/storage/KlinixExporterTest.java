@@ -0,0 +1,121 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.RecordFileReader.Format;
+import seedu.address.model.Klinix;
+import seedu.address.model.ReadOnlyKlinix;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentList;
+import seedu.address.model.medicineusage.Dosage;
+import seedu.address.model.medicineusage.MedicineName;
+import seedu.address.model.medicineusage.MedicineUsage;
+import seedu.address.model.person.MedicalReport;
+import seedu.address.storage.KlinixExporter.Dataset;
+import seedu.address.testutil.PersonBuilder;
+
+public class KlinixExporterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Klinix klinix;
+
+    @BeforeEach
+    public void setUp() {
+        MedicalReport medicalReport = new MedicalReport("Peanuts", "Asthma", "", "Flu");
+        medicalReport.add(new MedicineUsage(new MedicineName("Paracetamol"), new Dosage("2 pills"),
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 10)));
+        medicalReport.add(new MedicineUsage(new MedicineName("Ibuprofen"), new Dosage("1 pill"),
+                LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 5)));
+        AppointmentList appointmentList = new AppointmentList();
+        appointmentList.add(new Appointment("Checkup", LocalDateTime.of(2025, 1, 5, 10, 0),
+                LocalDateTime.of(2025, 1, 5, 11, 30), ALICE.getNric().value, true));
+        appointmentList.add(new Appointment("Follow up", LocalDateTime.of(2025, 3, 20, 10, 0),
+                LocalDateTime.of(2025, 3, 20, 10, 30), ALICE.getNric().value, false));
+
+        klinix = new Klinix();
+        klinix.setPersonsWithAppointments(List.of(new PersonBuilder(ALICE).withTags("friends", "colleague")
+                .withMedicalReport(medicalReport).withAppointmentList(appointmentList).build(), BENSON));
+    }
+
+    @Test
+    public void export_patientsCsv_oneRowPerPatient() throws Exception {
+        StringWriter out = new StringWriter();
+        assertEquals(2, new KlinixExporter(klinix).export(Dataset.PATIENTS, out, Format.CSV));
+        assertTrue(out.toString().startsWith(String.join(",", KlinixExporter.PATIENT_COLUMNS) + "\n"
+                + "Alice Pauline,94351253,alice@example.com,T1234567A,01-01-1999,\"123, Jurong West Ave 6, #08-111\","
+                + "colleague;friends,Peanuts,Asthma,None,Flu\n"));
+    }
+
+    @Test
+    public void export_appointmentsInDateRange_flattened() throws Exception {
+        StringWriter out = new StringWriter();
+        KlinixExporter exporter = new KlinixExporter(klinix)
+                .filterDates(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31));
+        assertEquals(1, exporter.export(Dataset.APPOINTMENTS, out, Format.NDJSON));
+        assertEquals("{\"nric\":\"T1234567A\",\"description\":\"Follow up\",\"start\":\"2025-03-20T10:00\","
+                + "\"end\":\"2025-03-20T10:30\",\"visited\":\"false\"}\n", out.toString());
+    }
+
+    @Test
+    public void export_medicineUsagesOverlappingDateRange_exported() throws Exception {
+        StringWriter out = new StringWriter();
+        KlinixExporter exporter = new KlinixExporter(klinix)
+                .filterDates(LocalDate.of(2025, 1, 10), LocalDate.of(2025, 2, 1));
+        assertEquals(1, exporter.export(Dataset.MEDICINE_USAGES, out, Format.CSV));
+        assertEquals("nric,medicine,dosage,start,end\nT1234567A,Paracetamol,2 pills,2025-01-01,2025-01-10\n",
+                out.toString());
+    }
+
+    @Test
+    public void exportAll_personFilter_onlyMatchingPatients() throws Exception {
+        KlinixExporter exporter = new KlinixExporter(klinix)
+                .filterPersons(person -> person.getNric().equals(BENSON.getNric()));
+        assertEquals(Map.of(Dataset.PATIENTS, 1, Dataset.APPOINTMENTS, 0, Dataset.MEDICINE_USAGES, 0),
+                exporter.exportAll(testFolder, Format.CSV));
+
+        List<String> patientLines = Files.readAllLines(Dataset.PATIENTS.getFilePath(testFolder, Format.CSV));
+        assertEquals(2, patientLines.size());
+        assertEquals(1, Files.readAllLines(Dataset.APPOINTMENTS.getFilePath(testFolder, Format.CSV)).size());
+        assertEquals(1, Files.readAllLines(Dataset.MEDICINE_USAGES.getFilePath(testFolder, Format.CSV)).size());
+    }
+
+    @Test
+    public void exportAll_lazilyLoadedKlinix_medicalReportsStayUnloaded() throws Exception {
+        Path filePath = testFolder.resolve("klinix.bin");
+        new BinaryKlinixStorage(filePath).saveKlinix(klinix);
+        ReadOnlyKlinix lazyKlinix = new BinaryKlinixStorage(filePath, true).readKlinix().get();
+
+        Path exportFolder = testFolder.resolve("export");
+        assertEquals(Map.of(Dataset.PATIENTS, 2, Dataset.APPOINTMENTS, 2, Dataset.MEDICINE_USAGES, 2),
+                new KlinixExporter(lazyKlinix).exportAll(exportFolder, Format.CSV));
+        assertTrue(lazyKlinix.getPersonList().stream()
+                .allMatch(person -> person.getUnloadedMedicalReport().isPresent()));
+
+        List<String> patientLines = Files.readAllLines(Dataset.PATIENTS.getFilePath(exportFolder, Format.CSV));
+        assertTrue(patientLines.get(1).endsWith("colleague;friends,Peanuts,Asthma,None,Flu"));
+    }
+
+    @Test
+    public void filterDates_startAfterEnd_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new KlinixExporter(klinix)
+                .filterDates(LocalDate.of(2025, 2, 1), LocalDate.of(2025, 1, 1)));
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalKlinix;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+
+public class ParallelPersonLoaderTest {
+
+    private static final JsonAdaptedPerson INVALID_NAME_PERSON = new JsonAdaptedPerson("R@chel",
+            ALICE.getPhone().value, ALICE.getEmail().value, ALICE.getNric().value, ALICE.getBirthDate().toString(),
+            ALICE.getAddress().value, List.of(), null, null);
+    private static final JsonAdaptedPerson INVALID_PHONE_PERSON = new JsonAdaptedPerson(BENSON.getName().fullName,
+            "+651234", BENSON.getEmail().value, BENSON.getNric().value, BENSON.getBirthDate().toString(),
+            BENSON.getAddress().value, List.of(), null, null);
+
+    private final ParallelPersonLoader<JsonAdaptedPerson> loader =
+            new ParallelPersonLoader<>(JsonAdaptedPerson::toModelType);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ParallelPersonLoader<JsonAdaptedPerson>(null));
+    }
+
+    @Test
+    public void addBatch_typicalPersonsInBatches_sameAsTypicalKlinix() throws Exception {
+        List<JsonAdaptedPerson> records = getTypicalPersons().stream()
+                .map(JsonAdaptedPerson::new).collect(Collectors.toList());
+        loader.addBatch(records.subList(0, 3));
+        loader.addBatch(records.subList(3, records.size()));
+        assertEquals(getTypicalKlinix(), loader.toKlinix());
+    }
+
+    @Test
+    public void addBatch_severalInvalidRecords_firstInvalidRecordReported() {
+        List<JsonAdaptedPerson> records = List.of(new JsonAdaptedPerson(ALICE), INVALID_PHONE_PERSON,
+                INVALID_NAME_PERSON);
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, () -> loader.addBatch(records));
+    }
+
+    @Test
+    public void addBatch_invalidRecordAfterDuplicate_duplicateReported() {
+        List<JsonAdaptedPerson> records = List.of(new JsonAdaptedPerson(ALICE), new JsonAdaptedPerson(ALICE),
+                INVALID_NAME_PERSON);
+        assertThrows(IllegalValueException.class, JsonSerializableKlinix.MESSAGE_DUPLICATE_PERSON, () ->
+                loader.addBatch(records));
+    }
+
+    @Test
+    public void addBatch_duplicateInLaterBatch_throwsIllegalValueException() throws Exception {
+        loader.addBatch(List.of(new JsonAdaptedPerson(ALICE), new JsonAdaptedPerson(BENSON)));
+        assertThrows(IllegalValueException.class, JsonSerializableKlinix.MESSAGE_DUPLICATE_PERSON, () ->
+                loader.addBatch(List.of(new JsonAdaptedPerson(BENSON))));
+    }
+
+    @Test
+    public void addBatch_invalidRecordInLaterBatch_throwsIllegalValueException() throws Exception {
+        loader.addBatch(List.of(new JsonAdaptedPerson(BENSON)));
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () ->
+                loader.addBatch(List.of(INVALID_NAME_PERSON)));
+    }
+}
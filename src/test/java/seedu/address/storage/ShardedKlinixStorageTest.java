@@ -0,0 +1,212 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalKlinix;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.Klinix;
+import seedu.address.model.person.Nric;
+import seedu.address.testutil.PersonBuilder;
+
+public class ShardedKlinixStorageTest {
+
+    private static final FileTime UNWRITTEN_TIME = FileTime.fromMillis(0);
+
+    @TempDir
+    public Path testFolder;
+
+    private Path directoryPath;
+    private Path manifestPath;
+
+    @BeforeEach
+    public void setUp() {
+        directoryPath = testFolder.resolve("klinix-shards");
+        manifestPath = directoryPath.resolve(ShardedKlinixStorage.MANIFEST_FILE_NAME);
+    }
+
+    @Test
+    public void toShardDirectoryPath_jsonFilePath_replacesExtension() {
+        assertEquals(Paths.get("data", "klinix-shards"),
+                ShardedKlinixStorage.toShardDirectoryPath(Paths.get("data", "klinix.json")));
+    }
+
+    @Test
+    public void readKlinix_nullDirectoryPath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ShardedKlinixStorage(directoryPath).readKlinix(null));
+    }
+
+    @Test
+    public void readKlinix_missingManifest_emptyResult() throws Exception {
+        assertFalse(new ShardedKlinixStorage(directoryPath).readKlinix().isPresent());
+    }
+
+    @Test
+    public void readAndSaveKlinix_allInOrder_success() throws Exception {
+        Klinix original = getTypicalKlinix();
+        ShardedKlinixStorage shardedStorage = new ShardedKlinixStorage(directoryPath);
+        shardedStorage.saveKlinix(original);
+        assertEquals(original, new Klinix(new ShardedKlinixStorage(directoryPath).readKlinix().get()));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withPhone(VALID_PHONE_BOB).build());
+        shardedStorage.saveKlinix(original);
+        assertEquals(original, new Klinix(new ShardedKlinixStorage(directoryPath).readKlinix().get()));
+        assertFalse(Files.exists(ShardedKlinixStorage.getPersonFilePath(directoryPath, ALICE.getNric(), 0)));
+        assertFalse(Files.exists(ShardedKlinixStorage.getPersonFilePath(directoryPath, BENSON.getNric(), 0)));
+    }
+
+    @Test
+    public void saveKlinix_personEdited_newVersionOfTheirFileCommitted() throws Exception {
+        Klinix original = getTypicalKlinix();
+        ShardedKlinixStorage shardedStorage = new ShardedKlinixStorage(directoryPath);
+        shardedStorage.saveKlinix(original);
+        markAllFilesUnwritten();
+
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withPhone(VALID_PHONE_BOB).build());
+        shardedStorage.saveKlinix(original);
+        assertNotEquals(UNWRITTEN_TIME, getLastModifiedTime(BENSON.getNric(), 1));
+        assertFalse(Files.exists(ShardedKlinixStorage.getPersonFilePath(directoryPath, BENSON.getNric(), 0)));
+        assertEquals(UNWRITTEN_TIME, getLastModifiedTime(ALICE.getNric(), 0));
+        assertNotEquals(UNWRITTEN_TIME, Files.getLastModifiedTime(manifestPath));
+    }
+
+    @Test
+    public void saveKlinix_saveFailsPartWay_lastCompleteSaveRead() throws Exception {
+        Klinix original = getTypicalKlinix();
+        ShardedKlinixStorage shardedStorage = new ShardedKlinixStorage(directoryPath);
+        shardedStorage.saveKlinix(original);
+
+        // a directory in place of the new version of BENSON's file makes writing it fail
+        Path bensonFilePath = ShardedKlinixStorage.getPersonFilePath(directoryPath, BENSON.getNric(), 1);
+        Files.createDirectories(bensonFilePath.resolve("blocker"));
+        original.setPerson(ALICE, new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build());
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withPhone(VALID_PHONE_BOB).build());
+        assertThrows(IOException.class, () -> shardedStorage.saveKlinix(original));
+        assertEquals(getTypicalKlinix(), new Klinix(new ShardedKlinixStorage(directoryPath).readKlinix().get()));
+
+        Files.delete(bensonFilePath.resolve("blocker"));
+        Files.delete(bensonFilePath);
+        shardedStorage.saveKlinix(original);
+        assertEquals(original, new Klinix(new ShardedKlinixStorage(directoryPath).readKlinix().get()));
+    }
+
+    @Test
+    public void saveKlinix_filesLeftByStoppedSave_deletedBySaveOfAllPersons() throws Exception {
+        new ShardedKlinixStorage(directoryPath).saveKlinix(getTypicalKlinix());
+        // a save that stopped before replacing the manifest leaves behind the new version of a person's file
+        Path leftFilePath = ShardedKlinixStorage.getPersonFilePath(directoryPath, ALICE.getNric(), 1);
+        Files.copy(ShardedKlinixStorage.getPersonFilePath(directoryPath, ALICE.getNric(), 0), leftFilePath);
+
+        ShardedKlinixStorage shardedStorage = new ShardedKlinixStorage(directoryPath);
+        Klinix readBack = new Klinix(shardedStorage.readKlinix().get());
+        assertEquals(getTypicalKlinix(), readBack);
+        shardedStorage.saveKlinix(readBack);
+        assertFalse(Files.exists(leftFilePath));
+        assertEquals(readBack, new Klinix(new ShardedKlinixStorage(directoryPath).readKlinix().get()));
+    }
+
+    @Test
+    public void saveKlinix_personAdded_theirFileAndManifestWritten() throws Exception {
+        Klinix original = getTypicalKlinix();
+        ShardedKlinixStorage shardedStorage = new ShardedKlinixStorage(directoryPath);
+        shardedStorage.saveKlinix(original);
+        markAllFilesUnwritten();
+
+        original.addPerson(HOON);
+        shardedStorage.saveKlinix(original);
+        assertNotEquals(UNWRITTEN_TIME, getLastModifiedTime(HOON.getNric(), 0));
+        assertNotEquals(UNWRITTEN_TIME, Files.getLastModifiedTime(manifestPath));
+        assertEquals(UNWRITTEN_TIME, getLastModifiedTime(ALICE.getNric(), 0));
+    }
+
+    @Test
+    public void saveKlinix_unchangedDataAfterRead_noFilesWritten() throws Exception {
+        new ShardedKlinixStorage(directoryPath).saveKlinix(getTypicalKlinix());
+        markAllFilesUnwritten();
+
+        ShardedKlinixStorage shardedStorage = new ShardedKlinixStorage(directoryPath);
+        Klinix readBack = new Klinix(shardedStorage.readKlinix().get());
+        shardedStorage.saveKlinix(readBack);
+        assertEquals(UNWRITTEN_TIME, getLastModifiedTime(ALICE.getNric(), 0));
+        assertEquals(UNWRITTEN_TIME, getLastModifiedTime(CARL.getNric(), 0));
+        assertEquals(UNWRITTEN_TIME, Files.getLastModifiedTime(manifestPath));
+    }
+
+    @Test
+    public void saveKlinix_otherDirectory_allFilesWritten() throws Exception {
+        Path otherDirectoryPath = testFolder.resolve("other-shards");
+        Klinix original = getTypicalKlinix();
+        new ShardedKlinixStorage(directoryPath).saveKlinix(original, otherDirectoryPath);
+        assertEquals(original, new Klinix(new ShardedKlinixStorage(otherDirectoryPath).readKlinix().get()));
+        assertFalse(Files.exists(manifestPath));
+    }
+
+    @Test
+    public void readKlinix_personFileWithOtherNric_throwsDataLoadingException() throws Exception {
+        new ShardedKlinixStorage(directoryPath).saveKlinix(getTypicalKlinix());
+        Files.copy(ShardedKlinixStorage.getPersonFilePath(directoryPath, BENSON.getNric(), 0),
+                ShardedKlinixStorage.getPersonFilePath(directoryPath, ALICE.getNric(), 0),
+                StandardCopyOption.REPLACE_EXISTING);
+        assertThrows(DataLoadingException.class, () -> new ShardedKlinixStorage(directoryPath).readKlinix());
+    }
+
+    @Test
+    public void readKlinix_missingPersonFile_throwsDataLoadingException() throws Exception {
+        new ShardedKlinixStorage(directoryPath).saveKlinix(getTypicalKlinix());
+        Files.delete(ShardedKlinixStorage.getPersonFilePath(directoryPath, ALICE.getNric(), 0));
+        assertThrows(DataLoadingException.class, () -> new ShardedKlinixStorage(directoryPath).readKlinix());
+    }
+
+    @Test
+    public void readKlinix_duplicateNricsInManifest_throwsDataLoadingException() throws Exception {
+        new ShardedKlinixStorage(directoryPath).saveKlinix(getTypicalKlinix());
+        JsonUtil.saveJsonFile(new JsonShardManifest(List.of(ALICE.getNric().value, ALICE.getNric().value),
+                List.of(0L, 0L)), manifestPath);
+        assertThrows(DataLoadingException.class, () -> new ShardedKlinixStorage(directoryPath).readKlinix());
+    }
+
+    @Test
+    public void readKlinix_missingFileVersionsInManifest_throwsDataLoadingException() throws Exception {
+        new ShardedKlinixStorage(directoryPath).saveKlinix(getTypicalKlinix());
+        JsonUtil.saveJsonFile(new JsonShardManifest(List.of(ALICE.getNric().value), List.of()), manifestPath);
+        assertThrows(DataLoadingException.class, () -> new ShardedKlinixStorage(directoryPath).readKlinix());
+    }
+
+    private FileTime getLastModifiedTime(Nric nric, long version) throws Exception {
+        return Files.getLastModifiedTime(ShardedKlinixStorage.getPersonFilePath(directoryPath, nric, version));
+    }
+
+    private void markAllFilesUnwritten() throws Exception {
+        List<Path> files;
+        try (Stream<Path> paths = Files.walk(directoryPath)) {
+            files = paths.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+        for (Path file : files) {
+            Files.setLastModifiedTime(file, UNWRITTEN_TIME);
+        }
+    }
+}
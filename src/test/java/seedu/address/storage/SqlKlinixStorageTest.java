@@ -0,0 +1,186 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NRIC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalKlinix;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.Klinix;
+import seedu.address.model.ReadOnlyKlinix;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentList;
+import seedu.address.model.medicineusage.Dosage;
+import seedu.address.model.medicineusage.MedicineName;
+import seedu.address.model.medicineusage.MedicineUsage;
+import seedu.address.model.person.MedicalReport;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class SqlKlinixStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("klinix" + SqlKlinixStorage.DATABASE_FILE_EXTENSION);
+    }
+
+    @Test
+    public void toDatabaseFilePath_jsonFilePath_replacesExtension() {
+        assertEquals(Paths.get("data", "klinix.mv.db"),
+                SqlKlinixStorage.toDatabaseFilePath(Paths.get("data", "klinix.json")));
+    }
+
+    @Test
+    public void readKlinix_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SqlKlinixStorage(filePath).readKlinix(null));
+    }
+
+    @Test
+    public void readKlinix_missingFile_emptyResult() throws Exception {
+        assertFalse(new SqlKlinixStorage(filePath).readKlinix().isPresent());
+    }
+
+    @Test
+    public void readKlinix_invalidRow_throwsDataLoadingException() throws Exception {
+        new SqlKlinixStorage(filePath).saveKlinix(getTypicalKlinix());
+        executeUpdate("UPDATE persons SET phone = 'not a phone' WHERE nric = '" + ALICE.getNric().value + "'");
+        assertThrows(DataLoadingException.class, () -> new SqlKlinixStorage(filePath).readKlinix());
+    }
+
+    @Test
+    public void readAndSaveKlinix_allInOrder_success() throws Exception {
+        Klinix original = getTypicalKlinix();
+        SqlKlinixStorage sqlStorage = new SqlKlinixStorage(filePath);
+        sqlStorage.saveKlinix(original);
+        assertEquals(original, new Klinix(new SqlKlinixStorage(filePath).readKlinix().get()));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withPhone(VALID_PHONE_BOB).build());
+        sqlStorage.saveKlinix(original);
+        assertEquals(original, new Klinix(new SqlKlinixStorage(filePath).readKlinix().get()));
+    }
+
+    @Test
+    public void readAndSaveKlinix_medicalReportAndAppointments_success() throws Exception {
+        MedicalReport medicalReport = new MedicalReport("Peanuts", "Asthma", "", "Flu");
+        medicalReport.add(new MedicineUsage(new MedicineName("Paracetamol"), new Dosage("2 pills"),
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 10)));
+        AppointmentList appointmentList = new AppointmentList();
+        appointmentList.add(new Appointment("Checkup", LocalDateTime.of(2025, 3, 20, 10, 0),
+                LocalDateTime.of(2025, 3, 20, 11, 30), ALICE.getNric().value, true));
+        Klinix original = new Klinix();
+        original.addPerson(new PersonBuilder(ALICE).withMedicalReport(medicalReport)
+                .withAppointmentList(appointmentList).build());
+
+        SqlKlinixStorage sqlStorage = new SqlKlinixStorage(filePath);
+        sqlStorage.saveKlinix(original);
+        assertEquals(original, new Klinix(sqlStorage.readKlinix().get()));
+    }
+
+    @Test
+    public void saveKlinix_sameKlinix_writesOnlyChangedPersons() throws Exception {
+        Klinix original = getTypicalKlinix();
+        SqlKlinixStorage sqlStorage = new SqlKlinixStorage(filePath);
+        sqlStorage.saveKlinix(original);
+
+        // a change made behind the storage's back is kept if the person is not saved again
+        executeUpdate("UPDATE persons SET phone = '" + VALID_PHONE_AMY + "' WHERE nric = '" + CARL.getNric().value
+                + "'");
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withPhone(VALID_PHONE_BOB).build());
+        sqlStorage.saveKlinix(original);
+
+        Klinix readBack = new Klinix(sqlStorage.readKlinix().get());
+        assertEquals(VALID_PHONE_AMY, readBack.findPersonByNric(CARL.getNric()).getPhone().value);
+        assertEquals(VALID_PHONE_BOB, readBack.findPersonByNric(BENSON.getNric()).getPhone().value);
+    }
+
+    @Test
+    public void saveKlinix_nricEdited_keepsOrder() throws Exception {
+        Klinix original = getTypicalKlinix();
+        SqlKlinixStorage sqlStorage = new SqlKlinixStorage(filePath);
+        sqlStorage.saveKlinix(original);
+
+        Person editedBenson = new PersonBuilder(BENSON).withNric(VALID_NRIC_BOB).build();
+        original.setPerson(BENSON, editedBenson);
+        sqlStorage.saveKlinix(original);
+        assertEquals(original.getPersonList(), sqlStorage.readKlinix().get().getPersonList());
+    }
+
+    @Test
+    public void importFrom_jsonStorage_success() throws Exception {
+        Klinix original = getTypicalKlinix();
+        JsonKlinixStorage jsonStorage = new JsonKlinixStorage(testFolder.resolve("klinix.json"));
+        SqlKlinixStorage sqlStorage = new SqlKlinixStorage(filePath);
+        assertFalse(sqlStorage.importFrom(jsonStorage));
+
+        jsonStorage.saveKlinix(original);
+        assertTrue(sqlStorage.importFrom(jsonStorage));
+        assertEquals(original, new Klinix(sqlStorage.readKlinix().get()));
+    }
+
+    @Test
+    public void importFrom_saveFails_noDatabaseFile() throws Exception {
+        // the medical report of the last person fails to load after the other persons are written
+        Person unreadablePerson = new Person(HOON.getName(), HOON.getPhone(), HOON.getEmail(), HOON.getNric(),
+                HOON.getBirthDate(), HOON.getAddress(), HOON.getTags(), () -> {
+                    throw new IllegalStateException("dummy load failure");
+                }, new AppointmentList());
+        Klinix klinix = getTypicalKlinix();
+        klinix.addPerson(unreadablePerson);
+        JsonKlinixStorage source = new JsonKlinixStorage(testFolder.resolve("klinix.json")) {
+            @Override
+            public Optional<ReadOnlyKlinix> readKlinix() {
+                return Optional.of(klinix);
+            }
+        };
+        SqlKlinixStorage sqlStorage = new SqlKlinixStorage(filePath);
+
+        assertThrows(IllegalStateException.class, "dummy load failure", () -> sqlStorage.importFrom(source));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(List.of(), files.filter(file -> file.toString().endsWith(
+                    SqlKlinixStorage.DATABASE_FILE_EXTENSION)).collect(Collectors.toList()));
+        }
+        assertFalse(sqlStorage.readKlinix().isPresent());
+    }
+
+    private void executeUpdate(String sql) throws Exception {
+        String path = filePath.toAbsolutePath().toString();
+        String jdbcUrl = "jdbc:h2:file:" + path.substring(0, path.length()
+                - SqlKlinixStorage.DATABASE_FILE_EXTENSION.length());
+        try (Connection connection = DriverManager.getConnection(jdbcUrl);
+                PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalKlinix;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Klinix;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonDetailsCacheTest {
+
+    private final Klinix klinix = getTypicalKlinix();
+    private final List<Person> formattedPersons = new ArrayList<>();
+    private final PersonDetailsCache cache = new PersonDetailsCache(klinix, person -> {
+        formattedPersons.add(person);
+        return person.getName().fullName;
+    });
+
+    @Test
+    public void get_samePersonTwice_formattedOnce() {
+        assertEquals(ALICE.getName().fullName, cache.get(ALICE));
+        assertEquals(ALICE.getName().fullName, cache.get(ALICE));
+        assertEquals(List.of(ALICE), formattedPersons);
+    }
+
+    @Test
+    public void get_personChanged_onlyChangedPersonFormattedAgain() {
+        cache.get(ALICE);
+        cache.get(BENSON);
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Edited").build();
+        klinix.setPerson(ALICE, editedAlice);
+        assertEquals("Alice Edited", cache.get(editedAlice));
+        cache.get(BENSON);
+        assertEquals(List.of(ALICE, BENSON, editedAlice), formattedPersons);
+    }
+
+    @Test
+    public void get_klinixReplaced_allPersonsFormattedAgain() {
+        cache.get(ALICE);
+        klinix.resetData(getTypicalKlinix());
+
+        cache.get(ALICE);
+        assertEquals(List.of(ALICE, ALICE), formattedPersons);
+    }
+
+    @Test
+    public void get_otherPersonWithSameNric_formatted() {
+        cache.get(ALICE);
+        Person otherAlice = new PersonBuilder(ALICE).build();
+
+        cache.get(otherAlice);
+        assertEquals(List.of(ALICE, otherAlice), formattedPersons);
+    }
+}